@@ -1,5 +1,5 @@
 /**
- * Copyright (c) 2003, 2007 IBM Corporation and others.
+ * Copyright (c) 2003, 2026 IBM Corporation and others.
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
  * which is available at https://www.eclipse.org/legal/epl-2.0/
@@ -19,7 +19,7 @@ import org.eclipse.core.runtime.IStatus;
 import org.eclipse.emf.ecore.EClass;
 import org.eclipse.emf.ecore.EObject;
 import org.eclipse.emf.validation.IValidationContext;
-import org.eclipse.emf.validation.model.IModelConstraint;
+import org.eclipse.emf.validation.model.IPreparableConstraint;
 import org.eclipse.emf.validation.service.IConstraintDescriptor;
 import org.eclipse.ocl.EnvironmentFactory;
 import org.eclipse.ocl.OCL;
@@ -37,6 +37,14 @@ import org.eclipse.ocl.helper.OCLHelper;
  * is created and cached for each of these target types as required.
  * </p>
  * <p>
+ * An OCL query is not thread-safe, because it evaluates the constraint in an
+ * evaluation environment that it retains. So, when the constraint is evaluated
+ * concurrently, as in a batch validation with
+ * {@linkplain org.eclipse.emf.validation.service.IBatchValidator#OPTION_PARALLELISM
+ * parallelism}, the evaluations of the query for any given target type are
+ * serialized.
+ * </p>
+ * <p>
  * Any problems in parsing or executing the OCL will result in the constraint
  * being disabled at run-time.
  * </p>
@@ -60,17 +68,18 @@ import org.eclipse.ocl.helper.OCLHelper;
  *
  * @author Christian W. Damus (cdamus)
  */
-public abstract class AbstractOCLModelConstraint<C, CT, CLS, E> implements IModelConstraint {
+public abstract class AbstractOCLModelConstraint<C, CT, CLS, E> implements IPreparableConstraint {
 	private final IConstraintDescriptor descriptor;
 
 	/**
 	 * A separate query is maintained for each EClass of model object that this
 	 * constraint handles. Maintain the values in weak references also, because the
-	 * queries reference the EClasses that are the keys!
+	 * queries reference the EClasses that are the keys! Access is synchronized
+	 * on the map, because constraints may be prepared and evaluated concurrently.
 	 */
 	private final java.util.Map<EClass, Reference<?>> queries = new java.util.WeakHashMap<>();
 
-	private QueryManager queryManager;
+	private final QueryManager queryManager = new QueryManager();
 
 	/**
 	 * Initializes me with the <code>descriptor</code> which contains my OCL body.
@@ -109,10 +118,14 @@ public abstract class AbstractOCLModelConstraint<C, CT, CLS, E> implements IMode
 		Query<C, CLS, E> result = null;
 		EClass eClass = target.eClass();
 
-		@SuppressWarnings("unchecked")
-		Reference<Query<C, CLS, E>> reference = (Reference<Query<C, CLS, E>>) queries.get(eClass);
+		Reference<?> reference;
+		synchronized (queries) {
+			reference = queries.get(eClass);
+		}
 		if (reference != null) {
-			result = reference.get();
+			@SuppressWarnings("unchecked")
+			Query<C, CLS, E> query = (Query<C, CLS, E>) reference.get();
+			result = query;
 		}
 
 		if (result == null) {
@@ -130,12 +143,25 @@ public abstract class AbstractOCLModelConstraint<C, CT, CLS, E> implements IMode
 				throw new RuntimeException(e);
 			}
 
-			queries.put(eClass, new WeakReference<>(result));
+			synchronized (queries) {
+				queries.put(eClass, new WeakReference<>(result));
+			}
 		}
 
 		return result;
 	}
 
+	/**
+	 * Prepares me by parsing the OCL query for the specified element's
+	 * metaclass, if it is not already parsed.
+	 *
+	 * @since 1.5
+	 */
+	@Override
+	public void prepare(EObject target) {
+		getConstraintCondition(target);
+	}
+
 	// implements the inherited method
 	@Override
 	public IStatus validate(IValidationContext ctx) {
@@ -153,10 +179,6 @@ public abstract class AbstractOCLModelConstraint<C, CT, CLS, E> implements IMode
 	}
 
 	private QueryManager getQueryManager() {
-		if (queryManager == null) {
-			queryManager = new QueryManager();
-		}
-
 		return queryManager;
 	}
 
@@ -185,7 +207,11 @@ public abstract class AbstractOCLModelConstraint<C, CT, CLS, E> implements IMode
 		 */
 		boolean check(EObject target) {
 			Query<C, CLS, E> query = getConstraintCondition(target);
-			return query.check(target);
+
+			// the query's evaluation environment is not thread-safe
+			synchronized (query) {
+				return query.check(target);
+			}
 		}
 	}
 }
@@ -1,5 +1,5 @@
 /******************************************************************************
- * Copyright (c) 2003, 2008 IBM Corporation, Zeligsoft Inc., and others.
+ * Copyright (c) 2003, 2026 IBM Corporation, Zeligsoft Inc., and others.
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
  * which is available at https://www.eclipse.org/legal/epl-2.0/
@@ -30,6 +30,7 @@ import org.eclipse.core.runtime.dynamichelpers.IExtensionTracker;
 import org.eclipse.emf.common.EMFPlugin;
 import org.eclipse.emf.common.util.ResourceLocator;
 import org.eclipse.emf.validation.internal.l10n.ValidationMessages;
+import org.eclipse.emf.validation.internal.service.ConstraintCacheManagement;
 import org.eclipse.osgi.service.debug.DebugOptions;
 import org.eclipse.osgi.service.debug.DebugOptionsListener;
 import org.eclipse.osgi.util.NLS;
@@ -255,6 +256,8 @@ public final class EMFModelValidationPlugin extends EMFPlugin {
 			extensionTracker.close();
 			extensionTracker = null;
 
+			ConstraintCacheManagement.unregister();
+
 			super.stop(context);
 		}
 
@@ -1,5 +1,5 @@
 /******************************************************************************
- * Copyright (c) 2003, 2008 IBM Corporation, Zeligsoft Inc., and others.
+ * Copyright (c) 2003, 2026 IBM Corporation, Zeligsoft Inc., and others.
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
  * which is available at https://www.eclipse.org/legal/epl-2.0/
@@ -41,6 +41,7 @@ public final class EMFModelValidationStatusCodes {
 	public static final int SOME_CONSTRAINTS_INFO = 12;
 	public static final int SOME_CONSTRAINTS_WARNING = 13;
 	public static final int SOME_CONSTRAINTS_ERROR = 14;
+	public static final int VALIDATION_TRUNCATED = 15;
 
 	public static final int MESSAGES_NOT_INITED = 50;
 
@@ -92,6 +93,7 @@ public final class EMFModelValidationStatusCodes {
 	public static final String SOME_CONSTRAINTS_INFO_MSG = ValidationMessages.eval_some_info_INFO_;
 	public static final String SOME_CONSTRAINTS_WARNING_MSG = ValidationMessages.eval_some_warn_WARN_;
 	public static final String SOME_CONSTRAINTS_ERROR_MSG = ValidationMessages.eval_some_error_ERROR_;
+	public static final String VALIDATION_TRUNCATED_MSG = ValidationMessages.eval_truncated_INFO_;
 
 	// no MESSAGES_NOT_INITED_KEY because this message cannot be translated
 	// (as the error condition is that the message bundle couldn't be loaded)
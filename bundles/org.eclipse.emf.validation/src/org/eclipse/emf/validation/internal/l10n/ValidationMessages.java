@@ -34,6 +34,7 @@ public class ValidationMessages extends NLS {
 	public static String eval_some_info_INFO_;
 	public static String eval_some_warn_WARN_;
 	public static String eval_some_error_ERROR_;
+	public static String eval_truncated_INFO_;
 	public static String xml_parsing_ERROR_;
 	public static String xml_parsing_file_ERROR_;
 	public static String xml_parsing_pop;
@@ -1,5 +1,5 @@
 /******************************************************************************
- * Copyright (c) 2003, 2007 IBM Corporation and others.
+ * Copyright (c) 2003, 2026 IBM Corporation and others.
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
  * which is available at https://www.eclipse.org/legal/epl-2.0/
@@ -41,6 +41,9 @@ public abstract class AbstractGetConstraintsOperation implements IProviderOperat
 
 	private AbstractValidationContext context;
 
+	/** Whether all of my constraints were provided by the constraint cache. */
+	private boolean cacheOnly = true;
+
 	/**
 	 * Initializes me.
 	 */
@@ -59,6 +62,7 @@ public abstract class AbstractGetConstraintsOperation implements IProviderOperat
 		this.eObject = eObject;
 
 		myConstraints.clear(); // getting constraints for a new target object
+		cacheOnly = true;
 	}
 
 	// implements the interface method
@@ -108,6 +112,17 @@ public abstract class AbstractGetConstraintsOperation implements IProviderOperat
 		return myConstraints;
 	}
 
+	/**
+	 * Queries whether all of my constraints for the current target were provided
+	 * by the {@link ConstraintCache}, which means that they depend only on the
+	 * target's {@link org.eclipse.emf.ecore.EClass}.
+	 *
+	 * @return whether my constraints were all provided by the cache
+	 */
+	final boolean isCacheOnly() {
+		return cacheOnly;
+	}
+
 	/**
 	 * {@inheritDoc}
 	 *
@@ -124,6 +139,10 @@ public abstract class AbstractGetConstraintsOperation implements IProviderOperat
 
 		maybeInitializeContext();
 
+		if (!(provider instanceof ConstraintCache)) {
+			cacheOnly = false;
+		}
+
 		executeImpl(provider, getUnfilteredConstraints());
 
 		Trace.exiting(EMFModelValidationDebugOptions.PROVIDERS, getClass(), "execute"); //$NON-NLS-1$
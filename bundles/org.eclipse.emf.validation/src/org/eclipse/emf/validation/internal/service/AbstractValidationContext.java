@@ -1,5 +1,5 @@
 /******************************************************************************
- * Copyright (c) 2003, 2008 IBM Corporation, Zeligsoft Inc. and others.
+ * Copyright (c) 2003, 2026 IBM Corporation, Zeligsoft Inc. and others.
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
  * which is available at https://www.eclipse.org/legal/epl-2.0/
@@ -61,6 +61,8 @@ public abstract class AbstractValidationContext implements IValidationContext {
 
 	private Collection<IClientContext> clientContexts = Collections.emptySet();
 
+	private Collection<IModelConstraint> dispatchPlan;
+
 	// filters out all ignored and disabled, as well as constraints
 	// that have already been executed on the current target
 	private class ConstraintFilter implements FilteredCollection.Filter<IModelConstraint> {
@@ -413,9 +415,17 @@ public abstract class AbstractValidationContext implements IValidationContext {
 	 * @return my constraints
 	 */
 	final Collection<IModelConstraint> getConstraints() {
-		// use only those constraints that match the client contexts
-		final Collection<IModelConstraint> delegate = ClientContextManager.getInstance().getBindings(clientContexts,
-				getOperation().getConstraints());
+		final Collection<IModelConstraint> delegate;
+
+		if (dispatchPlan != null) {
+			// the plan already matches the client contexts and is filtered for
+			// the current target
+			delegate = dispatchPlan;
+		} else {
+			// use only those constraints that match the client contexts
+			delegate = ClientContextManager.getInstance().getBindings(clientContexts,
+					getOperation().getConstraints());
+		}
 
 		// wraps my constraints collection's iterator in order to access
 		// the descriptor of each constraint as it is traversed
@@ -484,6 +494,22 @@ public abstract class AbstractValidationContext implements IValidationContext {
 		this.clientContexts = clientContexts;
 	}
 
+	/**
+	 * Assigns the dispatch plan from which my {@linkplain #getConstraints()
+	 * constraints} are obtained for the current target, instead of from my
+	 * operation.
+	 *
+	 * @param plan the dispatch plan, filtered by my
+	 *             {@linkplain #getConstraintFilter() constraint filter}, or
+	 *             <code>null</code> to use the constraints obtained by my
+	 *             operation
+	 *
+	 * @see DispatchPlanCache
+	 */
+	final void setDispatchPlan(Collection<IModelConstraint> plan) {
+		this.dispatchPlan = plan;
+	}
+
 	/**
 	 * Obtains my current client contexts. <b>Note</b> that the result should not be
 	 * modified (it may actually be modifiable, or it may not).
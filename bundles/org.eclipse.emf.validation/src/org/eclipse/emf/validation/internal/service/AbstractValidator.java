@@ -1,5 +1,5 @@
 /******************************************************************************
- * Copyright (c) 2003, 2008 IBM Corporation, Zeligsoft Inc., and others.
+ * Copyright (c) 2003, 2026 IBM Corporation, Zeligsoft Inc., and others.
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
  * which is available at https://www.eclipse.org/legal/epl-2.0/
@@ -19,6 +19,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Consumer;
 
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.OperationCanceledException;
@@ -144,7 +145,7 @@ abstract class AbstractValidator<T> implements IValidator<T> {
 		Set<IClientContext> encounteredClientContexts = new HashSet<>();
 
 		try {
-			result = createStatus(doValidate(objects, encounteredClientContexts));
+			result = doValidateStatus(objects, encounteredClientContexts);
 		} catch (ValidationCanceledException e) {
 			result = e.getStatus();
 		} catch (OperationCanceledException e) {
@@ -201,6 +202,25 @@ abstract class AbstractValidator<T> implements IValidator<T> {
 	protected abstract Collection<IStatus> doValidate(Collection<? extends T> objects,
 			Set<IClientContext> clientContexts);
 
+	/**
+	 * Validates the specified <code>objects</code> and summarizes the results in a
+	 * status. Subclasses that do not retain all of their results override this to
+	 * {@linkplain #createStatus(ValidationResults) summarize} them instead.
+	 *
+	 * @param objects        the objects (one or more) to validate
+	 * @param clientContexts the output collection that will be populated with all
+	 *                       of the client contexts encountered while the validator
+	 *                       was running.
+	 * @return the status of the validation
+	 *
+	 * @throws OperationCanceledException if the validation needs to be canceled
+	 *                                    (e.g., when a constraint returns
+	 *                                    {@link IStatus#CANCEL} status)
+	 */
+	IStatus doValidateStatus(Collection<? extends T> objects, Set<IClientContext> clientContexts) {
+		return createStatus(doValidate(objects, clientContexts));
+	}
+
 	/**
 	 * Helper method to evaluate a bunch of constraints. Disabled constraints are
 	 * not evaluated.
@@ -217,7 +237,32 @@ abstract class AbstractValidator<T> implements IValidator<T> {
 	 *                                    (e.g., when a constraint returns
 	 *                                    {@link IStatus#CANCEL} status)
 	 */
-	protected IStatus evaluateConstraints(AbstractValidationContext ctx, List<? super IStatus> results) {
+	protected IStatus evaluateConstraints(AbstractValidationContext ctx, final List<? super IStatus> results) {
+		return evaluateConstraints(ctx, new Consumer<IStatus>() {
+			@Override
+			public void accept(IStatus status) {
+				results.add(status);
+			}
+		});
+	}
+
+	/**
+	 * Helper method to evaluate a bunch of constraints, passing their results to
+	 * an accumulator. Disabled constraints are not evaluated.
+	 *
+	 * @param ctx     the context in which all constraints are to be evaluated. The
+	 *                context encapsulates the constraints
+	 * @param results the accumulator of the results of all constraints that were
+	 *                eligible for evaluation. It only receives constraint
+	 *                failures
+	 * @return a status describing the severity of constraint violations on the
+	 *         current target (if any). An OK status indicates no problems
+	 *
+	 * @throws OperationCanceledException if the validation needs to be canceled
+	 *                                    (e.g., when a constraint returns
+	 *                                    {@link IStatus#CANCEL} status)
+	 */
+	IStatus evaluateConstraints(AbstractValidationContext ctx, Consumer<? super IStatus> results) {
 		IStatus resultStatus = Status.OK_STATUS;
 
 		for (Object element : ctx.getConstraints()) {
@@ -241,7 +286,7 @@ abstract class AbstractValidator<T> implements IValidator<T> {
 						}
 					}
 
-					results.add(status);
+					results.accept(status);
 				}
 			} catch (ValidationCanceledException e) {
 				// propagate to cancel the validation operation and return
@@ -255,7 +300,7 @@ abstract class AbstractValidator<T> implements IValidator<T> {
 				// protect against uncaught exceptions in the validation
 
 				IConstraintStatus status = new DisabledConstraintStatus(next, ctx.getTarget(), e);
-				results.add(status);
+				results.accept(status);
 
 				Log.warning(status.getCode(),
 						EMFModelValidationPlugin.getMessage(EMFModelValidationStatusCodes.CONSTRAINT_DISABLED_MSG,
@@ -285,7 +330,7 @@ abstract class AbstractValidator<T> implements IValidator<T> {
 	 *
 	 * @return my operation executor
 	 */
-	private IProviderOperationExecutor getOperationExecutor() {
+	final IProviderOperationExecutor getOperationExecutor() {
 		return executor;
 	}
 
@@ -311,6 +356,24 @@ abstract class AbstractValidator<T> implements IValidator<T> {
 		}
 	}
 
+	/**
+	 * Creates an {@link IStatus} from accumulated <code>results</code>. If the
+	 * results were passed to a sink, then the status only summarizes them.
+	 *
+	 * @param results the constraint evaluation results
+	 * @return the status of the validation
+	 *
+	 * @see #createStatus(Collection)
+	 */
+	final IStatus createStatus(ValidationResults results) {
+		if (!results.isRetained() && (results.getCount() > 0)) {
+			// the results were passed to a sink, so only summarize them
+			return new AggregateStatus(Collections.<IStatus>emptyList(), results.getSeverity());
+		}
+
+		return createStatus(results.getResults());
+	}
+
 	private boolean acceptConstraint(IConstraintDescriptor constraint, EObject target) {
 		if (filters != null) {
 			for (IConstraintFilter filter : filters) {
@@ -348,6 +411,21 @@ abstract class AbstractValidator<T> implements IValidator<T> {
 		return Collections.unmodifiableCollection(filters);
 	}
 
+	/**
+	 * Configures me with the options, constraint filters and client data of
+	 * another validator.
+	 *
+	 * @param other the validator whose configuration to copy
+	 */
+	void copyConfiguration(AbstractValidator<T> other) {
+		setOptions(other.getOptions());
+		clientData.putAll(other.clientData);
+
+		for (IConstraintFilter next : other.getConstraintFilters()) {
+			addConstraintFilter(next);
+		}
+	}
+
 	@Override
 	public Map<Option<?>, ?> getOptions() {
 		return options;
@@ -390,7 +468,7 @@ abstract class AbstractValidator<T> implements IValidator<T> {
 	 * @author Christian W. Damus (cdamus)
 	 */
 	private static class AggregateStatus implements IStatus {
-		private final Collection<? extends IStatus> children;
+		private final IStatus[] children;
 		private final int severity;
 		private final int code;
 		private final String message;
@@ -402,9 +480,20 @@ abstract class AbstractValidator<T> implements IValidator<T> {
 		 * @param statuses the statuses that I aggregate
 		 */
 		AggregateStatus(Collection<? extends IStatus> statuses) {
+			this(statuses, getMaximalSeverity(statuses));
+		}
+
+		/**
+		 * Initializes me as an aggregate of the specified <code>statuses</code>, whose
+		 * maximal severity is already known. They will become my
+		 * {@link #getChildren() children}.
+		 *
+		 * @param statuses    the statuses that I aggregate
+		 * @param maxSeverity their maximal severity
+		 */
+		AggregateStatus(Collection<? extends IStatus> statuses, int maxSeverity) {
 			// aggregate the results into a multi-status
 
-			int maxSeverity = getMaximalSeverity(statuses);
 			int newCode;
 			String msg;
 
@@ -431,7 +520,8 @@ abstract class AbstractValidator<T> implements IValidator<T> {
 				break;
 			}
 
-			this.children = statuses;
+			// copy the children only once, not on every access
+			this.children = statuses.toArray(new IStatus[statuses.size()]);
 			this.severity = maxSeverity;
 			this.code = newCode;
 			this.message = msg;
@@ -440,7 +530,7 @@ abstract class AbstractValidator<T> implements IValidator<T> {
 		// implements the interface method
 		@Override
 		public IStatus[] getChildren() {
-			return children.toArray(new IStatus[children.size()]);
+			return children;
 		}
 
 		// implements the interface method
@@ -497,7 +587,7 @@ abstract class AbstractValidator<T> implements IValidator<T> {
 		 * @param statuses a collection of {@link IStatus} objects
 		 * @return the maximal severity amongst the <code>statuses</code>
 		 */
-		private int getMaximalSeverity(Collection<? extends IStatus> statuses) {
+		private static int getMaximalSeverity(Collection<? extends IStatus> statuses) {
 			int result = IStatus.OK;
 
 			for (IStatus next : statuses) {
@@ -0,0 +1,245 @@
+/******************************************************************************
+ * Copyright (c) 2026 Eclipse contributors and others.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *    Eclipse contributors - initial API and implementation
+ ****************************************************************************/
+package org.eclipse.emf.validation.internal.service;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.emf.common.notify.Notification;
+import org.eclipse.emf.validation.service.ILiveValidator;
+
+/**
+ * The buffer of the {@linkplain ILiveValidator#validateAsync(Collection)
+ * asynchronous validation} of a {@link LiveValidator}. Notifications are
+ * buffered until the quiet period elapses or the maximal batch size is reached,
+ * and then validated together. At most one batch of a validator is validated
+ * at any time; notifications that are received meanwhile are buffered for the
+ * next batch. The quiet periods of all validators are timed by a single shared
+ * thread, which only takes the batches that are due and never validates them,
+ * so that a long validation does not delay the batches of other validators.
+ */
+final class AsyncLiveValidation {
+	private final LiveValidator validator;
+
+	private final Object lock = new Object();
+
+	// the notifications received since the last batch was taken
+	private List<Notification> buffer = new java.util.ArrayList<>();
+
+	// the future status of the buffered notifications
+	private CompletableFuture<IStatus> future;
+
+	// System.nanoTime() of the last received notification
+	private long lastArrival;
+
+	private long quietPeriod; // nanoseconds
+	private int maxBatchSize;
+
+	private boolean timerScheduled;
+	private boolean running;
+
+	private final Runnable timerTask = new Runnable() {
+		@Override
+		public void run() {
+			Batch batch;
+
+			synchronized (lock) {
+				timerScheduled = false;
+				batch = poll();
+			}
+
+			if (batch != null) {
+				dispatch(batch);
+			}
+		}
+	};
+
+	/**
+	 * Initializes me.
+	 *
+	 * @param validator the validator on whose behalf I validate notifications
+	 */
+	AsyncLiveValidation(LiveValidator validator) {
+		this.validator = validator;
+	}
+
+	/**
+	 * Buffers notifications for validation.
+	 *
+	 * @param notifications the notifications to validate
+	 * @return the future status of the batch that includes the
+	 *         <code>notifications</code>
+	 */
+	Future<IStatus> add(Collection<? extends Notification> notifications) {
+		Long quiet = validator.getOption(ILiveValidator.OPTION_QUIET_PERIOD);
+		Integer max = validator.getOption(ILiveValidator.OPTION_MAX_BATCH_SIZE);
+
+		Future<IStatus> result;
+		Batch batch;
+
+		synchronized (lock) {
+			quietPeriod = (quiet == null) ? 0L : TimeUnit.MILLISECONDS.toNanos(quiet.longValue());
+			maxBatchSize = (max == null) ? 0 : max.intValue();
+
+			buffer.addAll(notifications);
+			lastArrival = System.nanoTime();
+
+			if (future == null) {
+				future = new CompletableFuture<>();
+			}
+			result = future;
+
+			batch = poll();
+		}
+
+		if (batch != null) {
+			dispatch(batch);
+		}
+
+		return result;
+	}
+
+	/**
+	 * Takes the buffered notifications as the next batch, if they are due for
+	 * validation, or else schedules the timer to check again when the quiet
+	 * period will have elapsed. Must be called while holding my lock.
+	 *
+	 * @return the batch to validate, or <code>null</code> if none is due
+	 */
+	private Batch poll() {
+		if (running || buffer.isEmpty()) {
+			// the running batch polls again when it is finished
+			return null;
+		}
+
+		long remaining = quietPeriod - (System.nanoTime() - lastArrival);
+
+		if ((remaining > 0L) && ((maxBatchSize <= 0) || (buffer.size() < maxBatchSize))) {
+			// rather than rescheduling the timer on every notification, the timer
+			// reschedules itself for the rest of the quiet period
+			if (!timerScheduled) {
+				timerScheduled = true;
+				Timer.INSTANCE.schedule(timerTask, remaining, TimeUnit.NANOSECONDS);
+			}
+
+			return null;
+		}
+
+		Batch result = new Batch(buffer, future);
+		buffer = new java.util.ArrayList<>();
+		future = null;
+		running = true;
+
+		return result;
+	}
+
+	/**
+	 * Validates a batch on the executor, which by default is the common pool and
+	 * never the timer thread.
+	 *
+	 * @param batch the batch to validate
+	 */
+	private void dispatch(final Batch batch) {
+		Executor executor = validator.getOption(ILiveValidator.OPTION_ASYNC_EXECUTOR);
+		if (executor == null) {
+			executor = ForkJoinPool.commonPool();
+		}
+
+		try {
+			executor.execute(new Runnable() {
+				@Override
+				public void run() {
+					validate(batch);
+				}
+			});
+		} catch (RejectedExecutionException e) {
+			batch.future.completeExceptionally(e);
+			finished();
+		}
+	}
+
+	/**
+	 * Validates a batch and completes its future.
+	 *
+	 * @param batch the batch to validate
+	 */
+	private void validate(Batch batch) {
+		try {
+			batch.future.complete(validator.validate(batch.notifications));
+		} catch (RuntimeException e) {
+			batch.future.completeExceptionally(e);
+		} finally {
+			finished();
+		}
+	}
+
+	/**
+	 * Handles the completion of a batch, dispatching the next batch if it is
+	 * already due.
+	 */
+	private void finished() {
+		Batch next;
+
+		synchronized (lock) {
+			running = false;
+			next = poll();
+		}
+
+		if (next != null) {
+			dispatch(next);
+		}
+	}
+
+	/**
+	 * A batch of notifications that are validated together.
+	 */
+	private static final class Batch {
+		final List<Notification> notifications;
+		final CompletableFuture<IStatus> future;
+
+		Batch(List<Notification> notifications, CompletableFuture<IStatus> future) {
+			this.notifications = notifications;
+			this.future = future;
+		}
+	}
+
+	/**
+	 * The background thread, shared by all live validators, that times the quiet
+	 * periods. It is only started when asynchronous validation is first
+	 * requested.
+	 */
+	private static final class Timer {
+		static final ScheduledThreadPoolExecutor INSTANCE;
+
+		static {
+			INSTANCE = new ScheduledThreadPoolExecutor(1, new ThreadFactory() {
+				@Override
+				public Thread newThread(Runnable r) {
+					Thread result = new Thread(r, "EMF Live Validation"); //$NON-NLS-1$
+					result.setDaemon(true);
+					return result;
+				}
+			});
+			INSTANCE.setKeepAliveTime(30L, TimeUnit.SECONDS);
+			INSTANCE.allowCoreThreadTimeOut(true);
+		}
+	}
+}
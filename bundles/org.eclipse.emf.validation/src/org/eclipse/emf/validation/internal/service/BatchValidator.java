@@ -1,5 +1,5 @@
 /******************************************************************************
- * Copyright (c) 2003, 2010 IBM Corporation, Zeligsoft Inc., and others.
+ * Copyright (c) 2003, 2026 IBM Corporation, Zeligsoft Inc., and others.
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
  * which is available at https://www.eclipse.org/legal/epl-2.0/
@@ -28,13 +28,16 @@ import org.eclipse.core.runtime.Status;
 import org.eclipse.core.runtime.SubProgressMonitor;
 import org.eclipse.emf.ecore.EObject;
 import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
 import org.eclipse.emf.validation.internal.EMFModelValidationDebugOptions;
 import org.eclipse.emf.validation.internal.EMFModelValidationPlugin;
 import org.eclipse.emf.validation.internal.util.Trace;
 import org.eclipse.emf.validation.marker.MarkerUtil;
 import org.eclipse.emf.validation.model.EvaluationMode;
+import org.eclipse.emf.validation.model.IModelConstraint;
 import org.eclipse.emf.validation.service.IBatchValidator;
 import org.eclipse.emf.validation.service.ITraversalStrategy;
+import org.eclipse.emf.validation.service.IncrementalValidationTracker;
 
 /**
  * Basic implementation of the {@link IBatchValidator} interface. Ensures that,
@@ -48,6 +51,13 @@ public class BatchValidator extends AbstractValidator<EObject> implements IBatch
 
 	private ITraversalStrategy defaultTraversalStrategy = new DefaultRecursiveTraversalStrategy();
 
+	// the current validation operation's use of the state of its incremental
+	// tracker, if any
+	private IncrementalValidationState.Operation incrementalOperation = null;
+
+	// the error budget of the current validation operation, if any
+	private ValidationBudget budget = null;
+
 	/**
 	 * Initializes me with the operation <code>executor</code> that I use to execute
 	 * provider operations.
@@ -133,6 +143,42 @@ public class BatchValidator extends AbstractValidator<EObject> implements IBatch
 		return result;
 	}
 
+	/*
+	 * (non-Javadoc) Implements the inherited method.
+	 */
+	@Override
+	public Map<Resource, IStatus> validate(ResourceSet resourceSet, IProgressMonitor monitor) {
+		return new ResourceSetValidation(this).validate(resourceSet, monitor);
+	}
+
+	/**
+	 * Creates a copy of me, with my configuration, to validate one resource of a
+	 * resource set concurrently with the others. The copy validates sequentially
+	 * with its own traversal strategy.
+	 *
+	 * @return the new validator
+	 */
+	BatchValidator createResourceValidator() {
+		BatchValidator result = new BatchValidator(getOperationExecutor());
+
+		result.copyConfiguration(this);
+
+		Map<Option<?>, Object> options = new java.util.HashMap<>(getOptions());
+		options.remove(OPTION_PARALLELISM);
+
+		ITraversalStrategy traversal = ResourceSetValidation.copyTraversalStrategy(getTraversalStrategy());
+		if (traversal != null) {
+			options.put(OPTION_TRAVERSAL_STRATEGY, traversal);
+		} else {
+			// the default strategy is specific to every validator
+			options.remove(OPTION_TRAVERSAL_STRATEGY);
+		}
+
+		result.setOptions(options);
+
+		return result;
+	}
+
 	/*
 	 * (non-Javadoc) Implements the inherited method.
 	 */
@@ -140,17 +186,111 @@ public class BatchValidator extends AbstractValidator<EObject> implements IBatch
 	protected Collection<IStatus> doValidate(Collection<? extends EObject> objects,
 			Set<IClientContext> clientContexts) {
 
-		List<IStatus> result = new java.util.ArrayList<>(64); // anticipate large scale
+		// results that were passed to a sink are not available
+		return validateResults(objects, clientContexts).getResults();
+	}
 
-		GetBatchConstraintsOperation operation = new GetBatchConstraintsOperation(!isIncludeLiveConstraints());
-		AbstractValidationContext ctx = operation.getContext();
-		ctx.setReportSuccesses(isReportSuccesses());
+	/**
+	 * Summarizes the results of the validation, which may have been passed to a
+	 * {@linkplain IBatchValidator#OPTION_RESULT_SINK result sink}.
+	 */
+	@Override
+	IStatus doValidateStatus(Collection<? extends EObject> objects, Set<IClientContext> clientContexts) {
+		return createStatus(validateResults(objects, clientContexts));
+	}
 
-		validate(getTraversalStrategy(), result, ctx, objects, operation, clientContexts);
+	/**
+	 * Validates the specified <code>objects</code>, accumulating the results or
+	 * passing them to the result sink, if any.
+	 *
+	 * @param objects        the objects (one or more) to validate
+	 * @param clientContexts the output collection that will be populated with all
+	 *                       of the client contexts encountered while the validator
+	 *                       was running.
+	 * @return the results of the validation
+	 */
+	private ValidationResults validateResults(Collection<? extends EObject> objects,
+			Set<IClientContext> clientContexts) {
+
+		ValidationResults result = new ValidationResults(getOption(OPTION_RESULT_SINK));
+
+		IncrementalValidationTracker tracker = getOption(OPTION_INCREMENTAL_TRACKER);
+		if (tracker != null) {
+			incrementalOperation = IncrementalValidationState.get(tracker).beginValidation();
+		}
+
+		budget = ValidationBudget.create(getOption(OPTION_MAX_PROBLEMS), getOption(OPTION_STOP_ON_SEVERITY));
+
+		int parallelism = ParallelBatchValidation.getParallelism(getOption(OPTION_PARALLELISM));
+		ITraversalStrategy traversal = getTraversalStrategy();
+
+		try {
+			// parallel workers buffer their results, which would defeat the
+			// purpose of a result sink, so a sink implies sequential validation
+			if ((parallelism > 1) && result.isRetained()
+					&& ParallelBatchValidation.isParallelizable(traversal, getDefaultTraversalStrategy(), objects)) {
+				validateParallel(parallelism, result, objects, clientContexts);
+			} else {
+				GetBatchConstraintsOperation operation = new GetBatchConstraintsOperation(!isIncludeLiveConstraints());
+				AbstractValidationContext ctx = operation.getContext();
+				ctx.setReportSuccesses(isReportSuccesses());
+
+				validate(traversal, result, ctx, objects, operation, clientContexts);
+			}
+
+			if ((budget != null) && budget.isTruncated()) {
+				result.accept(ValidationBudget.createTruncatedStatus());
+			}
+		} finally {
+			incrementalOperation = null;
+			budget = null;
+		}
 
 		return result;
 	}
 
+	/**
+	 * Helper method for validation of the containment trees of any number of
+	 * objects on multiple worker threads.
+	 *
+	 * @param parallelism       the number of worker threads
+	 * @param evaluationResults the evaluation results to accumulate
+	 * @param objects           a collection of {@link EObject}s to validate
+	 * @param clientContexts    (output) the set of client contexts to be updated
+	 *                          with all of the encountered contexts while
+	 *                          performing validation
+	 */
+	private void validateParallel(int parallelism, ValidationResults evaluationResults,
+			Collection<? extends EObject> objects, Set<IClientContext> clientContexts) {
+
+		boolean trackResources = getOption(OPTION_TRACK_RESOURCES);
+
+		IProgressMonitor monitor = progressMonitor;
+		if (monitor == null) {
+			monitor = new NullProgressMonitor();
+		}
+
+		ParallelBatchValidation parallel = new ParallelBatchValidation(this, parallelism, trackResources);
+
+		try {
+			parallel.validate(objects, monitor, clientContexts, evaluationResults);
+		} catch (OperationCanceledException e) {
+			// a constraint has requested cancellation of the validation
+			// operation. Honour that request and propagate the exception
+			monitor.setCanceled(true);
+			throw e;
+		} finally {
+			if (!monitor.isCanceled()) {
+				monitor.done();
+			}
+			progressMonitor = null;
+
+			if (trackResources) {
+				evaluationResults.accept(createDummyResourceStatus(parallel.getResources()));
+			}
+		}
+	}
+
 	/**
 	 * Helper method for validation of any number of objects, using the specified
 	 * <code>traversal</code> strategy.
@@ -166,8 +306,8 @@ public class BatchValidator extends AbstractValidator<EObject> implements IBatch
 	 *                          the encountered contexts while performing
 	 *                          validation.
 	 */
-	private void validate(ITraversalStrategy traversal, List<IStatus> evaluationResults, AbstractValidationContext ctx,
-			Collection<? extends EObject> objects, GetBatchConstraintsOperation operation,
+	private void validate(ITraversalStrategy traversal, ValidationResults evaluationResults,
+			AbstractValidationContext ctx, Collection<? extends EObject> objects, GetBatchConstraintsOperation operation,
 			Set<IClientContext> clientContexts) {
 
 		Set<Resource> resources = null;
@@ -187,7 +327,8 @@ public class BatchValidator extends AbstractValidator<EObject> implements IBatch
 
 		try {
 			while (traversal.hasNext()) {
-				if (monitor.isCanceled()) {
+				if (monitor.isCanceled() || isBudgetExhausted()) {
+					elementsSkipped();
 					break;
 				}
 
@@ -221,7 +362,7 @@ public class BatchValidator extends AbstractValidator<EObject> implements IBatch
 			progressMonitor = null;
 
 			if (trackResources) {
-				evaluationResults.add(createDummyResourceStatus(resources));
+				evaluationResults.accept(createDummyResourceStatus(resources));
 			}
 		}
 	}
@@ -232,22 +373,55 @@ public class BatchValidator extends AbstractValidator<EObject> implements IBatch
 	 * @param ctx     the context within which to validate the <code>eObject</code>
 	 * @param eObject the EMF object to validate
 	 * @param the     operation to reuse for getting constraints
-	 * @param results list of {@link IStatus} results of constraint evaluations
+	 * @param results the accumulator of the results of constraint evaluations
 	 *
 	 * @return a summary status of the <code>eObject</code>'s validation
 	 */
-	private IStatus validate(AbstractValidationContext ctx, EObject eObject, GetBatchConstraintsOperation operation,
-			List<IStatus> results) {
+	IStatus validate(AbstractValidationContext ctx, EObject eObject, GetBatchConstraintsOperation operation,
+			ValidationResults results) {
 		if (Trace.shouldTraceEntering(EMFModelValidationDebugOptions.PROVIDERS)) {
 			Trace.entering(getClass(), "validate", //$NON-NLS-1$
 					new Object[] { eObject });
 		}
 
-		operation.setTarget(eObject);
+		IStatus result;
+		IncrementalValidationState.Operation incremental = incrementalOperation;
+		ValidationBudget currentBudget = budget;
+
+		if ((incremental == null) && (currentBudget == null)) {
+			result = evaluate(ctx, eObject, operation, results);
+		} else {
+			Collection<IStatus> elementResults;
+
+			if ((incremental != null) && !incremental.needsValidation(eObject)) {
+				// the element has not changed since it was last validated
+				elementResults = incremental.getResults(eObject);
+				result = Status.OK_STATUS;
+
+				for (IStatus next : elementResults) {
+					if (next.getSeverity() > result.getSeverity()) {
+						result = next;
+					}
+				}
+			} else {
+				ValidationResults evaluationResults = new ValidationResults();
 
-		execute(operation);
+				result = evaluate(ctx, eObject, operation, evaluationResults);
 
-		IStatus result = evaluateConstraints(ctx, results);
+				if (incremental != null) {
+					incremental.store(eObject, evaluationResults.getResults());
+				}
+				elementResults = evaluationResults.getResults();
+			}
+
+			for (IStatus next : elementResults) {
+				if ((currentBudget != null) && !currentBudget.accept(next)) {
+					break;
+				}
+
+				results.accept(next);
+			}
+		}
 
 		if (Trace.shouldTraceExiting(EMFModelValidationDebugOptions.PROVIDERS)) {
 			Trace.exiting(getClass(), "validate", //$NON-NLS-1$
@@ -257,6 +431,63 @@ public class BatchValidator extends AbstractValidator<EObject> implements IBatch
 		return result;
 	}
 
+	/**
+	 * Evaluates the constraints on a single object. The constraints are obtained
+	 * from the object's dispatch plan, if possible, and otherwise from the
+	 * constraint providers (compiling the plan for subsequent objects of the same
+	 * class, if possible).
+	 *
+	 * @param ctx       the context within which to validate the
+	 *                  <code>eObject</code>
+	 * @param eObject   the EMF object to validate
+	 * @param operation the operation to reuse for getting constraints
+	 * @param results   the accumulator of the results of constraint evaluations
+	 *
+	 * @return a summary status of the <code>eObject</code>'s validation
+	 *
+	 * @see DispatchPlanCache
+	 */
+	private IStatus evaluate(AbstractValidationContext ctx, EObject eObject, GetBatchConstraintsOperation operation,
+			ValidationResults results) {
+		operation.setTarget(eObject);
+
+		Collection<IClientContext> clientContexts = ctx.getClientContexts();
+		Collection<IModelConstraint> plan = operation.getDispatchPlan(clientContexts);
+
+		if (plan == null) {
+			execute(operation);
+
+			plan = operation.compileDispatchPlan(clientContexts);
+		}
+
+		ctx.setDispatchPlan(plan);
+
+		return evaluateConstraints(ctx, results);
+	}
+
+	/**
+	 * Queries whether the error budget of the current validation operation is
+	 * exhausted, so that validation should stop.
+	 *
+	 * @return whether the budget is exhausted
+	 */
+	boolean isBudgetExhausted() {
+		ValidationBudget currentBudget = budget;
+		return (currentBudget != null) && currentBudget.isExhausted();
+	}
+
+	/**
+	 * Records that the current validation operation stopped before all of the
+	 * elements were validated, so that the results are truncated if this is
+	 * because the error budget is exhausted.
+	 */
+	void elementsSkipped() {
+		ValidationBudget currentBudget = budget;
+		if (currentBudget != null) {
+			currentBudget.elementsSkipped();
+		}
+	}
+
 	/**
 	 * Creates OK statuses (in a multi-status if necessary) for each resource
 	 * visited when the {@link IBatchValidator#OPTION_TRACK_RESOURCES} option is
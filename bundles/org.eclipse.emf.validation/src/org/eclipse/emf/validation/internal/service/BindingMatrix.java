@@ -0,0 +1,436 @@
+/******************************************************************************
+ * Copyright (c) 2026 Eclipse contributors and others.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *    Eclipse contributors - initial API and implementation
+ ****************************************************************************/
+package org.eclipse.emf.validation.internal.service;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.emf.validation.model.IModelConstraint;
+import org.eclipse.emf.validation.service.IConstraintDescriptor;
+
+/**
+ * <p>
+ * A matrix of the bindings of constraints to the client contexts of a snapshot
+ * of the registered contexts. Contexts and constraint descriptors are numbered
+ * by dense ordinals, and every context has a row that is a bit set of the
+ * ordinals of the constraints that are bound to it. An additional row records
+ * the constraints that are bound to no context at all, which are implicitly
+ * bound to the default contexts.
+ * </p>
+ * <p>
+ * The column of a constraint is computed, for all contexts at once, when the
+ * constraint is first filtered. Its ordinal is then looked up by the identity
+ * of its descriptor. The union of the rows of a set of contexts is computed
+ * once per set, so that filtering constraints only tests bits. A matrix is
+ * replaced when the contexts or their bindings change.
+ * </p>
+ * <p>
+ * The columns are published as immutable snapshots, so that concurrent
+ * validations filter constraints without locking. Only the computation of new
+ * columns is serialized, and it publishes a new snapshot.
+ * </p>
+ *
+ * @see ClientContextManager#getBindings(Collection, Collection)
+ */
+final class BindingMatrix {
+	private static final int WORD_SHIFT = 6;
+	private static final long[] NO_BITS = {};
+
+	/**
+	 * The maximal number of sets of contexts whose selections are remembered by
+	 * each snapshot. Sets of contexts selected for objects are canonical, so
+	 * there are few of them.
+	 */
+	private static final int MAX_SELECTIONS = 256;
+
+	/** The registered contexts of which I am a snapshot. */
+	final Set<IClientContext> contexts;
+
+	/** The generation of the context bindings in which I was computed. */
+	final int generation;
+
+	private final IClientContext[] contextArray;
+
+	/** Mapping of client context ==&gt; ordinal. */
+	private final Map<IClientContext, Integer> contextOrdinals;
+
+	/** The current snapshot of my computed columns. */
+	private volatile Columns columns;
+
+	/**
+	 * Initializes me with a snapshot of the registered client contexts.
+	 *
+	 * @param contexts   the registered client contexts, which must not be
+	 *                   modified
+	 * @param generation the generation of their bindings
+	 */
+	BindingMatrix(Set<IClientContext> contexts, int generation) {
+		this.contexts = contexts;
+		this.generation = generation;
+
+		contextArray = contexts.toArray(new IClientContext[contexts.size()]);
+		contextOrdinals = new java.util.HashMap<>(contextArray.length * 2);
+
+		long[][] rows = new long[contextArray.length][];
+		for (int i = 0; i < contextArray.length; i++) {
+			contextOrdinals.put(contextArray[i], i);
+			rows[i] = NO_BITS;
+		}
+
+		columns = new Columns(new java.util.IdentityHashMap<IConstraintDescriptor, Integer>(), rows, NO_BITS);
+	}
+
+	/**
+	 * Filters the constraints that are bound to the specified client context, or
+	 * implicitly bound to it if it is a default context.
+	 *
+	 * @param context     a client context
+	 * @param constraints the constraints to filter
+	 * @return the bound constraints, in their original order
+	 */
+	<T extends IModelConstraint> Collection<T> filter(IClientContext context, Collection<? extends T> constraints) {
+		Columns snapshot = columns;
+		Collection<T> result = filter(snapshot, snapshot.getSelection(context), constraints);
+
+		if (result == null) {
+			snapshot = computeColumns(constraints);
+			result = filter(snapshot, snapshot.getSelection(context), constraints);
+		}
+
+		return result;
+	}
+
+	/**
+	 * Filters the constraints that are bound to any of the specified client
+	 * contexts, or implicitly bound to them if they are default contexts.
+	 *
+	 * @param contexts    the client contexts of an object
+	 * @param constraints the constraints to filter
+	 * @return the bound constraints, in their original order
+	 */
+	<T extends IModelConstraint> Collection<T> filter(Collection<? extends IClientContext> contexts,
+			Collection<? extends T> constraints) {
+
+		Columns snapshot = columns;
+		Collection<T> result = filter(snapshot, snapshot.getSelection(contexts), constraints);
+
+		if (result == null) {
+			snapshot = computeColumns(constraints);
+			result = filter(snapshot, snapshot.getSelection(contexts), constraints);
+		}
+
+		return result;
+	}
+
+	/**
+	 * Filters constraints by the selection of a set of contexts.
+	 *
+	 * @param snapshot    the snapshot of the columns
+	 * @param selection   the selection of the contexts in the snapshot
+	 * @param constraints the constraints to filter
+	 * @return the bound constraints, in their original order, or
+	 *         <code>null</code> if the snapshot is missing the column of any of
+	 *         the <code>constraints</code>
+	 */
+	private static <T extends IModelConstraint> Collection<T> filter(Columns snapshot, Selection selection,
+			Collection<? extends T> constraints) {
+
+		Collection<T> result = new java.util.ArrayList<>(constraints.size());
+
+		for (T next : constraints) {
+			IConstraintDescriptor descriptor = next.getDescriptor();
+			int ordinal = -1;
+
+			if (descriptor != null) {
+				Integer column = snapshot.ordinals.get(descriptor);
+
+				if (column == null) {
+					return null;
+				}
+
+				ordinal = column;
+			}
+
+			if (((ordinal >= 0) && get(selection.bits, ordinal))
+					|| selection.includesForeign(next, snapshot, ordinal)) {
+				result.add(next);
+			}
+		}
+
+		return result;
+	}
+
+	/**
+	 * Computes the columns of those of the specified constraints that do not yet
+	 * have them, and publishes a new snapshot of my columns.
+	 *
+	 * @param constraints constraints to filter
+	 * @return the new snapshot, which has the columns of all of the
+	 *         <code>constraints</code>
+	 */
+	private synchronized Columns computeColumns(Collection<? extends IModelConstraint> constraints) {
+		Columns snapshot = columns;
+
+		// another thread may have computed some of them in the meantime
+		Map<IConstraintDescriptor, Integer> ordinals = new java.util.IdentityHashMap<>(snapshot.ordinals);
+		List<IModelConstraint> missing = new java.util.ArrayList<>();
+
+		for (IModelConstraint next : constraints) {
+			IConstraintDescriptor descriptor = next.getDescriptor();
+
+			if ((descriptor != null) && !ordinals.containsKey(descriptor)) {
+				ordinals.put(descriptor, ordinals.size());
+				missing.add(next);
+			}
+		}
+
+		if (missing.isEmpty()) {
+			return snapshot;
+		}
+
+		// copy the bit sets with room for all of the constraints. The copies are
+		// only modified until they are published
+		int words = (ordinals.size() >>> WORD_SHIFT) + 1;
+		long[][] rows = new long[contextArray.length][];
+		for (int i = 0; i < rows.length; i++) {
+			rows[i] = java.util.Arrays.copyOf(snapshot.rows[i], words);
+		}
+		long[] defaultRow = java.util.Arrays.copyOf(snapshot.defaultRow, words);
+
+		for (IModelConstraint next : missing) {
+			IConstraintDescriptor descriptor = next.getDescriptor();
+			int ordinal = ordinals.get(descriptor);
+			boolean bound = false;
+
+			for (int i = 0; i < contextArray.length; i++) {
+				IClientContext context = contextArray[i];
+				boolean includes = (context instanceof ClientContext) ? ((ClientContext) context).includes(descriptor)
+						: context.includes(next);
+
+				if (includes) {
+					set(rows[i], ordinal);
+					bound = true;
+				}
+			}
+
+			if (!bound) {
+				// implicitly bound to the default contexts
+				set(defaultRow, ordinal);
+			}
+		}
+
+		snapshot = new Columns(ordinals, rows, defaultRow);
+		columns = snapshot;
+
+		return snapshot;
+	}
+
+	/**
+	 * Queries a bit of a bit set.
+	 *
+	 * @param bits a bit set
+	 * @param bit  the bit to query
+	 * @return whether the <code>bit</code> is set
+	 */
+	private static boolean get(long[] bits, int bit) {
+		int word = bit >>> WORD_SHIFT;
+
+		return (word < bits.length) && ((bits[word] & (1L << bit)) != 0L);
+	}
+
+	/**
+	 * Sets a bit of a bit set.
+	 *
+	 * @param bits a bit set that is large enough for the <code>bit</code>
+	 * @param bit  the bit to set
+	 */
+	private static void set(long[] bits, int bit) {
+		bits[bit >>> WORD_SHIFT] |= 1L << bit;
+	}
+
+	/**
+	 * Computes the union of a bit set with another, in place if it is large
+	 * enough.
+	 *
+	 * @param bits  a bit set that is not shared, which may be modified
+	 * @param other another bit set, which is not modified
+	 * @return the union, which may be <code>bits</code>
+	 */
+	private static long[] or(long[] bits, long[] other) {
+		long[] result = (bits.length >= other.length) ? bits : java.util.Arrays.copyOf(bits, other.length);
+
+		for (int i = 0; i < other.length; i++) {
+			result[i] |= other[i];
+		}
+
+		return result;
+	}
+
+	/**
+	 * The union of the rows of a set of client contexts, with those contexts that
+	 * are not registered and so are not in the matrix.
+	 */
+	private static final class Selection {
+		/** The constraints bound to the registered contexts. */
+		final long[] bits;
+
+		/** The contexts that are not in the matrix, or <code>null</code>. */
+		final IClientContext[] foreign;
+
+		Selection(long[] bits, IClientContext[] foreign) {
+			this.bits = bits;
+			this.foreign = foreign;
+		}
+
+		/**
+		 * Queries whether a constraint that is not bound to my registered contexts
+		 * is bound to my foreign contexts.
+		 *
+		 * @param constraint a constraint
+		 * @param snapshot   the snapshot of the columns
+		 * @param ordinal    the ordinal of the <code>constraint</code>, or
+		 *                   <code>-1</code> if it has no descriptor
+		 * @return whether the <code>constraint</code> is bound to any of my foreign
+		 *         contexts
+		 */
+		boolean includesForeign(IModelConstraint constraint, Columns snapshot, int ordinal) {
+			if (foreign != null) {
+				for (IClientContext next : foreign) {
+					if (next.includes(constraint)
+							|| (next.isDefault() && (ordinal >= 0) && get(snapshot.defaultRow, ordinal))) {
+						return true;
+					}
+				}
+			}
+
+			return false;
+		}
+	}
+
+	/**
+	 * An immutable snapshot of the computed columns of the matrix, with the
+	 * selections of the sets of contexts that have been filtered with it.
+	 */
+	private final class Columns {
+		/** Mapping of constraint descriptor ==&gt; ordinal, by identity. */
+		final Map<IConstraintDescriptor, Integer> ordinals;
+
+		/** The bit sets of the constraints bound to each context, by ordinal. */
+		final long[][] rows;
+
+		/** The bit set of the constraints bound to no context. */
+		final long[] defaultRow;
+
+		/** The selections of single registered contexts, by ordinal. */
+		private final Selection[] contextSelections;
+
+		/**
+		 * The selections of sets of contexts, by identity of the set. Copied on
+		 * write.
+		 */
+		private volatile Map<Collection<? extends IClientContext>, Selection> selections = java.util.Collections
+				.emptyMap();
+
+		Columns(Map<IConstraintDescriptor, Integer> ordinals, long[][] rows, long[] defaultRow) {
+			this.ordinals = ordinals;
+			this.rows = rows;
+			this.defaultRow = defaultRow;
+
+			contextSelections = new Selection[rows.length];
+		}
+
+		/**
+		 * Obtains the selection of a client context, computing it if necessary.
+		 *
+		 * @param context a client context
+		 * @return its selection
+		 */
+		Selection getSelection(IClientContext context) {
+			Integer ordinal = contextOrdinals.get(context);
+
+			if (ordinal == null) {
+				return new Selection(NO_BITS, new IClientContext[] { context });
+			}
+
+			// concurrent computations are equivalent
+			Selection result = contextSelections[ordinal];
+
+			if (result == null) {
+				result = computeSelection(java.util.Collections.singleton(context));
+				contextSelections[ordinal] = result;
+			}
+
+			return result;
+		}
+
+		/**
+		 * Obtains the selection of a set of client contexts, computing it if
+		 * necessary.
+		 *
+		 * @param contexts the client contexts of an object
+		 * @return their selection
+		 */
+		Selection getSelection(Collection<? extends IClientContext> contexts) {
+			Selection result = selections.get(contexts);
+
+			if (result == null) {
+				result = computeSelection(contexts);
+
+				synchronized (this) {
+					if (selections.size() < MAX_SELECTIONS) {
+						Map<Collection<? extends IClientContext>, Selection> copy = new java.util.IdentityHashMap<>(
+								selections);
+						copy.put(contexts, result);
+						selections = copy;
+					}
+				}
+			}
+
+			return result;
+		}
+
+		/**
+		 * Computes the selection of a set of client contexts.
+		 *
+		 * @param contexts some client contexts
+		 * @return their selection
+		 */
+		private Selection computeSelection(Collection<? extends IClientContext> contexts) {
+			long[] bits = NO_BITS;
+			List<IClientContext> foreign = null;
+
+			for (IClientContext next : contexts) {
+				Integer ordinal = contextOrdinals.get(next);
+
+				if (ordinal != null) {
+					bits = or(bits, rows[ordinal]);
+
+					if (next.isDefault()) {
+						bits = or(bits, defaultRow);
+					}
+				} else {
+					// a context that is not registered is not in the matrix
+					if (foreign == null) {
+						foreign = new java.util.ArrayList<>(1);
+					}
+
+					foreign.add(next);
+				}
+			}
+
+			return new Selection(bits,
+					(foreign == null) ? null : foreign.toArray(new IClientContext[foreign.size()]));
+		}
+	}
+}
@@ -1,5 +1,5 @@
 /******************************************************************************
- * Copyright (c) 2005, 2008 IBM Corporation, Zeligsoft Inc., and others.
+ * Copyright (c) 2005, 2026 IBM Corporation, Zeligsoft Inc., and others.
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
  * which is available at https://www.eclipse.org/legal/epl-2.0/
@@ -14,8 +14,11 @@
 package org.eclipse.emf.validation.internal.service;
 
 import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IConfigurationElement;
@@ -48,19 +51,23 @@ public class ClientContext implements IClientContext {
 	private static final String E_ENABLEMENT = "enablement"; //$NON-NLS-1$
 	private static final String E_SELECTOR = "selector"; //$NON-NLS-1$
 
+	/** The generation of the bindings of all client contexts. */
+	private static final AtomicInteger bindingsGeneration = new AtomicInteger();
+
 	private String id;
 	private IClientSelector selector;
 	private boolean isDefault;
 
-	// map of String constraint IDs that are bound to me, the boolean value
-	// indicating absolute inclusion or exclusion. Absence of a value means
-	// that we still need to compute
-	private final Map<String, Boolean> constraintBindings = new java.util.HashMap<>();
+	// the inclusion or exclusion of the constraints that are bound to me, by
+	// constraint ID, in the current bindings generation
+	private volatile BindingCache bindingCache = new BindingCache(-1);
 
-	// set of String category IDs that are bound to me
-	private BindingFilter filter = BindingFilter.NULL;
+	// the immutable filter chain of my bindings, replaced (by a new chain) when
+	// a binding is added
+	private volatile BindingFilter filter = BindingFilter.NULL;
 
-	private Collection<String> extendedClientContexts = new java.util.ArrayList<>(2);
+	// copy on write
+	private volatile List<String> extendedClientContexts = Collections.emptyList();
 
 	/**
 	 * Initializes me with my XML configuration.
@@ -260,6 +267,8 @@ public class ClientContext implements IClientContext {
 
 	public void setSelector(IClientSelector selector) {
 		this.selector = selector;
+
+		ClientContextManager.getInstance().invalidateSelections();
 	}
 
 	@Override
@@ -274,13 +283,30 @@ public class ClientContext implements IClientContext {
 		return (desc != null) && includes(desc);
 	}
 
+	/**
+	 * Queries whether a constraint is bound to me. This does not lock, so it may
+	 * be invoked concurrently by any number of validations.
+	 *
+	 * @param constraint a constraint descriptor
+	 * @return whether the constraint is bound to me
+	 */
 	boolean includes(IConstraintDescriptor constraint) {
-		Boolean result = constraintBindings.get(constraint.getId());
+		BindingCache cache = bindingCache;
+		int generation = getBindingsGeneration();
+
+		if (cache.generation != generation) {
+			// the bindings of me or of a context that I extend have changed
+			cache = new BindingCache(generation);
+			bindingCache = cache;
+		}
+
+		Boolean result = cache.bindings.get(constraint.getId());
 
 		if (result == null) {
-			// cache the result for this constraint
+			// cache the result for this constraint. Concurrent computations
+			// from the same filter agree
 			result = filter.getBinding(constraint);
-			constraintBindings.put(constraint.getId(), result);
+			cache.bindings.putIfAbsent(constraint.getId(), result);
 		}
 
 		return result;
@@ -291,8 +317,10 @@ public class ClientContext implements IClientContext {
 	 *
 	 * @param constraintId the ID of a constraint that is to be included in me
 	 */
-	public void includeConstraint(String constraintId) {
+	public synchronized void includeConstraint(String constraintId) {
 		filter = filter.includeConstraint(constraintId);
+
+		bindingsChanged();
 	}
 
 	/**
@@ -300,8 +328,10 @@ public class ClientContext implements IClientContext {
 	 *
 	 * @param constraintId the ID of a constraint that is to be excluded from me
 	 */
-	public void excludeConstraint(String constraintId) {
+	public synchronized void excludeConstraint(String constraintId) {
 		filter = filter.excludeConstraint(constraintId);
+
+		bindingsChanged();
 	}
 
 	/**
@@ -310,8 +340,10 @@ public class ClientContext implements IClientContext {
 	 * @param categoryId the qualified ID (path) of a constraint category that is to
 	 *                   be included in me
 	 */
-	public void includeCategory(String categoryId) {
+	public synchronized void includeCategory(String categoryId) {
 		filter = filter.includeCategory(categoryId);
+
+		bindingsChanged();
 	}
 
 	/**
@@ -320,8 +352,10 @@ public class ClientContext implements IClientContext {
 	 * @param categoryId the qualified ID (path) of a constraint category that is to
 	 *                   be excluded from me
 	 */
-	public void excludeCategory(String categoryId) {
+	public synchronized void excludeCategory(String categoryId) {
 		filter = filter.excludeCategory(categoryId);
+
+		bindingsChanged();
 	}
 
 	/**
@@ -329,12 +363,39 @@ public class ClientContext implements IClientContext {
 	 *
 	 * @param clientContextID a client-context to extend
 	 */
-	public void extendClientContext(String clientContextID) {
+	public synchronized void extendClientContext(String clientContextID) {
 		filter = filter.extendClientContext(clientContextID);
 
 		if (!extendedClientContexts.contains(clientContextID)) {
-			extendedClientContexts.add(clientContextID);
+			List<String> extended = new java.util.ArrayList<>(extendedClientContexts);
+			extended.add(clientContextID);
+			extendedClientContexts = Collections.unmodifiableList(extended);
 		}
+
+		bindingsChanged();
+	}
+
+	/**
+	 * Invalidates the plans and the binding matrices that were computed from the
+	 * bindings of the client contexts, which have changed.
+	 */
+	private static void bindingsChanged() {
+		bindingsGeneration.incrementAndGet();
+
+		DispatchPlanCache.getInstance().invalidate();
+	}
+
+	/**
+	 * Obtains the generation of the bindings of all client contexts, which
+	 * changes whenever a constraint, category, or extension is bound to any of
+	 * them.
+	 *
+	 * @return the bindings generation
+	 *
+	 * @see BindingMatrix
+	 */
+	static int getBindingsGeneration() {
+		return bindingsGeneration.get();
 	}
 
 	/**
@@ -415,21 +476,45 @@ public class ClientContext implements IClientContext {
 		return "ClientContext[" + getId() + ']'; //$NON-NLS-1$
 	}
 
+	/**
+	 * The bindings of constraints to a client context that were computed in a
+	 * generation of the bindings of all client contexts.
+	 */
+	private static final class BindingCache {
+		final int generation;
+
+		/**
+		 * Map of String constraint IDs that are bound to the context, the boolean
+		 * value indicating absolute inclusion or exclusion. Absence of a value
+		 * means that we still need to compute.
+		 */
+		final Map<String, Boolean> bindings = new java.util.concurrent.ConcurrentHashMap<>();
+
+		BindingCache(int generation) {
+			this.generation = generation;
+		}
+	}
+
 	/**
 	 * A chain-structured constraint-binding filter. Filters are chained in the
 	 * order in which they are parsed from the extension point. The head of the
 	 * filter chain applies its filter and, if it doesn't find any match, delegates
 	 * down the chain. The chain is terminated by the {@link #NULL} filter, which
 	 * always excludes the constraint.
+	 * <p>
+	 * Filters are immutable, so that they may be queried concurrently. Adding a
+	 * binding creates a new head of the chain, or a copy of the head augmented
+	 * with the binding.
+	 * </p>
 	 *
 	 * @author Christian W. Damus (cdamus)
 	 */
 	private static class BindingFilter {
 
-		private BindingFilter next;
+		private final BindingFilter next;
 
 		/** A filter that excludes every constraint. */
-		static final BindingFilter NULL = new BindingFilter() {
+		static final BindingFilter NULL = new BindingFilter(null) {
 
 			@Override
 			boolean getBinding(IConstraintDescriptor constraint) {
@@ -437,6 +522,15 @@ public class ClientContext implements IClientContext {
 			}
 		};
 
+		/**
+		 * Initializes me with the next filter in my chain.
+		 *
+		 * @param next my next, or <code>null</code> if I am the end of the chain
+		 */
+		BindingFilter(BindingFilter next) {
+			this.next = next;
+		}
+
 		/**
 		 * Queries whether the specified constraint is definitely included (
 		 * <code>true</code>) or excluded (<code>false</code>) from the client context.
@@ -481,19 +575,10 @@ public class ClientContext implements IClientContext {
 			return next;
 		}
 
-		/**
-		 * Assigns my next filter.
-		 *
-		 * @param next my new next
-		 */
-		void setNext(BindingFilter next) {
-			this.next = next;
-		}
-
 		/**
 		 * Obtains a filter, chaining me, that definitively includes the specified
 		 * category and all of its constraints and sub-categories. The result may be
-		 * optimized to be myself augmented with this category, if I am a filter of the
+		 * a copy of me augmented with this category, if I am a filter of the
 		 * appropriate kind. Or, the result may be a new filter chain.
 		 *
 		 * @param category a category to include
@@ -501,15 +586,13 @@ public class ClientContext implements IClientContext {
 		 * @return a filter that includes the category
 		 */
 		BindingFilter includeCategory(String category) {
-			CategoryInclusion result = new CategoryInclusion(category);
-			result.setNext(this);
-			return result;
+			return new CategoryInclusion(Collections.singleton(category), this);
 		}
 
 		/**
 		 * Obtains a filter, chaining me, that definitively excludes the specified
 		 * category and all of its constraints and sub-categories. The result may be
-		 * optimized to be myself augmented with this category, if I am a filter of the
+		 * a copy of me augmented with this category, if I am a filter of the
 		 * appropriate kind. Or, the result may be a new filter chain.
 		 *
 		 * @param category a category to exclude
@@ -517,57 +600,62 @@ public class ClientContext implements IClientContext {
 		 * @return a filter that excludes the category
 		 */
 		BindingFilter excludeCategory(String category) {
-			CategoryExclusion result = new CategoryExclusion(category);
-			result.setNext(this);
-			return result;
+			return new CategoryExclusion(Collections.singleton(category), this);
 		}
 
 		/**
 		 * Obtains a filter, chaining me, that definitively includes the specified
-		 * constraint. The result may be optimized to be myself augmented with this
-		 * constraint, if I am a filter of the appropriate kind. Or, the result may be a
-		 * new filter chain.
+		 * constraint. The result may be a copy of me augmented with this
+		 * constraint, if I am a filter of the appropriate kind. Or, the result may
+		 * be a new filter chain.
 		 *
 		 * @param constraint a constraint to include
 		 *
 		 * @return a filter that includes the constraint
 		 */
 		BindingFilter includeConstraint(String constraint) {
-			ConstraintInclusion result = new ConstraintInclusion(constraint);
-			result.setNext(this);
-			return result;
+			return new ConstraintInclusion(Collections.singleton(constraint), this);
 		}
 
 		/**
 		 * Obtains a filter, chaining me, that definitively excludes the specified
-		 * constraint. The result may be optimized to be myself augmented with this
-		 * constraint, if I am a filter of the appropriate kind. Or, the result may be a
-		 * new filter chain.
+		 * constraint. The result may be a copy of me augmented with this
+		 * constraint, if I am a filter of the appropriate kind. Or, the result may
+		 * be a new filter chain.
 		 *
 		 * @param constraint a constraint to exclude
 		 *
 		 * @return a filter that excludes the constraint
 		 */
 		BindingFilter excludeConstraint(String constraint) {
-			ConstraintExclusion result = new ConstraintExclusion(constraint);
-			result.setNext(this);
-			return result;
+			return new ConstraintExclusion(Collections.singleton(constraint), this);
 		}
 
 		/**
 		 * Obtains a filter, chaining me, that inherits the constraints bound to the
-		 * specified client-context. The result may be optimized to be myself myself
-		 * augmented with this client-context, if I am a filter of the appropriate kind.
-		 * Or, the result may be a new filter chain.
+		 * specified client-context. The result may be a copy of me augmented with
+		 * this client-context, if I am a filter of the appropriate kind. Or, the
+		 * result may be a new filter chain.
 		 *
 		 * @param clientContext a client-context to extend
 		 *
 		 * @return a filter that extends the client-context
 		 */
 		BindingFilter extendClientContext(String clientContext) {
-			ContextExtension result = new ContextExtension(clientContext);
-			result.setNext(this);
-			return result;
+			return new ContextExtension(Collections.singleton(clientContext), this);
+		}
+
+		/**
+		 * Creates an unmodifiable copy of a set of IDs with an additional ID.
+		 *
+		 * @param ids a set of IDs
+		 * @param id  an ID to add
+		 * @return the new set
+		 */
+		static Set<String> with(Set<String> ids, String id) {
+			Set<String> result = new java.util.HashSet<>(ids);
+			result.add(id);
+			return Collections.unmodifiableSet(result);
 		}
 	}
 
@@ -578,10 +666,11 @@ public class ClientContext implements IClientContext {
 	 */
 	private static class ConstraintInclusion extends BindingFilter {
 
-		private final Set<String> constraints = new java.util.HashSet<>();
+		private final Set<String> constraints;
 
-		ConstraintInclusion(String constraint) {
-			constraints.add(constraint);
+		ConstraintInclusion(Set<String> constraints, BindingFilter next) {
+			super(next);
+			this.constraints = constraints;
 		}
 
 		@Override
@@ -591,8 +680,8 @@ public class ClientContext implements IClientContext {
 
 		@Override
 		BindingFilter includeConstraint(String constraint) {
-			constraints.add(constraint);
-			return this;
+			return constraints.contains(constraint) ? this
+					: new ConstraintInclusion(with(constraints, constraint), next());
 		}
 	}
 
@@ -603,10 +692,11 @@ public class ClientContext implements IClientContext {
 	 */
 	private static class ConstraintExclusion extends BindingFilter {
 
-		private final Set<String> constraints = new java.util.HashSet<>();
+		private final Set<String> constraints;
 
-		ConstraintExclusion(String constraint) {
-			constraints.add(constraint);
+		ConstraintExclusion(Set<String> constraints, BindingFilter next) {
+			super(next);
+			this.constraints = constraints;
 		}
 
 		@Override
@@ -616,8 +706,8 @@ public class ClientContext implements IClientContext {
 
 		@Override
 		BindingFilter excludeConstraint(String constraint) {
-			constraints.add(constraint);
-			return this;
+			return constraints.contains(constraint) ? this
+					: new ConstraintExclusion(with(constraints, constraint), next());
 		}
 	}
 
@@ -628,21 +718,22 @@ public class ClientContext implements IClientContext {
 	 */
 	private static class CategoryInclusion extends BindingFilter {
 
-		private final CategorySet categories;
+		private final Set<String> categories;
 
-		CategoryInclusion(String category) {
-			categories = new CategorySet(category);
+		CategoryInclusion(Set<String> categories, BindingFilter next) {
+			super(next);
+			this.categories = categories;
 		}
 
 		@Override
 		boolean isIncluded(IConstraintDescriptor constraint) {
-			return categories.containsAny(constraint.getCategories());
+			return containsAny(categories, constraint.getCategories());
 		}
 
 		@Override
 		BindingFilter includeCategory(String category) {
-			categories.add(category);
-			return this;
+			return categories.contains(category) ? this
+					: new CategoryInclusion(with(categories, category), next());
 		}
 	}
 
@@ -653,73 +744,45 @@ public class ClientContext implements IClientContext {
 	 */
 	private static class CategoryExclusion extends BindingFilter {
 
-		private final CategorySet categories;
+		private final Set<String> categories;
 
-		CategoryExclusion(String category) {
-			categories = new CategorySet(category);
+		CategoryExclusion(Set<String> categories, BindingFilter next) {
+			super(next);
+			this.categories = categories;
 		}
 
 		@Override
 		boolean isExcluded(IConstraintDescriptor constraint) {
-			return categories.containsAny(constraint.getCategories());
+			return containsAny(categories, constraint.getCategories());
 		}
 
 		@Override
 		BindingFilter excludeCategory(String category) {
-			categories.add(category);
-			return this;
+			return categories.contains(category) ? this
+					: new CategoryExclusion(with(categories, category), next());
 		}
 	}
 
-	private static final class CategorySet {
-
-		private final Set<String> categories = new java.util.HashSet<>();
-
-		CategorySet(String category) {
-			categories.add(category);
-		}
-
-		boolean containsAny(Collection<? extends Category> categories) {
-			boolean result = false;
-
-			for (Category next : categories) {
-				if (contains(next)) {
-					result = true;
-					break;
-				}
-			}
-
-			return result;
-		}
-
-		boolean contains(Category category) {
-			boolean result = false;
-
-			String path = category.getPath();
-			result = categories.contains(path);
-
-			if (!result) {
-				// search the ancestors
-				Category ancestor = category.getParent();
-
-				while ((ancestor != null) && !result) {
-					result = categories.contains(ancestor.getPath());
-					ancestor = ancestor.getParent();
-				}
-
-				if (result) {
-					// cache the original category for quicker results on the
-					// next category that it contains
-					add(path);
+	/**
+	 * Queries whether any of the specified categories or their ancestors is
+	 * amongst a set of category paths. The results need not be remembered,
+	 * because the bindings of each constraint are computed only once.
+	 *
+	 * @param paths      a set of category paths
+	 * @param categories the categories of a constraint
+	 * @return whether any of the <code>categories</code> is in or nested in one
+	 *         of the <code>paths</code>
+	 */
+	static boolean containsAny(Set<String> paths, Collection<? extends Category> categories) {
+		for (Category next : categories) {
+			for (Category category = next; category != null; category = category.getParent()) {
+				if (paths.contains(category.getPath())) {
+					return true;
 				}
 			}
-
-			return result;
 		}
 
-		void add(String category) {
-			categories.add(category);
-		}
+		return false;
 	}
 
 	/**
@@ -729,32 +792,35 @@ public class ClientContext implements IClientContext {
 	 */
 	private static class ContextExtension extends BindingFilter {
 
-		private final Set<String> extendedContextIDs = new java.util.HashSet<>();
+		private final Set<String> extendedContextIDs;
 
-		private volatile Set<ClientContext> extendedContexts;
+		// resolved lazily because we don't know the order in which
+		// client-contexts will be discovered in the extension registry.
+		// Concurrent resolutions are equivalent
+		private volatile ClientContext[] extendedContexts;
 
-		ContextExtension(String clientContext) {
-			extendedContextIDs.add(clientContext);
+		ContextExtension(Set<String> extendedContextIDs, BindingFilter next) {
+			super(next);
+			this.extendedContextIDs = extendedContextIDs;
 		}
 
 		@Override
 		boolean isIncluded(IConstraintDescriptor constraint) {
-			if (extendedContexts == null) {
-				// do this lazily because we don't know the order in which
-				// client-contexts will be discovered in the extension registry
-				ClientContextManager mgr = ClientContextManager.getInstance();
-				Set<ClientContext> contexts = new java.util.HashSet<>();
+			ClientContext[] contexts = extendedContexts;
 
-				synchronized (extendedContextIDs) {
-					for (String next : extendedContextIDs) {
-						contexts.add((ClientContext) mgr.getClientContext(next));
-					}
+			if (contexts == null) {
+				ClientContextManager mgr = ClientContextManager.getInstance();
+				List<ClientContext> resolved = new java.util.ArrayList<>(extendedContextIDs.size());
 
-					extendedContexts = contexts;
+				for (String next : extendedContextIDs) {
+					resolved.add((ClientContext) mgr.getClientContext(next));
 				}
+
+				contexts = resolved.toArray(new ClientContext[resolved.size()]);
+				extendedContexts = contexts;
 			}
 
-			for (ClientContext extended : extendedContexts) {
+			for (ClientContext extended : contexts) {
 				if (extended.includes(constraint)) {
 					return true;
 				}
@@ -765,12 +831,8 @@ public class ClientContext implements IClientContext {
 
 		@Override
 		BindingFilter extendClientContext(String clientContext) {
-			synchronized (extendedContextIDs) {
-				extendedContexts = null; // purge
-				extendedContextIDs.add(clientContext);
-			}
-
-			return this;
+			return extendedContextIDs.contains(clientContext) ? this
+					: new ContextExtension(with(extendedContextIDs, clientContext), next());
 		}
 	}
 }
@@ -1,5 +1,5 @@
 /******************************************************************************
- * Copyright (c) 2005, 2008 IBM Corporation, Zeligsoft Inc., and others.
+ * Copyright (c) 2005, 2026 IBM Corporation, Zeligsoft Inc., and others.
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
  * which is available at https://www.eclipse.org/legal/epl-2.0/
@@ -14,13 +14,13 @@
  ****************************************************************************/
 package org.eclipse.emf.validation.internal.service;
 
+import java.lang.ref.Reference;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
-import org.eclipse.core.expressions.EvaluationContext;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IConfigurationElement;
 import org.eclipse.core.runtime.IExtension;
@@ -31,15 +31,18 @@ import org.eclipse.core.runtime.dynamichelpers.ExtensionTracker;
 import org.eclipse.core.runtime.dynamichelpers.IExtensionChangeHandler;
 import org.eclipse.core.runtime.dynamichelpers.IExtensionTracker;
 import org.eclipse.emf.common.EMFPlugin;
+import org.eclipse.emf.ecore.EClass;
 import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.resource.Resource;
 import org.eclipse.emf.validation.internal.EMFModelValidationPlugin;
 import org.eclipse.emf.validation.internal.EMFModelValidationStatusCodes;
 import org.eclipse.emf.validation.internal.l10n.ValidationMessages;
 import org.eclipse.emf.validation.internal.util.Log;
 import org.eclipse.emf.validation.internal.util.Trace;
-import org.eclipse.emf.validation.internal.util.XmlExpressionSelector;
+import org.eclipse.emf.validation.internal.util.WeakConcurrentMap;
 import org.eclipse.emf.validation.model.IClientSelector;
 import org.eclipse.emf.validation.model.IModelConstraint;
+import org.eclipse.emf.validation.model.IStableClientSelector;
 import org.eclipse.emf.validation.util.XmlConfig;
 
 /**
@@ -66,10 +69,12 @@ public class ClientContextManager {
 	private volatile Set<IClientContext> clientContexts = new java.util.HashSet<>();
 	private volatile Map<String, IClientContext> clientContextMap = new java.util.HashMap<>();
 
-	private volatile Set<ClientContext> defaultContexts = new java.util.HashSet<>();
-
 	private final Object clientContextLock = new Object();
 
+	private volatile SelectionCache selectionCache;
+
+	private volatile BindingMatrix bindingMatrix;
+
 	private final IExtensionChangeHandler extensionHandler = new IExtensionChangeHandler() {
 
 		@Override
@@ -82,6 +87,9 @@ public class ClientContextManager {
 				configureClientContexts(configs);
 				configureBindings(configs);
 			}
+
+			// the new contexts and extensions change the selections
+			invalidateSelections();
 		}
 
 		@Override
@@ -150,30 +158,119 @@ public class ClientContextManager {
 	}
 
 	/**
-	 * Obtains the client contexts to which the specified object belongs.
+	 * Obtains the client contexts to which the specified object belongs. The
+	 * selections of {@linkplain IStableClientSelector stable} selectors are
+	 * remembered for every class (or class and resource), and the resulting sets
+	 * of client contexts are shared by all objects that belong to the same
+	 * contexts.
 	 *
 	 * @param eObject a model element
-	 * @return the collection of client contexts to which the <code>eObject</code>
-	 *         belongs. This may be empty if no context selector matches this
-	 *         element
+	 * @return the unmodifiable collection of client contexts to which the
+	 *         <code>eObject</code> belongs. This may be empty if no context
+	 *         selector matches this element
 	 */
 	public Collection<IClientContext> getClientContextsFor(EObject eObject) {
-		Set<IClientContext> result = new java.util.HashSet<>();
+		SelectionCache cache = getSelectionCache();
 
-		EvaluationContext ctx = new EvaluationContext(null, eObject);
+		Set<IClientContext> result = getStableSelection(cache, eObject);
 
-		Collection<IClientContext> contextsCopy;
-		synchronized (clientContextLock) {
-			contextsCopy = getClientContexts();
+		if (!cache.unstable.isEmpty()) {
+			result = new java.util.HashSet<>(result);
+			select(cache.unstable, eObject, result);
 		}
-		for (IClientContext next : contextsCopy) {
 
-			IClientSelector selector = next.getSelector();
+		return cache.prune(result);
+	}
+
+	/**
+	 * Obtains the selection cache for the current client contexts, creating it
+	 * if necessary.
+	 *
+	 * @return the selection cache
+	 */
+	private SelectionCache getSelectionCache() {
+		SelectionCache result = selectionCache;
+
+		if ((result == null) || (result.contexts != clientContexts)) {
+			synchronized (clientContextLock) {
+				result = new SelectionCache(clientContexts);
+			}
+
+			selectionCache = result;
+		}
+
+		return result;
+	}
+
+	/**
+	 * Discards the remembered selections of client contexts, because the
+	 * contexts or their selectors or extensions have changed.
+	 */
+	void invalidateSelections() {
+		selectionCache = null;
+	}
+
+	/**
+	 * Obtains the client contexts selected for the specified object by the
+	 * stable selectors, from the cache if possible.
+	 *
+	 * @param cache   the selection cache
+	 * @param eObject a model element
+	 * @return the contexts selected by stable selectors (not to be modified)
+	 */
+	private Set<IClientContext> getStableSelection(SelectionCache cache, EObject eObject) {
+		EClass eClass = eObject.eClass();
+		Class<?> javaClass = eObject.getClass();
+		ClassSelection classSelection = cache.get(eClass, javaClass);
+
+		if (classSelection == null) {
+			Set<IClientContext> selection = new java.util.HashSet<>();
+			select(cache.classStable, eObject, selection);
+
+			classSelection = cache.put(eClass, javaClass, selection);
+		}
+
+		if (cache.resourceStable.isEmpty()) {
+			return classSelection.selection;
+		}
 
-			final Object toTest = (selector instanceof XmlExpressionSelector) ? (Object) ctx : (Object) eObject;
+		Resource resource = eObject.eResource();
+		Set<IClientContext> result;
+
+		synchronized (classSelection) {
+			result = classSelection.byResource.get(resource);
+		}
+
+		if (result == null) {
+			result = new java.util.HashSet<>(classSelection.selection);
+			select(cache.resourceStable, eObject, result);
+
+			synchronized (classSelection) {
+				classSelection.byResource.put(resource, result);
+			}
+		}
+
+		return result;
+	}
+
+	/**
+	 * Adds to a set the client contexts, from amongst those specified, that select
+	 * an object.
+	 *
+	 * @param contexts the client contexts to test
+	 * @param eObject  a model element
+	 * @param result   the set of client contexts to which to add those that select
+	 *                 the <code>eObject</code>
+	 */
+	private void select(List<IClientContext> contexts, EObject eObject, Set<IClientContext> result) {
+		for (IClientContext next : contexts) {
+
+			IClientSelector selector = next.getSelector();
 
 			try {
-				if (selector.selects(toTest)) {
+				// XML expression selectors test the object directly, without
+				// an evaluation context, unless they must interpret it
+				if (selector.selects(eObject)) {
 					result.add(next);
 				}
 			} catch (RuntimeException e) {
@@ -181,10 +278,14 @@ public class ClientContextManager {
 				// will not be trusted in future validation operations. This
 				// is effected by removing it from the context manager
 				synchronized (clientContextLock) {
+					// copy on write
+					clientContexts = new java.util.HashSet<>(clientContexts);
+					clientContextMap = new java.util.HashMap<>(clientContextMap);
+
 					clientContexts.remove(next);
 					clientContextMap.remove(next.getId());
-					defaultContexts.remove(next); // in case it is a default context
 				}
+				invalidateSelections();
 
 				Trace.catching(getClass(), "getClientContextsFor", e); //$NON-NLS-1$
 				Log.log(IStatus.ERROR, EMFModelValidationStatusCodes.CLIENT_SELECTOR_FAILURE, EMFModelValidationPlugin
@@ -192,12 +293,6 @@ public class ClientContextManager {
 						e);
 			}
 		}
-
-		if (result.size() > 1) {
-			ClientContext.pruneExtensions(result);
-		}
-
-		return result;
 	}
 
 	/**
@@ -220,11 +315,7 @@ public class ClientContextManager {
 			// no context recognizes this object? Oh, well, then there are
 			// no constraints
 			result = Collections.emptyList();
-		} else if (contexts.size() == 1) {
-			// easy when there's just one context
-			result = getBindings(contexts.iterator().next(), constraints);
 		} else {
-			// multiple contexts require more looping
 			result = getBindings(contexts, constraints);
 		}
 
@@ -243,103 +334,44 @@ public class ClientContextManager {
 	public <T extends IModelConstraint> Collection<T> getBindings(IClientContext context,
 			Collection<? extends T> constraints) {
 
-		Collection<T> result = new java.util.ArrayList<>(constraints.size());
-
-		for (T constraint : constraints) {
-			if (context.includes(constraint)) {
-				result.add(constraint);
-			} else if (context.isDefault()) {
-				// maybe this constraint is implictly bound to the default
-				// context, because it is not explicitly bound to any?
-				if (isDefaultBinding(constraint)) {
-					result.add(constraint);
-				}
-			}
-		}
-
-		return result;
+		return getBindingMatrix().filter(context, constraints);
 	}
 
 	/**
 	 * Computes the constraints bound any of the specified <code>contexts</code>
-	 * from amongst the specified collection.
+	 * from amongst the specified collection. A constraint that is not explicitly
+	 * bound to any context (even to a default context) is implicitly bound to
+	 * the default contexts.
 	 *
 	 * @param contexts    a collection of {@link IClientContext}s
 	 * @param constraints a collection of {@link IModelConstraint}s
 	 * @return the {@link IModelConstraint}s from amongst the specified
 	 *         <code>constraints</code> that are bound to the <code>context</code>
+	 *
+	 * @see IClientContext#isDefault()
 	 */
 	public <T extends IModelConstraint> Collection<T> getBindings(Collection<? extends IClientContext> contexts,
 			Collection<? extends T> constraints) {
 
-		Collection<T> result = new java.util.ArrayList<>(constraints.size());
-
-		// use an array for performance (to avoid creating so many iterators)
-		IClientContext[] ctxArray = contexts.toArray(new IClientContext[contexts.size()]);
-
-		// in case we don't find an explicit binding, we need to know whether
-		// we need to look for default bindings. This will only be the case
-		// if any of the current contexts is default
-		boolean anyContextIsDefault = false;
-
-		for (T constraint : constraints) {
-			boolean bound = false;
-
-			for (IClientContext element : ctxArray) {
-				bound = element.includes(constraint);
-
-				if (bound) {
-					result.add(constraint);
-					break; // needn't look at any more contexts
-				} else if (element.isDefault()) {
-					// no need to check for default contexts as long as we
-					// find explicit bindings
-					anyContextIsDefault = true;
-				}
-			}
-
-			if (!bound && anyContextIsDefault) {
-				// maybe this constraint is implictly bound to the default
-				// context, because it is not explicitly bound to any?
-				if (isDefaultBinding(constraint)) {
-					result.add(constraint);
-				}
-			}
-		}
-
-		return result;
+		return getBindingMatrix().filter(contexts, constraints);
 	}
 
 	/**
-	 * Computes whether the specified <code>constraint</code> is implicitly bound to
-	 * the default client contexts, by virtue of not being explicitly bound to any
-	 * context (even to a default context).
-	 * <p>
-	 * <em>Side Effect:</em> This method adds the <code>constraint</code>, if it is
-	 * indeed a default constraint, to all default client contexts, so that the
-	 * computation can be averted in future.
-	 * </p>
-	 *
-	 * @param constraint a constraint
-	 * @return whether the constraint is bound implicitly to default client contexts
+	 * Obtains the binding matrix for the current client contexts and their
+	 * bindings, creating it if necessary.
 	 *
-	 * @see IClientContext#isDefault()
+	 * @return the binding matrix
 	 */
-	private boolean isDefaultBinding(IModelConstraint constraint) {
-		boolean result = true;
-		String id = constraint.getDescriptor().getId();
-
-		for (Iterator<IClientContext> iter = clientContexts.iterator(); result && iter.hasNext();) {
-
-			result = !iter.next().includes(constraint);
-		}
+	private BindingMatrix getBindingMatrix() {
+		BindingMatrix result = bindingMatrix;
+		int generation = ClientContext.getBindingsGeneration();
 
-		if (result) {
-			// add the constraint to all default contexts so that we don't do
-			// this computation again
-			for (ClientContext next : defaultContexts) {
-				next.includeConstraint(id);
+		if ((result == null) || (result.contexts != clientContexts) || (result.generation != generation)) {
+			synchronized (clientContextLock) {
+				result = new BindingMatrix(clientContexts, generation);
 			}
+
+			bindingMatrix = result;
 		}
 
 		return result;
@@ -376,7 +408,6 @@ public class ClientContextManager {
 		// copy on write
 		clientContexts = new java.util.HashSet<>(clientContexts);
 		clientContextMap = new java.util.HashMap<>(clientContextMap);
-		defaultContexts = new java.util.HashSet<>(defaultContexts);
 
 		for (IConfigurationElement config : elements) {
 			if (E_CLIENT_CONTEXT.equals(config.getName())) {
@@ -386,20 +417,12 @@ public class ClientContextManager {
 					if (context != null) {
 						// it was a forward declaration
 						context.initialize(config);
-
-						if (context.isDefault()) {
-							defaultContexts.add(context);
-						}
 					} else {
 						context = new ClientContext(config);
 
 						// prevent duplicates
 						if (clientContexts.add(context)) {
 							clientContextMap.put(context.getId(), context);
-
-							if (context.isDefault()) {
-								defaultContexts.add(context);
-							}
 						}
 					}
 				} catch (CoreException e) {
@@ -511,4 +534,167 @@ public class ClientContextManager {
 			}
 		}
 	}
+
+	/**
+	 * The remembered selections of client contexts for a snapshot of the
+	 * registered contexts. A new cache replaces it when the contexts change, so
+	 * that selections computed concurrently with the change are not retained.
+	 */
+	private static final class SelectionCache {
+		final Set<IClientContext> contexts;
+
+		/** The contexts whose selection depends only on the (Java) class. */
+		final List<IClientContext> classStable = new java.util.ArrayList<>();
+
+		/** The contexts whose selection depends on the EClass and resource. */
+		final List<IClientContext> resourceStable = new java.util.ArrayList<>();
+
+		/** The contexts whose selection depends on the object. */
+		final List<IClientContext> unstable = new java.util.ArrayList<>();
+
+		// a weak map to avoid interfering with garbage-collection of EMF
+		// metamodels. It is read without locking for every validated object
+		private final WeakConcurrentMap<EClass, ClassSelection> byClass = new WeakConcurrentMap<>();
+
+		/** Canonical sets of client contexts with their extensions pruned. */
+		private final Map<Set<IClientContext>, Set<IClientContext>> pruned =
+				new java.util.concurrent.ConcurrentHashMap<>();
+
+		SelectionCache(Set<IClientContext> contexts) {
+			this.contexts = contexts;
+
+			for (IClientContext next : contexts) {
+				IClientSelector selector = next.getSelector();
+				IStableClientSelector.Stability stability = (selector instanceof IStableClientSelector)
+						? ((IStableClientSelector) selector).getStability()
+						: null;
+
+				if (stability == IStableClientSelector.Stability.ECLASS) {
+					classStable.add(next);
+				} else if (stability == IStableClientSelector.Stability.RESOURCE) {
+					resourceStable.add(next);
+				} else {
+					unstable.add(next);
+				}
+			}
+		}
+
+		/**
+		 * Obtains the remembered selection of the objects of an EClass that are
+		 * instances of a Java class.
+		 *
+		 * @param eClass    the EClass of the objects
+		 * @param javaClass the Java class of the objects
+		 * @return the selection, or <code>null</code> if none is remembered
+		 */
+		ClassSelection get(EClass eClass, Class<?> javaClass) {
+			return find(byClass.get(eClass), javaClass);
+		}
+
+		/**
+		 * Finds the selection of a Java class in a chain of selections.
+		 *
+		 * @param chain     the first selection of the chain, or <code>null</code>
+		 * @param javaClass the Java class of the objects
+		 * @return the selection, or <code>null</code> if none is chained
+		 */
+		private static ClassSelection find(ClassSelection chain, Class<?> javaClass) {
+			for (ClassSelection next = chain; next != null; next = next.next) {
+				if (next.javaClass.get() == javaClass) {
+					return next;
+				}
+			}
+
+			return null;
+		}
+
+		/**
+		 * Remembers the selection of the objects of an EClass that are instances of
+		 * a Java class, unless another thread remembered it in the meantime.
+		 *
+		 * @param eClass    the EClass of the objects
+		 * @param javaClass the Java class of the objects
+		 * @param selection the client contexts selected by class-stable selectors
+		 * @return the remembered selection
+		 */
+		ClassSelection put(EClass eClass, Class<?> javaClass, Set<IClientContext> selection) {
+			for (;;) {
+				ClassSelection chain = byClass.get(eClass);
+				ClassSelection result = find(chain, javaClass);
+
+				if (result != null) {
+					return result;
+				}
+
+				// chain the new selection in front of the others, unless another
+				// thread changed the chain in the meantime
+				result = new ClassSelection(javaClass, selection, chain);
+
+				if ((chain == null) ? (byClass.putIfAbsent(eClass, result) == result)
+						: byClass.replace(eClass, chain, result)) {
+					return result;
+				}
+			}
+		}
+
+		/**
+		 * Obtains the canonical set of the specified client contexts without those
+		 * that are extended by others in the set, pruning them only once for every
+		 * distinct set of contexts.
+		 *
+		 * @param selected a set of selected client contexts, which must not be
+		 *                 modified afterwards
+		 * @return the pruned, unmodifiable set of client contexts
+		 */
+		Set<IClientContext> prune(Set<IClientContext> selected) {
+			Set<IClientContext> result = pruned.get(selected);
+
+			if (result == null) {
+				result = new java.util.HashSet<>(selected);
+
+				if (result.size() > 1) {
+					ClientContext.pruneExtensions(result);
+				}
+
+				result = Collections.unmodifiableSet(result);
+
+				// another thread may have pruned the same set in the meantime
+				Set<IClientContext> existing = pruned.putIfAbsent(selected, result);
+				if (existing != null) {
+					result = existing;
+				}
+			}
+
+			return result;
+		}
+	}
+
+	/**
+	 * The remembered selection of the objects of an EClass that are instances of
+	 * a particular Java class. The objects of an EClass are usually instances of a
+	 * single Java class, but may be instances of others, such as when they are
+	 * created dynamically, so the selections of other Java classes are chained.
+	 */
+	private static final class ClassSelection {
+		/** Weakly referenced, as the class would otherwise retain the EClass. */
+		final Reference<Class<?>> javaClass;
+
+		/** The contexts selected by the class-stable selectors. */
+		final Set<IClientContext> selection;
+
+		/**
+		 * Selections including the resource-stable selectors, by resource. Must be
+		 * accessed while synchronized on me.
+		 */
+		final Map<Resource, Set<IClientContext>> byResource = new java.util.WeakHashMap<>();
+
+		/** The selection of another Java class of the same EClass, if any. */
+		final ClassSelection next;
+
+		ClassSelection(Class<?> javaClass, Set<IClientContext> selection, ClassSelection next) {
+			this.javaClass = new java.lang.ref.WeakReference<Class<?>>(javaClass);
+			this.selection = selection;
+			this.next = next;
+		}
+	}
 }
@@ -1,5 +1,5 @@
 /******************************************************************************
- * Copyright (c) 2003, 2007 IBM Corporation and others.
+ * Copyright (c) 2003, 2026 IBM Corporation and others.
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
  * which is available at https://www.eclipse.org/legal/epl-2.0/
@@ -12,8 +12,12 @@
 package org.eclipse.emf.validation.internal.service;
 
 import java.util.Collection;
-import java.util.Iterator;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.LongBinaryOperator;
 
 import org.eclipse.emf.common.notify.Notification;
 import org.eclipse.emf.ecore.EClass;
@@ -25,7 +29,9 @@ import org.eclipse.emf.validation.internal.EMFModelValidationDebugOptions;
 import org.eclipse.emf.validation.internal.EMFModelValidationStatusCodes;
 import org.eclipse.emf.validation.internal.util.Log;
 import org.eclipse.emf.validation.internal.util.Trace;
+import org.eclipse.emf.validation.internal.util.WeakConcurrentMap;
 import org.eclipse.emf.validation.model.IModelConstraint;
+import org.eclipse.emf.validation.service.ConstraintCacheStatistics;
 import org.eclipse.emf.validation.service.IModelConstraintProvider;
 
 /**
@@ -38,7 +44,8 @@ import org.eclipse.emf.validation.service.IModelConstraintProvider;
  * <li>the batch constraints for the <code>EClass</code></li>
  * <li>the live constraints for the <code>EClass</code>:
  * <ul>
- * one bucket for each triggering event type
+ * one array for each triggering event type and feature, indexed by the event
+ * type code and the feature ID
  * <li></li>
  * </ul>
  * </li>
@@ -52,112 +59,264 @@ import org.eclipse.emf.validation.service.IModelConstraintProvider;
  * </li>
  * </ul>
  * </p>
+ * <p>
+ * The cache may be shared by validators running concurrently (for example, the
+ * workers of a parallel batch validation) without any global lock. The buckets
+ * are held in a weak-keyed concurrent map, and every bucket publishes its
+ * constraints in arrays that are never modified once published, so that
+ * lookups of cached constraints do not lock at all. When constraints are not
+ * yet cached, they are retrieved from the providers only once, while holding
+ * the lock of the bucket, so that concurrent lookups of other EMF classes are
+ * not blocked.
+ * </p>
+ * <p>
+ * The cache is {@linkplain #invalidate() invalidated} by advancing its epoch,
+ * when providers are added and when constraints are registered or
+ * unregistered. Every bucket records the epoch in which it was created, and a
+ * bucket of an earlier epoch is replaced by an empty bucket when it is next
+ * looked up, so that the constraints of the buckets that are actually used are
+ * retrieved again from the providers. Enablement of constraints does not
+ * invalidate the cache, because the cached constraints are not yet filtered.
+ * </p>
+ * <p>
+ * Every bucket counts the hits and misses of its lookups and the time spent
+ * in retrieving constraints from the providers on misses. These counters are
+ * carried over when a bucket is replaced in a new epoch, and are reported
+ * together with the sizes of the buckets as {@linkplain #getStatistics()
+ * statistics}. The counters of the buckets are also accumulated in counters
+ * of the whole cache, which retain the lookups of the buckets that are evicted
+ * when their EMF classes are garbage-collected, and which are maintained
+ * together with the number of cached constraint references and of evicted
+ * buckets so that the totals are reported without visiting every bucket.
+ * </p>
  *
  * @author Christian W. Damus (cdamus)
  */
 public class ConstraintCache implements IModelConstraintProvider {
-	/**
-	 * Cache bucket key for a non-feature used for notifications that are not
-	 * related to any specific feature).
-	 */
-	private static final String NOT_A_FEATURE_NAME = "$none$"; //$NON-NLS-1$
+	/** The counters of all lookups, including those of evicted buckets. */
+	private final Counters totals = new Counters(null);
+
+	/** The number of constraint references in the current buckets. */
+	private final LongAdder references = new LongAdder();
+
+	/** The number of buckets evicted because their EMF classes were collected. */
+	private final LongAdder evictions = new LongAdder();
 
 	/**
 	 * Mapping of {@link EClass} ==&gt; {@link EClassBucket}. The map is a weak map
 	 * to avoid interfering with garbage-collection of EMF metamodels (and to clean
-	 * up the cache when metamodels disappear!).
+	 * up the cache when metamodels disappear!). Evicted buckets are counted and
+	 * withdraw their constraint references from the total.
+	 */
+	private final WeakConcurrentMap<EClass, EClassBucket> buckets = new WeakConcurrentMap<>(
+			new Consumer<EClassBucket>() {
+				@Override
+				public void accept(EClassBucket bucket) {
+					bucket.retire();
+					evictions.increment();
+				}
+			});
+
+	/**
+	 * The cacheable providers. A copy-on-write list, so that it may be iterated
+	 * while providers are added or removed.
 	 */
-	private final Map<EClass, EClassBucket> buckets = new java.util.WeakHashMap<>();
+	private final Collection<IProviderDescriptor> providers = new java.util.concurrent.CopyOnWriteArrayList<>();
 
-	/** The cacheable providers. */
-	private final Collection<IProviderDescriptor> providers = new java.util.ArrayList<>();
+	/** The current epoch, which is advanced when the cache is invalidated. */
+	private final AtomicInteger epoch = new AtomicInteger();
 
 	/**
 	 * A container for the constraints provided by all cacheable providers for a
-	 * particular EMF type ({@link EClass}).
+	 * particular EMF type ({@link EClass}). The constraints are published in
+	 * arrays that are never modified, and which may therefore be read without
+	 * locking. Updates are copied on write while holding the lock of the bucket.
 	 *
 	 * @author Christian W. Damus (cdamus)
 	 */
-	private static class EClassBucket {
-		private Collection<IModelConstraint> batchConstraints;
-		private final Map<EMFEventType, Map<String, Collection<IModelConstraint>>> liveConstraints = new java.util.HashMap<>();
+	private static final class EClassBucket {
+		private static final IModelConstraint[][] NO_FEATURES = {};
+
+		/** The epoch of the cache in which I was created. */
+		final int epoch;
+
+		/** The statistics of my EMF class, which outlive me. */
+		final Counters counters;
+
+		/** The cache's count of constraint references, to which I contribute. */
+		private final LongAdder references;
+
+		/** My count of constraint references, which is updated under my lock. */
+		private volatile int referenceCount;
+
+		/** Whether I was replaced or evicted, no longer contributing references. */
+		private boolean retired;
+
+		private volatile IModelConstraint[] batchConstraints;
+
+		/**
+		 * The live constraints, indexed by notification event type code and then by
+		 * {@linkplain #getFeatureSlot(EClass, Object) feature slot}. Neither the
+		 * nested arrays nor the constraint arrays are modified once published.
+		 */
+		private volatile IModelConstraint[][][] liveConstraints =
+				new IModelConstraint[Notification.EVENT_TYPE_COUNT][][];
 
 		/**
 		 * Initializes me.
+		 *
+		 * @param epoch      the current epoch of the cache
+		 * @param counters   the statistics of my EMF class
+		 * @param references the cache's count of constraint references
+		 */
+		EClassBucket(int epoch, Counters counters, LongAdder references) {
+			this.epoch = epoch;
+			this.counters = counters;
+			this.references = references;
+		}
+
+		/**
+		 * Obtains the current statistics of my EMF class.
+		 *
+		 * @return my statistics
+		 */
+		ConstraintCacheStatistics.ClassStatistics getStatistics() {
+			return counters.getStatistics(referenceCount);
+		}
+
+		/**
+		 * Accounts for a change in the number of constraint references that I cache.
+		 * Must be called while holding my lock.
+		 *
+		 * @param delta the number of references added (or removed, if negative)
+		 */
+		private void count(int delta) {
+			referenceCount += delta;
+
+			if (!retired) {
+				references.add(delta);
+			}
+		}
+
+		/**
+		 * Withdraws my constraint references from the cache's count, when I am
+		 * replaced in a new epoch or evicted. Lookups that still hold me may go on
+		 * filling me, but are no longer counted.
 		 */
-		EClassBucket() {
-			super();
+		synchronized void retire() {
+			if (!retired) {
+				retired = true;
+				references.add(-referenceCount);
+			}
 		}
 
 		/**
 		 * Obtains the batch constraints for my EMF class.
 		 *
 		 * @return my batch constraints, or <code>null</code> if they have not yet been
-		 *         retrieved from my registered providers
+		 *         retrieved from my registered providers. The array must not be
+		 *         modified
 		 */
-		Collection<IModelConstraint> getBatchConstraints() {
+		IModelConstraint[] getBatchConstraints() {
 			return batchConstraints;
 		}
 
 		/**
-		 * Assigns the batch constraints for my EMF class.
+		 * Assigns the batch constraints for my EMF class. Must be called while
+		 * holding my lock.
 		 *
 		 * @param constraints the batch constraints
+		 * @return the cached constraints
 		 */
-		void cacheBatchConstraints(Collection<IModelConstraint> constraints) {
-			batchConstraints = new java.util.ArrayList<>(constraints);
+		IModelConstraint[] cacheBatchConstraints(Collection<IModelConstraint> constraints) {
+			IModelConstraint[] result = constraints.toArray(new IModelConstraint[constraints.size()]);
+			count(result.length - length(batchConstraints));
+			batchConstraints = result;
+
+			return result;
 		}
 
 		/**
-		 * Obtains the live constraints for my EMF class, for the specified
-		 * <code>eventType</code> and feature name.
+		 * Computes the slot in which the live constraints for changes to a feature
+		 * are cached: slot <code>0</code> for notifications that are not about a
+		 * structural feature, otherwise the feature ID plus one.
 		 *
-		 * @param eventType   the EMF notification event type
-		 * @param featureName the name of the feature that produced the notification
-		 *                    (may be <code>null</code> if the notification was not a
-		 *                    feature change)
-		 * @return the corresponding constraints, or <code>null</code> if they have not
-		 *         yet been retrieved from my registered providers
+		 * @param eClass  the EMF class of the notifier
+		 * @param feature the feature of the notification
+		 * @return the feature slot, or <code>-1</code> if the <code>feature</code> is
+		 *         a structural feature that is not a feature of the
+		 *         <code>eClass</code>
 		 */
-		Collection<IModelConstraint> getLiveConstraints(EMFEventType eventType, String featureName) {
-			if (featureName == null) {
-				featureName = NOT_A_FEATURE_NAME;
+		static int getFeatureSlot(EClass eClass, Object feature) {
+			if (feature instanceof EStructuralFeature) {
+				int featureID = eClass.getFeatureID((EStructuralFeature) feature);
+
+				return (featureID < 0) ? -1 : featureID + 1;
 			}
 
-			Map<String, Collection<IModelConstraint>> constraintMap = liveConstraints.get(eventType);
+			return 0;
+		}
 
-			if (constraintMap != null) {
-				return constraintMap.get(featureName);
-			} else {
+		/**
+		 * Obtains the live constraints for my EMF class, for the specified event type
+		 * and feature.
+		 *
+		 * @param eventCode   the EMF notification event type code
+		 * @param featureSlot the slot of the feature that produced the notification
+		 * @return the corresponding constraints, or <code>null</code> if they have not
+		 *         yet been retrieved from my registered providers. The array must not
+		 *         be modified
+		 */
+		IModelConstraint[] getLiveConstraints(int eventCode, int featureSlot) {
+			IModelConstraint[][][] live = liveConstraints;
+
+			if ((eventCode < 0) || (eventCode >= live.length)) {
 				return null;
 			}
+
+			IModelConstraint[][] featureConstraints = live[eventCode];
+
+			return ((featureConstraints == null) || (featureSlot >= featureConstraints.length)) ? null
+					: featureConstraints[featureSlot];
 		}
 
 		/**
-		 * Assigns the live constraints for my EMF class, for the specified
-		 * <code>eventType</code> and feature name.
+		 * Assigns the live constraints for my EMF class, for the specified event type
+		 * and feature. Must be called while holding my lock.
 		 *
-		 * @param eventType   the EMF notification event type
-		 * @param featureName the name of the feature that produced the notification
-		 *                    (may be <code>null</code> if the notification was not a
-		 *                    feature change)
+		 * @param eClass      my EMF class
+		 * @param eventCode   the (non-negative) code of a known {@link EMFEventType}
+		 * @param featureSlot the (non-negative) slot of the feature that produced the
+		 *                    notification
 		 * @param constraints the corresponding constraints
+		 * @return the cached constraints
 		 */
-		void cacheLiveConstraints(EMFEventType eventType, String featureName,
+		IModelConstraint[] cacheLiveConstraints(EClass eClass, int eventCode, int featureSlot,
 				Collection<IModelConstraint> constraints) {
 
-			if (featureName == null) {
-				featureName = NOT_A_FEATURE_NAME;
-			}
+			// a custom event type may need more rows, but only known event types
+			// are cached, so the table is bounded
+			IModelConstraint[][][] live = java.util.Arrays.copyOf(liveConstraints,
+					Math.max(liveConstraints.length, eventCode + 1));
 
-			Map<String, Collection<IModelConstraint>> constraintMap = liveConstraints.get(eventType);
+			IModelConstraint[][] featureConstraints = live[eventCode];
 
-			if (constraintMap == null) {
-				constraintMap = new java.util.HashMap<>();
-				liveConstraints.put(eventType, constraintMap);
+			if (featureConstraints == null) {
+				featureConstraints = NO_FEATURES;
 			}
 
-			constraintMap.put(featureName, new java.util.ArrayList<>(constraints));
+			// the class may have gained features since the slots were allocated
+			featureConstraints = java.util.Arrays.copyOf(featureConstraints,
+					Math.max(featureConstraints.length, Math.max(featureSlot, eClass.getFeatureCount()) + 1));
+
+			IModelConstraint[] result = constraints.toArray(new IModelConstraint[constraints.size()]);
+			count(result.length - length(featureConstraints[featureSlot]));
+			featureConstraints[featureSlot] = result;
+			live[eventCode] = featureConstraints;
+
+			liveConstraints = live; // publish
+
+			return result;
 		}
 
 		/**
@@ -166,20 +325,57 @@ public class ConstraintCache implements IModelConstraintProvider {
 		 * @param oldConstraint the constraint to be replaced
 		 * @param newConstraint the new constraint to replace it
 		 */
-		void replace(IModelConstraint oldConstraint, IModelConstraint newConstraint) {
-			// replace in the batch constraints, if appropriate
-			if ((batchConstraints != null) && batchConstraints.remove(oldConstraint)) {
-				batchConstraints.add(newConstraint);
+		synchronized void replace(IModelConstraint oldConstraint, IModelConstraint newConstraint) {
+			// replace in copies of the constraints, if appropriate, as lookups
+			// may still be using the originals
+			batchConstraints = replace(batchConstraints, oldConstraint, newConstraint);
+
+			IModelConstraint[][][] live = liveConstraints.clone();
+
+			for (int i = 0; i < live.length; i++) {
+				IModelConstraint[][] featureConstraints = live[i];
+
+				if (featureConstraints != null) {
+					featureConstraints = featureConstraints.clone();
+
+					for (int j = 0; j < featureConstraints.length; j++) {
+						featureConstraints[j] = replace(featureConstraints[j], oldConstraint, newConstraint);
+					}
+
+					live[i] = featureConstraints;
+				}
 			}
 
-			// replace in the live constraints, if appropriate
-			for (Map<String, Collection<IModelConstraint>> next : liveConstraints.values()) {
-				for (Collection<IModelConstraint> constraints : next.values()) {
-					if ((constraints != null) && constraints.remove(oldConstraint)) {
-						constraints.add(newConstraint);
+			liveConstraints = live; // publish
+		}
+
+		private static int length(IModelConstraint[] constraints) {
+			return (constraints == null) ? 0 : constraints.length;
+		}
+
+		/**
+		 * Replaces a constraint in a copy of an array of constraints.
+		 *
+		 * @param constraints   an array of constraints, or <code>null</code>
+		 * @param oldConstraint the constraint to be replaced
+		 * @param newConstraint the new constraint to replace it
+		 * @return the copy in which the constraint is replaced, or the original
+		 *         <code>constraints</code> if they do not include the old constraint
+		 */
+		private static IModelConstraint[] replace(IModelConstraint[] constraints, IModelConstraint oldConstraint,
+				IModelConstraint newConstraint) {
+
+			if (constraints != null) {
+				for (int i = 0; i < constraints.length; i++) {
+					if (oldConstraint.equals(constraints[i])) {
+						IModelConstraint[] result = constraints.clone();
+						result[i] = newConstraint;
+						return result;
 					}
 				}
 			}
+
+			return constraints;
 		}
 	}
 
@@ -249,23 +445,112 @@ public class ConstraintCache implements IModelConstraintProvider {
 		assert provider.isCacheEnabled();
 
 		getProviders().add(provider);
+
+		// the new provider may provide constraints for classes already cached
+		invalidate();
 	}
 
 	/**
-	 * Obtains the cache bucket for the specified EMF type.
+	 * Invalidates all of the cached constraints, so that they are retrieved again
+	 * from the providers on demand.
+	 */
+	public void invalidate() {
+		epoch.incrementAndGet();
+
+		if (Trace.shouldTrace(EMFModelValidationDebugOptions.CACHE)) {
+			Trace.trace(EMFModelValidationDebugOptions.CACHE, "Invalidated constraint cache"); //$NON-NLS-1$
+		}
+	}
+
+	/**
+	 * Obtains the cache bucket of the current epoch for the specified EMF type,
+	 * replacing the bucket of an earlier epoch, if any.
 	 *
 	 * @param clazz the EMF type
 	 * @return the corresponding bucket
 	 */
 	private EClassBucket getBucket(EClass clazz) {
-		EClassBucket result = buckets.get(clazz);
+		final int current = epoch.get();
 
-		if (result == null) {
-			result = new EClassBucket();
-			buckets.put(clazz, result);
+		for (;;) {
+			EClassBucket result = buckets.get(clazz);
+
+			if ((result != null) && (result.epoch - current >= 0)) {
+				return result;
+			}
+
+			// the statistics of the class survive the replacement of its bucket
+			EClassBucket fresh = new EClassBucket(current,
+					(result == null) ? new Counters(totals) : result.counters, references);
+
+			if (result == null) {
+				if (buckets.putIfAbsent(clazz, fresh) == fresh) {
+					return fresh;
+				}
+			} else if (buckets.replace(clazz, result, fresh)) {
+				result.retire();
+				return fresh;
+			}
+
+			// another thread has replaced the bucket in the meantime
 		}
+	}
 
-		return result;
+	/**
+	 * Computes the current statistics of the cache, including those of every EMF
+	 * class that has a bucket.
+	 *
+	 * @return the statistics
+	 */
+	public ConstraintCacheStatistics getStatistics() {
+		Map<EClass, ConstraintCacheStatistics.ClassStatistics> result = new java.util.LinkedHashMap<>();
+
+		for (Map.Entry<EClass, EClassBucket> next : buckets.toMap().entrySet()) {
+			result.put(next.getKey(), next.getValue().getStatistics());
+		}
+
+		return new ConstraintCacheStatistics(getTotals(), result.size(), getEvictedBucketCount(), result);
+	}
+
+	/**
+	 * Obtains the cumulative statistics of the whole cache, without visiting its
+	 * buckets. The lookups of the buckets that were evicted are included.
+	 *
+	 * @return the total statistics
+	 */
+	public ConstraintCacheStatistics.ClassStatistics getTotals() {
+		return totals.getStatistics(references.sum());
+	}
+
+	/**
+	 * Queries the number of EMF classes that currently have a bucket.
+	 *
+	 * @return the number of buckets
+	 */
+	public int getBucketCount() {
+		return buckets.size();
+	}
+
+	/**
+	 * Queries the number of buckets that were evicted because their EMF classes
+	 * were garbage-collected.
+	 *
+	 * @return the number of evicted buckets
+	 */
+	public long getEvictedBucketCount() {
+		return evictions.sum();
+	}
+
+	/**
+	 * Resets the hit, miss, fill time, and eviction counters of the cache.
+	 */
+	public void resetStatistics() {
+		totals.reset();
+		evictions.reset();
+
+		for (EClassBucket next : buckets.values()) {
+			next.counters.reset();
+		}
 	}
 
 	/**
@@ -275,9 +560,7 @@ public class ConstraintCache implements IModelConstraintProvider {
 	 * @return the constraints retrieved by the operation
 	 */
 	private Collection<IModelConstraint> execute(AbstractGetConstraintsOperation operation) {
-		for (Iterator<IProviderDescriptor> iter = getProviders().iterator(); iter.hasNext();) {
-			IProviderDescriptor next = iter.next();
-
+		for (IProviderDescriptor next : getProviders()) {
 			if (next.provides(operation)) {
 				try {
 					operation.execute(next.getProvider());
@@ -286,7 +569,7 @@ public class ConstraintCache implements IModelConstraintProvider {
 					Log.l7dWarning(EMFModelValidationStatusCodes.PROVIDER_FAILURE,
 							EMFModelValidationStatusCodes.PROVIDER_FAILURE_MSG, e);
 
-					iter.remove(); // don't try the offending provider, again
+					getProviders().remove(next); // don't try the offending provider, again
 				}
 			}
 		}
@@ -309,39 +592,93 @@ public class ConstraintCache implements IModelConstraintProvider {
 
 		if (notification.getNotifier() instanceof EObject) {
 			final EObject eObject = (EObject) notification.getNotifier();
-			final EMFEventType eventType = EMFEventType.getInstance(notification.getEventType());
+			final EClass eClass = eObject.eClass();
+			final int eventCode = notification.getEventType();
+			final int featureSlot = EClassBucket.getFeatureSlot(eClass, notification.getFeature());
 
-			String featureName = null;
-			if (notification.getFeature() instanceof EStructuralFeature) {
-				featureName = ((EStructuralFeature) notification.getFeature()).getName();
-			}
-
-			EClassBucket bucket = getBucket(eObject.eClass());
-			Collection<IModelConstraint> cached = bucket.getLiveConstraints(eventType, featureName);
+			EClassBucket bucket = getBucket(eClass);
+			IModelConstraint[] cached = bucket.getLiveConstraints(eventCode, featureSlot);
 
 			if (cached == null) {
-				if (Trace.shouldTrace(EMFModelValidationDebugOptions.CACHE)) {
-					Trace.trace(EMFModelValidationDebugOptions.CACHE, "Cache missed live constraints for: " //$NON-NLS-1$
-							+ Trace.toString(new Object[] { qualifiedName(eObject.eClass()), eventType, featureName }));
+				long start = System.nanoTime();
+
+				if (isCacheable(eventCode, featureSlot)) {
+					synchronized (bucket) {
+						// another thread may have retrieved them in the meantime
+						cached = bucket.getLiveConstraints(eventCode, featureSlot);
+
+						if (cached == null) {
+							cached = bucket.cacheLiveConstraints(eClass, eventCode, featureSlot,
+									provideLiveConstraints(notification));
+							bucket.counters.liveMiss(System.nanoTime() - start);
+						} else {
+							bucket.counters.liveHit();
+						}
+					}
+				} else {
+					// features of other classes and unknown event types are not
+					// cached
+					Collection<IModelConstraint> provided = provideLiveConstraints(notification);
+					cached = provided.toArray(new IModelConstraint[provided.size()]);
+					bucket.counters.liveMiss(System.nanoTime() - start);
 				}
+			} else {
+				bucket.counters.liveHit();
+			}
 
-				// not cached, yet? Ask my providers
-				GetLiveConstraintsOperation operation = new GetLiveConstraintsOperation();
-				operation.setNotification(notification);
+			for (IModelConstraint next : cached) {
+				result.add(next);
+			}
+		}
 
-				cached = execute(operation);
-				bucket.cacheLiveConstraints(eventType, featureName, cached);
+		return result;
+	}
+
+	/**
+	 * Queries whether the live constraints for a notification may be cached. The
+	 * constraints are not cached for the features of other classes than the
+	 * notifier's, nor for event type codes that do not correspond to any
+	 * {@link EMFEventType}, which would otherwise each allocate a row of the
+	 * bucket's table.
+	 *
+	 * @param eventCode   the EMF notification event type code
+	 * @param featureSlot the slot of the feature that produced the notification
+	 * @return whether to cache the constraints
+	 */
+	private static boolean isCacheable(int eventCode, int featureSlot) {
+		return (eventCode >= 0) && (featureSlot >= 0) && !EMFEventType.getInstance(eventCode).isNull();
+	}
+
+	/**
+	 * Retrieves the live constraints for a notification from my providers, on a
+	 * cache miss.
+	 *
+	 * @param notification a notification from an {@link EObject}
+	 * @return the provided constraints
+	 */
+	private Collection<IModelConstraint> provideLiveConstraints(Notification notification) {
+		if (Trace.shouldTrace(EMFModelValidationDebugOptions.CACHE)) {
+			String featureName = null;
+			if (notification.getFeature() instanceof EStructuralFeature) {
+				featureName = ((EStructuralFeature) notification.getFeature()).getName();
 			}
 
-			result.addAll(cached);
+			Trace.trace(EMFModelValidationDebugOptions.CACHE, "Cache missed live constraints for: " //$NON-NLS-1$
+					+ Trace.toString(new Object[] { qualifiedName(((EObject) notification.getNotifier()).eClass()),
+							EMFEventType.getInstance(notification.getEventType()), featureName }));
 		}
 
-		return result;
+		// not cached, yet? Ask my providers
+		GetLiveConstraintsOperation operation = new GetLiveConstraintsOperation();
+		operation.setNotification(notification);
+
+		return execute(operation);
 	}
 
 	// implements the interface method
 	@Override
-	public Collection<IModelConstraint> getBatchConstraints(EObject eObject, Collection<IModelConstraint> constraints) {
+	public Collection<IModelConstraint> getBatchConstraints(EObject eObject,
+			Collection<IModelConstraint> constraints) {
 
 		Collection<IModelConstraint> result = constraints;
 
@@ -350,24 +687,39 @@ public class ConstraintCache implements IModelConstraintProvider {
 		}
 
 		EClassBucket bucket = getBucket(eObject.eClass());
-		Collection<IModelConstraint> cached = bucket.getBatchConstraints();
+		IModelConstraint[] cached = bucket.getBatchConstraints();
 		if (cached == null) {
-			if (Trace.shouldTrace(EMFModelValidationDebugOptions.CACHE)) {
-				Trace.trace(EMFModelValidationDebugOptions.CACHE, "Cache missed batch constraints for: " //$NON-NLS-1$
-						+ qualifiedName(eObject.eClass()));
-			}
+			synchronized (bucket) {
+				// another thread may have retrieved them in the meantime
+				cached = bucket.getBatchConstraints();
+
+				if (cached == null) {
+					if (Trace.shouldTrace(EMFModelValidationDebugOptions.CACHE)) {
+						Trace.trace(EMFModelValidationDebugOptions.CACHE,
+								"Cache missed batch constraints for: " + qualifiedName(eObject.eClass())); //$NON-NLS-1$
+					}
 
-			// not cached, yet? Ask my providers
-			GetBatchConstraintsOperation operation = new GetBatchConstraintsOperation(false); // must use false to cache
-																								// live constraints also
+					long start = System.nanoTime();
 
-			operation.setTarget(eObject);
+					// not cached, yet? Ask my providers
+					// must use false to cache live constraints also
+					GetBatchConstraintsOperation operation = new GetBatchConstraintsOperation(false);
 
-			cached = execute(operation);
-			bucket.cacheBatchConstraints(cached);
+					operation.setTarget(eObject);
+
+					cached = bucket.cacheBatchConstraints(execute(operation));
+					bucket.counters.batchMiss(System.nanoTime() - start);
+				} else {
+					bucket.counters.batchHit();
+				}
+			}
+		} else {
+			bucket.counters.batchHit();
 		}
 
-		result.addAll(bucket.getBatchConstraints());
+		for (IModelConstraint next : cached) {
+			result.add(next);
+		}
 
 		return result;
 	}
@@ -424,4 +776,114 @@ public class ConstraintCache implements IModelConstraintProvider {
 			next.replace(oldConstraint, newConstraint);
 		}
 	}
+
+	/**
+	 * The statistics of the lookups of the constraints of an EMF class, or of the
+	 * whole cache. Counters are updated concurrently without locking.
+	 */
+	private static final class Counters {
+		/** The counters of the whole cache, or <code>null</code> if I am they. */
+		private final Counters totals;
+
+		final LongAdder batchHits = new LongAdder();
+		final LongAdder batchMisses = new LongAdder();
+		final LongAdder liveHits = new LongAdder();
+		final LongAdder liveMisses = new LongAdder();
+		final LongAdder fillTime = new LongAdder();
+		final LongAccumulator maxFillTime = new LongAccumulator(new LongBinaryOperator() {
+			@Override
+			public long applyAsLong(long left, long right) {
+				return Math.max(left, right);
+			}
+		}, 0L);
+
+		/**
+		 * Initializes me.
+		 *
+		 * @param totals the counters of the whole cache, to which I contribute, or
+		 *               <code>null</code> if I am the counters of the whole cache
+		 */
+		Counters(Counters totals) {
+			this.totals = totals;
+		}
+
+		/**
+		 * Records a hit of batch constraints.
+		 */
+		void batchHit() {
+			batchHits.increment();
+
+			if (totals != null) {
+				totals.batchHit();
+			}
+		}
+
+		/**
+		 * Records a hit of live constraints.
+		 */
+		void liveHit() {
+			liveHits.increment();
+
+			if (totals != null) {
+				totals.liveHit();
+			}
+		}
+
+		/**
+		 * Records a miss of batch constraints.
+		 *
+		 * @param nanos the time spent in retrieving them from the providers
+		 */
+		void batchMiss(long nanos) {
+			batchMisses.increment();
+			fill(nanos);
+
+			if (totals != null) {
+				totals.batchMiss(nanos);
+			}
+		}
+
+		/**
+		 * Records a miss of live constraints.
+		 *
+		 * @param nanos the time spent in retrieving them from the providers
+		 */
+		void liveMiss(long nanos) {
+			liveMisses.increment();
+			fill(nanos);
+
+			if (totals != null) {
+				totals.liveMiss(nanos);
+			}
+		}
+
+		private void fill(long nanos) {
+			fillTime.add(nanos);
+			maxFillTime.accumulate(nanos);
+		}
+
+		/**
+		 * Resets all of my counters.
+		 */
+		void reset() {
+			batchHits.reset();
+			batchMisses.reset();
+			liveHits.reset();
+			liveMisses.reset();
+			fillTime.reset();
+			maxFillTime.reset();
+		}
+
+		/**
+		 * Obtains a snapshot of my counters.
+		 *
+		 * @param constraintReferences the number of constraint references that are
+		 *                             cached for the class
+		 * @return the statistics
+		 */
+		ConstraintCacheStatistics.ClassStatistics getStatistics(long constraintReferences) {
+			return new ConstraintCacheStatistics.ClassStatistics(batchHits.sum(), batchMisses.sum(), liveHits.sum(),
+					liveMisses.sum(), fillTime.sum(), maxFillTime.get(), constraintReferences);
+		}
+	}
 }
@@ -0,0 +1,90 @@
+/******************************************************************************
+ * Copyright (c) 2026 Eclipse contributors and others.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *    Eclipse contributors - initial API and implementation
+ ****************************************************************************/
+package org.eclipse.emf.validation.internal.service;
+
+import java.util.Map;
+
+import org.eclipse.emf.validation.service.ConstraintCacheStatistics;
+
+/**
+ * The management interface of the constraint cache of the
+ * {@link org.eclipse.emf.validation.service.ModelValidationService}, which is
+ * registered with the platform MBean server under the name
+ * <tt>org.eclipse.emf.validation:type=ConstraintCache</tt>. Times are reported
+ * in nanoseconds.
+ *
+ * @see ConstraintCacheStatistics
+ */
+public interface ConstraintCacheMXBean {
+	/**
+	 * @return the number of lookups of batch constraints answered by the cache
+	 */
+	long getBatchHits();
+
+	/**
+	 * @return the number of lookups of batch constraints that missed the cache
+	 */
+	long getBatchMisses();
+
+	/**
+	 * @return the number of lookups of live constraints answered by the cache
+	 */
+	long getLiveHits();
+
+	/**
+	 * @return the number of lookups of live constraints that missed the cache
+	 */
+	long getLiveMisses();
+
+	/**
+	 * @return the ratio of all hits to all lookups, or <code>1.0</code> if there
+	 *         were no lookups
+	 */
+	double getHitRatio();
+
+	/**
+	 * @return the total time spent in filling the cache on misses
+	 */
+	long getFillTime();
+
+	/**
+	 * @return the longest time spent in filling the cache on a single miss
+	 */
+	long getMaxFillTime();
+
+	/**
+	 * @return the number of EMF classes that have a bucket in the cache
+	 */
+	int getBucketCount();
+
+	/**
+	 * @return the number of buckets evicted because their EMF classes were
+	 *         garbage-collected
+	 */
+	long getEvictedBucketCount();
+
+	/**
+	 * @return the number of constraint references retained by the cache
+	 */
+	long getConstraintReferenceCount();
+
+	/**
+	 * @return the statistics of each EMF class that has a bucket in the cache, by
+	 *         the qualified name of the class
+	 */
+	Map<String, ConstraintCacheStatistics.ClassStatistics> getClassStatistics();
+
+	/**
+	 * Resets the hit, miss, fill time, and eviction counters.
+	 */
+	void resetStatistics();
+}
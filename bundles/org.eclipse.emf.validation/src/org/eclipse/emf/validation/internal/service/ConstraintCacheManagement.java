@@ -0,0 +1,181 @@
+/******************************************************************************
+ * Copyright (c) 2026 Eclipse contributors and others.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *    Eclipse contributors - initial API and implementation
+ ****************************************************************************/
+package org.eclipse.emf.validation.internal.service;
+
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.EPackage;
+import org.eclipse.emf.validation.internal.util.Trace;
+import org.eclipse.emf.validation.service.ConstraintCacheStatistics;
+
+/**
+ * Implementation of the {@link ConstraintCacheMXBean}, which exposes the
+ * statistics of a constraint cache to JMX clients. Only the statistics of
+ * the individual EMF classes are computed from the buckets of the cache; the
+ * totals are maintained by the cache as it is used.
+ */
+public final class ConstraintCacheManagement implements ConstraintCacheMXBean {
+	private static final String OBJECT_NAME = "org.eclipse.emf.validation:type=ConstraintCache"; //$NON-NLS-1$
+
+	private final ConstraintCache cache;
+
+	/**
+	 * Initializes me.
+	 *
+	 * @param cache the cache that I manage
+	 */
+	private ConstraintCacheManagement(ConstraintCache cache) {
+		this.cache = cache;
+	}
+
+	/**
+	 * Registers the management bean of a constraint cache with the platform MBean
+	 * server, replacing the bean of any other cache. Failure to register it is
+	 * not an error.
+	 *
+	 * @param cache the constraint cache
+	 */
+	public static void register(ConstraintCache cache) {
+		try {
+			MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+			ObjectName name = new ObjectName(OBJECT_NAME);
+			ConstraintCacheManagement bean = new ConstraintCacheManagement(cache);
+
+			try {
+				server.registerMBean(bean, name);
+			} catch (InstanceAlreadyExistsException e) {
+				// such as when the bundle is restarted
+				server.unregisterMBean(name);
+				server.registerMBean(bean, name);
+			}
+		} catch (JMException | RuntimeException e) {
+			Trace.catching(ConstraintCacheManagement.class, "register", e); //$NON-NLS-1$
+		}
+	}
+
+	/**
+	 * Unregisters the management bean of the constraint cache from the platform
+	 * MBean server, if it is registered.
+	 */
+	public static void unregister() {
+		try {
+			MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+			ObjectName name = new ObjectName(OBJECT_NAME);
+
+			if (server.isRegistered(name)) {
+				server.unregisterMBean(name);
+			}
+		} catch (JMException | RuntimeException e) {
+			Trace.catching(ConstraintCacheManagement.class, "unregister", e); //$NON-NLS-1$
+		}
+	}
+
+	@Override
+	public long getBatchHits() {
+		return cache.getTotals().getBatchHits();
+	}
+
+	@Override
+	public long getBatchMisses() {
+		return cache.getTotals().getBatchMisses();
+	}
+
+	@Override
+	public long getLiveHits() {
+		return cache.getTotals().getLiveHits();
+	}
+
+	@Override
+	public long getLiveMisses() {
+		return cache.getTotals().getLiveMisses();
+	}
+
+	@Override
+	public double getHitRatio() {
+		ConstraintCacheStatistics.ClassStatistics statistics = cache.getTotals();
+
+		long hits = statistics.getBatchHits() + statistics.getLiveHits();
+		long lookups = hits + statistics.getBatchMisses() + statistics.getLiveMisses();
+
+		return (lookups == 0L) ? 1.0 : (double) hits / lookups;
+	}
+
+	@Override
+	public long getFillTime() {
+		return cache.getTotals().getFillTime();
+	}
+
+	@Override
+	public long getMaxFillTime() {
+		return cache.getTotals().getMaxFillTime();
+	}
+
+	@Override
+	public int getBucketCount() {
+		return cache.getBucketCount();
+	}
+
+	@Override
+	public long getEvictedBucketCount() {
+		return cache.getEvictedBucketCount();
+	}
+
+	@Override
+	public long getConstraintReferenceCount() {
+		return cache.getTotals().getConstraintReferenceCount();
+	}
+
+	@Override
+	public Map<String, ConstraintCacheStatistics.ClassStatistics> getClassStatistics() {
+		Map<String, ConstraintCacheStatistics.ClassStatistics> result = new java.util.TreeMap<>();
+
+		for (Map.Entry<EClass, ConstraintCacheStatistics.ClassStatistics> next : cache.getStatistics()
+				.getClassStatistics().entrySet()) {
+			String name = qualifiedName(next.getKey());
+
+			if (result.containsKey(name)) {
+				// another instance of the same metamodel, which is worth knowing
+				name = name + '@' + Integer.toHexString(System.identityHashCode(next.getKey()));
+			}
+
+			result.put(name, next.getValue());
+		}
+
+		return result;
+	}
+
+	@Override
+	public void resetStatistics() {
+		cache.resetStatistics();
+	}
+
+	/**
+	 * Obtains the name of an EMF class, qualified by the namespace URI of its
+	 * package, which distinguishes the classes of different versions of a
+	 * metamodel.
+	 *
+	 * @param eClass an EMF class
+	 * @return its qualified name
+	 */
+	private static String qualifiedName(EClass eClass) {
+		EPackage ePackage = eClass.getEPackage();
+
+		return (ePackage == null) ? eClass.getName() : ePackage.getNsURI() + '#' + eClass.getName();
+	}
+}
@@ -0,0 +1,177 @@
+/******************************************************************************
+ * Copyright (c) 2026 Eclipse contributors and others.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *    Eclipse contributors - initial API and implementation
+ ****************************************************************************/
+package org.eclipse.emf.validation.internal.service;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.validation.internal.EMFModelValidationDebugOptions;
+import org.eclipse.emf.validation.internal.util.Trace;
+import org.eclipse.emf.validation.model.IModelConstraint;
+import org.eclipse.emf.validation.service.ConstraintChangeEvent;
+import org.eclipse.emf.validation.service.ConstraintRegistry;
+import org.eclipse.emf.validation.service.IConstraintListener;
+
+/**
+ * <p>
+ * A cache of the <i>dispatch plans</i> of batch validation. A dispatch plan is
+ * the array of the enabled constraints that are evaluated on the elements of an
+ * {@link EClass} in a set of client contexts, in the order in which they are
+ * evaluated. Using a plan, the validation of an element only needs to iterate
+ * an array instead of querying the constraint providers, filtering their
+ * constraints and computing the client-context bindings.
+ * </p>
+ * <p>
+ * Plans are only compiled for classes whose constraints are all provided by the
+ * {@link ConstraintCache}, because other providers may provide different
+ * constraints for different elements of the same class. All plans are
+ * {@linkplain #invalidate() invalidated} when constraints are registered,
+ * enabled, disabled, or re-categorized, when providers are registered, and
+ * when client-context bindings are configured.
+ * </p>
+ */
+public final class DispatchPlanCache {
+	private static final DispatchPlanCache INSTANCE = new DispatchPlanCache();
+
+	private final AtomicInteger generation = new AtomicInteger();
+
+	/**
+	 * Mapping of {@link EClass} ==&gt; plan key ==&gt; plan. The map is a weak map
+	 * to avoid interfering with garbage-collection of EMF metamodels.
+	 */
+	private final Map<EClass, Map<PlanKey, IModelConstraint[]>> plans = new java.util.WeakHashMap<>();
+
+	private final IConstraintListener constraintListener = new IConstraintListener() {
+		@Override
+		public void constraintChanged(ConstraintChangeEvent event) {
+			invalidate();
+		}
+	};
+
+	/**
+	 * Not instantiable by clients.
+	 */
+	private DispatchPlanCache() {
+		ConstraintRegistry.getInstance().addConstraintListener(constraintListener);
+	}
+
+	/**
+	 * Obtains the singleton instance of this class.
+	 *
+	 * @return the singleton dispatch plan cache
+	 */
+	public static DispatchPlanCache getInstance() {
+		return INSTANCE;
+	}
+
+	/**
+	 * Discards all dispatch plans, so that they are compiled again on demand.
+	 */
+	public void invalidate() {
+		generation.incrementAndGet();
+
+		synchronized (plans) {
+			plans.clear();
+		}
+
+		if (Trace.shouldTrace(EMFModelValidationDebugOptions.CACHE)) {
+			Trace.trace(EMFModelValidationDebugOptions.CACHE, "Invalidated dispatch plans"); //$NON-NLS-1$
+		}
+	}
+
+	/**
+	 * Obtains the current generation of the plans, which changes whenever they are
+	 * invalidated.
+	 *
+	 * @return the current generation
+	 */
+	int getGeneration() {
+		return generation.get();
+	}
+
+	/**
+	 * Obtains the dispatch plan for the specified class and client contexts.
+	 *
+	 * @param eClass         the class of the elements to validate
+	 * @param batchOnly      whether the plan excludes live constraints
+	 * @param clientContexts the client contexts of the elements to validate
+	 * @return the plan, or <code>null</code> if it is not yet compiled
+	 */
+	IModelConstraint[] getPlan(EClass eClass, boolean batchOnly, Collection<IClientContext> clientContexts) {
+		synchronized (plans) {
+			Map<PlanKey, IModelConstraint[]> classPlans = plans.get(eClass);
+
+			return (classPlans == null) ? null : classPlans.get(new PlanKey(batchOnly, clientContexts));
+		}
+	}
+
+	/**
+	 * Stores the dispatch plan for the specified class and client contexts, unless
+	 * the plans were invalidated since it was compiled.
+	 *
+	 * @param planGeneration the generation of the plans in which the plan was
+	 *                       compiled
+	 * @param eClass         the class of the elements to validate
+	 * @param batchOnly      whether the plan excludes live constraints
+	 * @param clientContexts the client contexts of the elements to validate
+	 * @param plan           the plan
+	 */
+	void putPlan(int planGeneration, EClass eClass, boolean batchOnly, Collection<IClientContext> clientContexts,
+			IModelConstraint[] plan) {
+
+		synchronized (plans) {
+			if (planGeneration == getGeneration()) {
+				Map<PlanKey, IModelConstraint[]> classPlans = plans.get(eClass);
+
+				if (classPlans == null) {
+					classPlans = new java.util.HashMap<>();
+					plans.put(eClass, classPlans);
+				}
+
+				// copy the client contexts, as the key must not change
+				classPlans.put(new PlanKey(batchOnly, new java.util.HashSet<>(clientContexts)), plan);
+			}
+		}
+	}
+
+	/**
+	 * The key of a plan amongst the plans of a class.
+	 */
+	private static final class PlanKey {
+		private final boolean batchOnly;
+		private final Set<IClientContext> clientContexts;
+
+		PlanKey(boolean batchOnly, Collection<IClientContext> clientContexts) {
+			this.batchOnly = batchOnly;
+			this.clientContexts = (clientContexts instanceof Set<?>) ? (Set<IClientContext>) clientContexts
+					: new java.util.HashSet<>(clientContexts);
+		}
+
+		@Override
+		public int hashCode() {
+			return clientContexts.hashCode() ^ (batchOnly ? 1 : 0);
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (!(obj instanceof PlanKey)) {
+				return false;
+			}
+
+			PlanKey other = (PlanKey) obj;
+			return (other.batchOnly == batchOnly) && other.clientContexts.equals(clientContexts);
+		}
+	}
+}
@@ -1,5 +1,5 @@
 /******************************************************************************
- * Copyright (c) 2003, 2007 IBM Corporation and others.
+ * Copyright (c) 2003, 2026 IBM Corporation and others.
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
  * which is available at https://www.eclipse.org/legal/epl-2.0/
@@ -12,8 +12,12 @@
 package org.eclipse.emf.validation.internal.service;
 
 import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 
+import org.eclipse.emf.ecore.EClass;
 import org.eclipse.emf.validation.model.IModelConstraint;
+import org.eclipse.emf.validation.service.IConstraintDescriptor;
 import org.eclipse.emf.validation.service.IModelConstraintProvider;
 import org.eclipse.emf.validation.util.FilteredCollection;
 
@@ -32,6 +36,16 @@ public class GetBatchConstraintsOperation extends AbstractGetConstraintsOperatio
 
 	private final boolean batchOnly;
 
+	/**
+	 * The dispatch plans that I have obtained, by {@link EClass}, for my current
+	 * client contexts and plan generation, filtered by my context. This saves the
+	 * look-up in the shared {@link DispatchPlanCache} and the wrapping of the plan
+	 * for every element of a validation operation.
+	 */
+	private final Map<EClass, Collection<IModelConstraint>> plans = new java.util.IdentityHashMap<>();
+	private Collection<IClientContext> plansClientContexts;
+	private int plansGeneration;
+
 	/**
 	 * Initializes me with the <CODE>eObject</CODE> for which we are to get the
 	 * batch constraints.
@@ -52,6 +66,97 @@ public class GetBatchConstraintsOperation extends AbstractGetConstraintsOperatio
 		provider.getBatchConstraints(getEObject(), constraints);
 	}
 
+	/**
+	 * Obtains the dispatch plan for my current target in the specified client
+	 * contexts, if it has already been compiled.
+	 *
+	 * @param clientContexts the client contexts of my current target
+	 * @return the dispatch plan, filtered by my context, or <code>null</code> if
+	 *         it must be {@linkplain #compileDispatchPlan(Collection) compiled}
+	 *
+	 * @see DispatchPlanCache
+	 */
+	Collection<IModelConstraint> getDispatchPlan(Collection<IClientContext> clientContexts) {
+		DispatchPlanCache cache = DispatchPlanCache.getInstance();
+		int generation = cache.getGeneration();
+
+		if ((generation != plansGeneration) || (plansClientContexts == null)
+				|| ((clientContexts != plansClientContexts) && !clientContexts.equals(plansClientContexts))) {
+			plans.clear();
+			plansGeneration = generation;
+			plansClientContexts = clientContexts;
+		}
+
+		EClass eClass = getEObject().eClass();
+		Collection<IModelConstraint> result = plans.get(eClass);
+
+		if (result == null) {
+			IModelConstraint[] plan = cache.getPlan(eClass, batchOnly, clientContexts);
+
+			if (plan != null) {
+				result = filter(plan);
+				plans.put(eClass, result);
+			}
+		}
+
+		return result;
+	}
+
+	/**
+	 * Compiles the dispatch plan for my current target in the specified client
+	 * contexts from the constraints that I obtained from the providers. This may
+	 * only be invoked after I have been executed on all of the providers.
+	 *
+	 * @param clientContexts the client contexts of my current target
+	 * @return the dispatch plan, filtered by my context, or <code>null</code> if my
+	 *         constraints cannot be planned because they were not all provided by
+	 *         the constraint cache
+	 *
+	 * @see #getDispatchPlan(Collection)
+	 */
+	Collection<IModelConstraint> compileDispatchPlan(Collection<IClientContext> clientContexts) {
+		if (!isCacheOnly()) {
+			return null;
+		}
+
+		Collection<IModelConstraint> constraints = getUnfilteredConstraints();
+		List<IModelConstraint> planned = new java.util.ArrayList<>(constraints.size());
+
+		for (IModelConstraint next : constraints) {
+			IConstraintDescriptor desc = next.getDescriptor();
+
+			if (desc.isEnabled() && (!batchOnly || desc.getEvaluationMode().isBatchOnly())) {
+				planned.add(next);
+			}
+		}
+
+		IModelConstraint[] plan = ClientContextManager.getInstance().getBindings(clientContexts, planned)
+				.toArray(new IModelConstraint[0]);
+
+		// the generation in which the constraints were obtained, so that a plan
+		// is not stored if it was invalidated in the meantime
+		DispatchPlanCache.getInstance().putPlan(plansGeneration, getEObject().eClass(), batchOnly, clientContexts,
+				plan);
+
+		Collection<IModelConstraint> result = filter(plan);
+		plans.put(getEObject().eClass(), result);
+
+		return result;
+	}
+
+	/**
+	 * Wraps a dispatch plan in a view that is filtered by my context. The view
+	 * may be reused for every target of the plan, as the filter is applied when
+	 * it is iterated: the constraints may since have been disabled or ignored for
+	 * the current target.
+	 *
+	 * @param plan a dispatch plan
+	 * @return the filtered view of the <code>plan</code>
+	 */
+	private Collection<IModelConstraint> filter(IModelConstraint[] plan) {
+		return new FilteredCollection<>(java.util.Arrays.asList(plan), getContext().getConstraintFilter());
+	}
+
 	// implements the inherited method
 	@Override
 	protected AbstractValidationContext createContext() {
@@ -70,6 +175,8 @@ public class GetBatchConstraintsOperation extends AbstractGetConstraintsOperatio
 		}
 
 		return new AbstractValidationContext(this) {
+			private FilteredCollection.Filter<IModelConstraint> batchOnlyFilter;
+
 			// overrides the inherited method to provide a filter that
 			// additionally excludes "live" mode constraints if we are
 			// only looking for batch mode
@@ -78,7 +185,11 @@ public class GetBatchConstraintsOperation extends AbstractGetConstraintsOperatio
 				if (!batchOnly) {
 					return super.getConstraintFilter();
 				} else {
-					return new BatchOnlyFilter(super.getConstraintFilter());
+					if (batchOnlyFilter == null) {
+						batchOnlyFilter = new BatchOnlyFilter(super.getConstraintFilter());
+					}
+
+					return batchOnlyFilter;
 				}
 			}
 		};
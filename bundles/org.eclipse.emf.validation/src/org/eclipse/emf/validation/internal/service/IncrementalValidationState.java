@@ -0,0 +1,320 @@
+/******************************************************************************
+ * Copyright (c) 2026 Eclipse contributors and others.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *    Eclipse contributors - initial API and implementation
+ ****************************************************************************/
+package org.eclipse.emf.validation.internal.service;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.emf.common.notify.Notification;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EReference;
+import org.eclipse.emf.ecore.InternalEObject;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.validation.internal.util.WeakConcurrentMap;
+import org.eclipse.emf.validation.model.IConstraintStatus;
+import org.eclipse.emf.validation.service.IncrementalValidationTracker;
+
+/**
+ * The state of an {@link IncrementalValidationTracker}: the changed elements
+ * and the retained results of the constraints evaluated on every element. The
+ * tracker exposes the client-facing view of this state, and every validation
+ * operation of a batch validator uses an {@link Operation} that decides which
+ * elements to evaluate and that retains their results. Validation operations
+ * of different resources may use the same state concurrently.
+ */
+public final class IncrementalValidationState {
+	private static final WeakConcurrentMap<IncrementalValidationTracker, IncrementalValidationState> STATES =
+			new WeakConcurrentMap<>();
+
+	private final Map<EObject, Map<String, IStatus>> results = new java.util.concurrent.ConcurrentHashMap<>();
+
+	// the dirty elements, each with the stamp of its last change, so that a
+	// validation operation does not clean an element that changed again
+	// while it was being validated
+	private final Map<EObject, Long> dirty = new java.util.concurrent.ConcurrentHashMap<>();
+
+	private final AtomicLong changeStamp = new AtomicLong();
+
+	/**
+	 * Not instantiable by clients.
+	 */
+	private IncrementalValidationState() {
+		super();
+	}
+
+	/**
+	 * Creates the state of a new tracker.
+	 *
+	 * @param tracker a new tracker
+	 * @return its state
+	 */
+	public static IncrementalValidationState create(IncrementalValidationTracker tracker) {
+		IncrementalValidationState result = new IncrementalValidationState();
+
+		STATES.putIfAbsent(tracker, result);
+
+		return result;
+	}
+
+	/**
+	 * Obtains the state of a tracker.
+	 *
+	 * @param tracker a tracker
+	 * @return its state
+	 */
+	static IncrementalValidationState get(IncrementalValidationTracker tracker) {
+		return STATES.get(tracker);
+	}
+
+	/**
+	 * Marks an element as having changed.
+	 *
+	 * @param eObject an element that was changed
+	 */
+	public void markDirty(EObject eObject) {
+		dirty.put(eObject, changeStamp.incrementAndGet());
+	}
+
+	/**
+	 * Queries whether an element has changed since it was last validated. Once a
+	 * validation operation has begun, the containers of the changed elements are
+	 * dirty, also, until they are validated.
+	 *
+	 * @param eObject an element
+	 * @return whether it is dirty
+	 */
+	public boolean isDirty(EObject eObject) {
+		return dirty.containsKey(eObject);
+	}
+
+	/**
+	 * Forgets all retained results and changes.
+	 */
+	public void reset() {
+		results.clear();
+		dirty.clear();
+	}
+
+	/**
+	 * Obtains the retained results of the last evaluation of the constraints on
+	 * an element.
+	 *
+	 * @param eObject an element
+	 * @return its results, in the order in which they were reported, or an empty
+	 *         collection if the element was not validated or had no results
+	 */
+	public Collection<IStatus> getResults(EObject eObject) {
+		Map<String, IStatus> result = results.get(eObject);
+
+		return (result == null) ? Collections.emptyList() : result.values();
+	}
+
+	/**
+	 * Obtains the retained result of the last evaluation of a constraint on an
+	 * element.
+	 *
+	 * @param eObject      an element
+	 * @param constraintId the ID of a constraint
+	 * @return the result, or <code>null</code> if none
+	 */
+	public IStatus getResult(EObject eObject, String constraintId) {
+		Map<String, IStatus> result = results.get(eObject);
+
+		return (result == null) ? null : result.get(constraintId);
+	}
+
+	/**
+	 * Begins a validation operation by computing the elements that it needs to
+	 * validate again: the dirty elements and their ancestors. The ancestors are
+	 * marked dirty, too, so that they remain stale for later operations until they
+	 * are validated, even if this operation does not traverse them.
+	 *
+	 * @return the new validation operation
+	 */
+	Operation beginValidation() {
+		Map<EObject, Long> stale = new java.util.IdentityHashMap<>(dirty);
+
+		for (EObject next : new java.util.ArrayList<>(stale.keySet())) {
+			EObject ancestor = ((InternalEObject) next).eInternalContainer();
+
+			// stop at the first ancestor that is already known, because
+			// its container chain is already included
+			while ((ancestor != null) && !stale.containsKey(ancestor)) {
+				Long stamp = changeStamp.incrementAndGet();
+				Long existing = dirty.putIfAbsent(ancestor, stamp);
+
+				stale.put(ancestor, (existing == null) ? stamp : existing);
+				ancestor = ((InternalEObject) ancestor).eInternalContainer();
+			}
+		}
+
+		return new Operation(stale);
+	}
+
+	/**
+	 * Creates an unmodifiable map of the results of the evaluation of the
+	 * constraints on an element, keyed by constraint ID.
+	 *
+	 * @param evaluationResults the results of the element's constraints
+	 * @return the results map
+	 */
+	private static Map<String, IStatus> toResultMap(List<? extends IStatus> evaluationResults) {
+		Map<String, IStatus> map;
+
+		if (evaluationResults.isEmpty()) {
+			map = Collections.emptyMap();
+		} else {
+			map = new java.util.LinkedHashMap<>();
+
+			for (IStatus next : evaluationResults) {
+				String key;
+
+				if (next instanceof IConstraintStatus) {
+					key = ((IConstraintStatus) next).getConstraint().getDescriptor().getId();
+				} else {
+					// not attributable to a constraint, but must be retained
+					key = "#" + map.size(); //$NON-NLS-1$
+				}
+
+				map.put(key, next);
+			}
+
+			map = Collections.unmodifiableMap(map);
+		}
+
+		return map;
+	}
+
+	/**
+	 * Records a change notified by a tracked model.
+	 *
+	 * @param notification the notification of the change
+	 */
+	public void changed(Notification notification) {
+		Object notifier = notification.getNotifier();
+
+		if (notifier instanceof EObject) {
+			markDirty((EObject) notifier);
+
+			Object feature = notification.getFeature();
+			if (!(feature instanceof EReference) || !((EReference) feature).isContainment()) {
+				return;
+			}
+		} else if (!(notifier instanceof Resource)
+				|| (notification.getFeatureID(Resource.class) != Resource.RESOURCE__CONTENTS)) {
+			return;
+		}
+
+		// forget the elements removed from the containment tree
+		switch (notification.getEventType()) {
+		case Notification.SET:
+		case Notification.UNSET:
+		case Notification.REMOVE:
+			forget(notification.getOldValue());
+			break;
+		case Notification.REMOVE_MANY:
+			if (notification.getOldValue() instanceof Collection<?>) {
+				for (Object next : (Collection<?>) notification.getOldValue()) {
+					forget(next);
+				}
+			}
+			break;
+		default:
+			break;
+		}
+	}
+
+	/**
+	 * Forgets the results and changes of an element that was removed from a
+	 * tracked model, and of its contents.
+	 *
+	 * @param removed the removed element (may be <code>null</code>)
+	 */
+	private void forget(Object removed) {
+		if (removed instanceof EObject) {
+			EObject eObject = (EObject) removed;
+
+			results.remove(eObject);
+			dirty.remove(eObject);
+
+			for (Iterator<EObject> iter = eObject.eAllContents(); iter.hasNext();) {
+				EObject next = iter.next();
+				results.remove(next);
+				dirty.remove(next);
+			}
+		}
+	}
+
+	/**
+	 * A validation operation that uses the state. It determines which elements
+	 * are stale from the changes that were recorded when it began, so that it is
+	 * not affected by other operations that begin while it is running.
+	 */
+	final class Operation {
+		// the dirty elements and their ancestors when I began, with the stamps
+		// of their changes. Not modified after construction
+		private final Map<EObject, Long> stale;
+
+		/**
+		 * Initializes me with the stale elements.
+		 *
+		 * @param stale the elements to validate again, with their change stamps
+		 */
+		Operation(Map<EObject, Long> stale) {
+			this.stale = stale;
+		}
+
+		/**
+		 * Queries whether the constraints on an element need to be evaluated by me,
+		 * because the element was changed or never validated.
+		 *
+		 * @param eObject an element
+		 * @return whether to validate the element
+		 */
+		boolean needsValidation(EObject eObject) {
+			return !results.containsKey(eObject) || stale.containsKey(eObject);
+		}
+
+		/**
+		 * Obtains the retained results of the last evaluation of the constraints on
+		 * an element.
+		 *
+		 * @param eObject an element
+		 * @return its results
+		 */
+		Collection<IStatus> getResults(EObject eObject) {
+			return IncrementalValidationState.this.getResults(eObject);
+		}
+
+		/**
+		 * Retains the results of the evaluation of the constraints on an element,
+		 * replacing any previous results, and marks it as clean unless it was
+		 * changed again since I began.
+		 *
+		 * @param eObject           an element that was validated
+		 * @param evaluationResults the results of its constraints
+		 */
+		void store(EObject eObject, List<? extends IStatus> evaluationResults) {
+			results.put(eObject, toResultMap(evaluationResults));
+
+			Long stamp = stale.get(eObject);
+			if (stamp != null) {
+				dirty.remove(eObject, stamp);
+			}
+		}
+	}
+}
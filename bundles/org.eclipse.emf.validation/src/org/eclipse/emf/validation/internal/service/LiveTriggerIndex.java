@@ -0,0 +1,261 @@
+/******************************************************************************
+ * Copyright (c) 2026 Eclipse contributors and others.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *    Eclipse contributors - initial API and implementation
+ ****************************************************************************/
+package org.eclipse.emf.validation.internal.service;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.emf.common.notify.Notification;
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EStructuralFeature;
+import org.eclipse.emf.validation.EMFEventType;
+import org.eclipse.emf.validation.internal.EMFModelValidationDebugOptions;
+import org.eclipse.emf.validation.internal.util.Trace;
+import org.eclipse.emf.validation.internal.util.XmlConstraintDescriptor;
+import org.eclipse.emf.validation.service.ConstraintChangeEvent;
+import org.eclipse.emf.validation.service.ConstraintRegistry;
+import org.eclipse.emf.validation.service.IConstraintDescriptor;
+import org.eclipse.emf.validation.service.IConstraintListener;
+import org.eclipse.emf.validation.service.ModelValidationService;
+import org.eclipse.emf.validation.xml.IXmlConstraintDescriptor;
+
+/**
+ * <p>
+ * An index of the events that trigger live constraints, by which live
+ * validation discards the notifications that no constraint can be interested
+ * in before it merges them and looks up the client contexts and constraints of
+ * their notifiers.
+ * </p>
+ * <p>
+ * For each {@link EClass}, the index records the event types and features for
+ * which any enabled live {@link XmlConstraintDescriptor} declares a trigger. It
+ * is computed on demand, for each class, event type, and feature that is
+ * encountered. Constraint providers that are not declared in XML may provide
+ * any constraints, so every event for which such a provider
+ * {@linkplain IProviderDescriptor#provides(IProviderOperation) may provide}
+ * constraints is considered to trigger some constraint. The index is
+ * {@linkplain #invalidate() invalidated} when constraints are registered,
+ * enabled, or disabled, and when providers are registered.
+ * </p>
+ */
+public final class LiveTriggerIndex {
+	private static final LiveTriggerIndex INSTANCE = new LiveTriggerIndex();
+
+	private final AtomicInteger generation = new AtomicInteger();
+
+	/**
+	 * Mapping of {@link EClass} ==&gt; {@link EMFEventType} ==&gt; triggers. The map
+	 * is a weak map to avoid interfering with garbage-collection of EMF
+	 * metamodels.
+	 */
+	private final Map<EClass, Map<EMFEventType, Triggers>> index = new java.util.WeakHashMap<>();
+
+	private final IConstraintListener constraintListener = new IConstraintListener() {
+		@Override
+		public void constraintChanged(ConstraintChangeEvent event) {
+			invalidate();
+		}
+	};
+
+	/**
+	 * Not instantiable by clients.
+	 */
+	private LiveTriggerIndex() {
+		ConstraintRegistry.getInstance().addConstraintListener(constraintListener);
+	}
+
+	/**
+	 * Obtains the singleton instance of this class.
+	 *
+	 * @return the singleton live trigger index
+	 */
+	public static LiveTriggerIndex getInstance() {
+		return INSTANCE;
+	}
+
+	/**
+	 * Discards the index, so that it is computed again on demand.
+	 */
+	public void invalidate() {
+		generation.incrementAndGet();
+
+		synchronized (index) {
+			index.clear();
+		}
+
+		if (Trace.shouldTrace(EMFModelValidationDebugOptions.CACHE)) {
+			Trace.trace(EMFModelValidationDebugOptions.CACHE, "Invalidated live trigger index"); //$NON-NLS-1$
+		}
+	}
+
+	/**
+	 * Queries whether a notification may trigger any live constraint. A
+	 * notification that is not from an {@link EObject} or that is of an unknown
+	 * event type never triggers constraints.
+	 *
+	 * @param notification a notification
+	 * @return <code>false</code> if the <code>notification</code> certainly does
+	 *         not trigger any live constraint; <code>true</code>, otherwise
+	 */
+	boolean isTriggered(Notification notification) {
+		if (!(notification.getNotifier() instanceof EObject)) {
+			return false;
+		}
+
+		EMFEventType eventType = EMFEventType.getInstance(notification.getEventType());
+		if (eventType.isNull()) {
+			return false;
+		}
+
+		EClass eClass = ((EObject) notification.getNotifier()).eClass();
+		Object feature = notification.getFeature();
+
+		int currentGeneration = generation.get();
+		Triggers triggers;
+		Boolean result = null;
+
+		synchronized (index) {
+			Map<EMFEventType, Triggers> classTriggers = index.get(eClass);
+			triggers = (classTriggers == null) ? null : classTriggers.get(eventType);
+
+			if (triggers != null) {
+				result = triggers.features.get(feature);
+			}
+		}
+
+		if (result != null) {
+			return result.booleanValue();
+		}
+
+		// compute outside of the lock, as the providers may be initialized
+		if (triggers == null) {
+			triggers = new Triggers(isProvided(notification));
+		}
+
+		EStructuralFeature changedFeature = null;
+		if (feature instanceof EStructuralFeature) {
+			changedFeature = (EStructuralFeature) feature;
+		}
+
+		boolean triggered = triggers.provided || isDeclared(eClass, eventType, changedFeature);
+
+		synchronized (index) {
+			if (currentGeneration == generation.get()) {
+				Map<EMFEventType, Triggers> classTriggers = index.get(eClass);
+
+				if (classTriggers == null) {
+					classTriggers = new java.util.HashMap<>();
+					index.put(eClass, classTriggers);
+				}
+
+				Triggers existing = classTriggers.get(eventType);
+				if (existing == null) {
+					classTriggers.put(eventType, triggers);
+					existing = triggers;
+				}
+
+				existing.features.put(feature, triggered);
+			}
+		}
+
+		return triggered;
+	}
+
+	/**
+	 * Queries whether any provider that is not declared in XML may provide live
+	 * constraints for the notification, which depends only on the type of its
+	 * notifier and its event type.
+	 *
+	 * @param notification a notification from an {@link EObject}
+	 * @return whether such a provider may provide constraints for it
+	 */
+	private boolean isProvided(Notification notification) {
+		ModelValidationService service = ModelValidationService.getInstance();
+
+		// ensure that all XML constraints are registered
+		service.loadXmlConstraintDeclarations();
+
+		GetLiveConstraintsOperation operation = new GetLiveConstraintsOperation();
+		operation.setNotification(notification);
+
+		return isProvided(service.getProviderDescriptors(), operation);
+	}
+
+	/**
+	 * Queries whether any of the specified providers that is not declared in XML
+	 * may provide constraints for an operation.
+	 *
+	 * @param providers the provider descriptors
+	 * @param operation the operation
+	 * @return whether any such provider may provide constraints
+	 */
+	private boolean isProvided(Collection<IProviderDescriptor> providers, GetLiveConstraintsOperation operation) {
+		for (IProviderDescriptor next : providers) {
+			if (next.isCache()) {
+				ConstraintCache cache = (ConstraintCache) next.getProvider();
+
+				if (isProvided(cache.getProviders(), operation)) {
+					return true;
+				}
+			} else if (!next.isXmlProvider() && next.provides(operation)) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	/**
+	 * Queries whether any enabled live constraint declared in XML is triggered by
+	 * the specified event.
+	 *
+	 * @param eClass    the type of the notifier
+	 * @param eventType the event type
+	 * @param feature   the changed feature, or <code>null</code> if none
+	 * @return whether some constraint declares the event as a trigger
+	 */
+	private boolean isDeclared(EClass eClass, EMFEventType eventType, EStructuralFeature feature) {
+		for (IConstraintDescriptor next : ConstraintRegistry.getInstance().getAllDescriptors()) {
+			if (!next.isLive() || !next.isEnabled()) {
+				continue;
+			}
+
+			if (next instanceof XmlConstraintDescriptor) {
+				if (((XmlConstraintDescriptor) next).targetsEvent(eClass, eventType, feature)) {
+					return true;
+				}
+			} else if (next instanceof IXmlConstraintDescriptor) {
+				// the triggers of other implementations are unknown
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	/**
+	 * The triggers of an event type for a class.
+	 */
+	private static final class Triggers {
+		/** Whether providers not declared in XML may provide constraints. */
+		final boolean provided;
+
+		/** Mapping of feature (or <code>null</code>) ==&gt; whether triggered. */
+		final Map<Object, Boolean> features = new java.util.HashMap<>();
+
+		Triggers(boolean provided) {
+			this.provided = provided;
+		}
+	}
+}
@@ -1,5 +1,5 @@
 /******************************************************************************
- * Copyright (c) 2003, 2007 IBM Corporation and others.
+ * Copyright (c) 2003, 2026 IBM Corporation and others.
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
  * which is available at https://www.eclipse.org/legal/epl-2.0/
@@ -13,9 +13,14 @@ package org.eclipse.emf.validation.internal.service;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.Future;
 
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.emf.common.notify.Notification;
@@ -29,6 +34,7 @@ import org.eclipse.emf.validation.model.EvaluationMode;
 import org.eclipse.emf.validation.service.EventTypeService;
 import org.eclipse.emf.validation.service.ILiveValidator;
 import org.eclipse.emf.validation.service.INotificationGenerator;
+import org.eclipse.emf.validation.service.ISelectiveNotificationGenerator;
 import org.eclipse.emf.validation.util.FilteredCollection;
 
 /**
@@ -37,8 +43,16 @@ import org.eclipse.emf.validation.util.FilteredCollection;
  * @author Christian W. Damus (cdamus)
  */
 public class LiveValidator extends AbstractValidator<Notification> implements ILiveValidator {
+	/**
+	 * The number of notifications from which concurrent notification generators
+	 * are run in parallel.
+	 */
+	private static final int PARALLEL_GENERATION_THRESHOLD = 256;
+
 	private FilteredCollection.Filter<Notification> notificationFilter;
 
+	private AsyncLiveValidation asyncValidation; // created on demand
+
 	/**
 	 * Initializes me with the operation <code>executor</code> that I use to execute
 	 * provider operations.
@@ -98,6 +112,25 @@ public class LiveValidator extends AbstractValidator<Notification> implements IL
 		return result;
 	}
 
+	@Override
+	public Future<IStatus> validateAsync(Notification notification) {
+		return validateAsync(Collections.singleton(notification));
+	}
+
+	@Override
+	public Future<IStatus> validateAsync(Collection<? extends Notification> notifications) {
+		AsyncLiveValidation async;
+
+		synchronized (this) {
+			if (asyncValidation == null) {
+				asyncValidation = new AsyncLiveValidation(this);
+			}
+			async = asyncValidation;
+		}
+
+		return async.add(notifications);
+	}
+
 	/**
 	 * Helper method for validation of a single <code>event</code>.
 	 *
@@ -128,44 +161,165 @@ public class LiveValidator extends AbstractValidator<Notification> implements IL
 	 * Merges any <code>notifications</code> in the specified list that are repeated
 	 * changes to the same features into single changes, to ensure that constraints
 	 * receive complete deltas without repeated invocation.
+	 * <p>
+	 * The notifications are grouped in a single pass by notifier (identity),
+	 * feature, and event type, where the "Add" and "Add Many" event types are
+	 * considered the same, as well as the "Remove" and "Remove Many". A
+	 * notification that is not merged with any other is not copied.
+	 * Notifications that do not trigger any live constraint are omitted.
+	 * </p>
 	 *
 	 * @param notifications the input notifications
-	 * @return the merged (possibly fewer) notifications
+	 * @return the merged (possibly fewer) notifications, in order of the first
+	 *         notification of each group
 	 */
 	private List<Notification> mergeNotifications(Collection<Notification> notifications) {
-		// use a linked map to preserve list ordering
-		Map<Notification, Notification> result = new java.util.LinkedHashMap<>(
-				notifications.size());
+		List<Notification> result = new java.util.ArrayList<>(notifications.size());
+		Map<Object, List<Notification>> groups = new java.util.IdentityHashMap<>();
+		Map<Notification, MergedNotification> merged = null; // created on demand
+
+		LiveTriggerIndex triggerIndex = LiveTriggerIndex.getInstance();
 
 		for (Notification next : notifications) {
 			// only triggger constraints on EObjects that are still
 			// connected to a particular resource. We will filter the
-			// notification appropriately.
-			if (isValidatable(next)) {
-				MergeableNotification notification = new MergeableNotification(next);
+			// notification appropriately. Notifications that cannot trigger
+			// any constraint are discarded up front
+			if (!isValidatable(next) || !triggerIndex.isTriggered(next)) {
+				continue;
+			}
 
-				// add this notification to the result if either no similar notification
-				// already exists or the other notification could not be merged
-				// into an existing one
-				if (!result.containsKey(notification)
-						|| !((MergeableNotification) result.get(notification)).merge(notification)) {
+			List<Notification> notifierGroups = groups.get(next.getNotifier());
+			if (notifierGroups == null) {
+				// few features of any one notifier change in a transaction
+				notifierGroups = new java.util.ArrayList<>(4);
+				groups.put(next.getNotifier(), notifierGroups);
+			}
+
+			int index = MergedNotification.indexOfGroup(notifierGroups, next);
+
+			if (index < 0) {
+				// the first of its group. A move records the whole feature value
+				// as its new value, so it is always wrapped
+				Notification group = (next.getEventType() == Notification.MOVE) && MergedNotification.isMergeable(next)
+						? new MergedNotification(next)
+						: next;
+
+				notifierGroups.add(group);
+				result.add(group);
+			} else {
+				Notification group = notifierGroups.get(index);
+
+				if (!(group instanceof MergedNotification)) {
+					if (!MergedNotification.isMergeable(group)) {
+						// non-feature-specific events are not merged; the first
+						// of them stands for the group
+						continue;
+					}
+
+					MergedNotification mergedGroup = new MergedNotification(group);
+					notifierGroups.set(index, mergedGroup);
+
+					if (merged == null) {
+						merged = new java.util.IdentityHashMap<>();
+					}
+					merged.put(group, mergedGroup);
+					group = mergedGroup;
+				}
+
+				group.merge(next);
+			}
+		}
 
-					result.put(notification, notification);
+		if (merged != null) {
+			// replace the first notifications of the groups that were merged
+			for (int i = 0; i < result.size(); i++) {
+				MergedNotification mergedGroup = merged.get(result.get(i));
+
+				if (mergedGroup != null) {
+					result.set(i, mergedGroup);
 				}
 			}
 		}
 
-		return new java.util.ArrayList<>(result.keySet());
+		return result;
 	}
 
+	/**
+	 * Generates the notifications of the contributed event types and appends the
+	 * original notifications.
+	 *
+	 * @param notifications the notifications to validate
+	 * @return the generated notifications, followed by the
+	 *         <code>notifications</code>
+	 */
 	private Collection<Notification> generateNotifications(Collection<? extends Notification> notifications) {
+		return generateNotifications(EventTypeService.getInstance().getNotificationGenerators(), notifications);
+	}
+
+	/**
+	 * Generates the notifications of the specified generators and appends the
+	 * original notifications. {@linkplain ISelectiveNotificationGenerator
+	 * Selective generators} are only given the notifications that they consume,
+	 * and those that are concurrent are run in parallel on large numbers of
+	 * notifications. In any case, the generated notifications are concatenated in
+	 * the order of the generators.
+	 *
+	 * @param generators    the notification generators, in order
+	 * @param notifications the notifications to validate
+	 * @return the generated notifications, followed by the
+	 *         <code>notifications</code>
+	 */
+	protected Collection<Notification> generateNotifications(Collection<? extends INotificationGenerator> generators,
+			Collection<? extends Notification> notifications) {
+
+		int count = generators.size();
+
+		// the generated notifications of each generator, in generator order
+		List<Collection<Notification>> generated = new java.util.ArrayList<>(count);
+		List<ForkJoinTask<Collection<Notification>>> tasks = new java.util.ArrayList<>(count);
+		boolean parallel = (count > 1) && (notifications.size() >= PARALLEL_GENERATION_THRESHOLD);
+
+		for (INotificationGenerator next : generators) {
+			Collection<Notification> result = null;
+			ForkJoinTask<Collection<Notification>> task = null;
+
+			if (next instanceof ISelectiveNotificationGenerator) {
+				final ISelectiveNotificationGenerator generator = (ISelectiveNotificationGenerator) next;
+				final List<Notification> consumed = new java.util.ArrayList<>();
+
+				for (Notification notification : notifications) {
+					if (generator.consumes(notification)) {
+						consumed.add(notification);
+					}
+				}
+
+				if (consumed.isEmpty()) {
+					result = Collections.emptyList();
+				} else if (parallel && generator.isConcurrent()) {
+					task = ForkJoinPool.commonPool().submit(new Callable<Collection<Notification>>() {
+						@Override
+						public Collection<Notification> call() {
+							return generator.generateNotifications(consumed);
+						}
+					});
+				} else {
+					result = generator.generateNotifications(consumed);
+				}
+			} else {
+				result = next.generateNotifications(notifications);
+			}
+
+			generated.add(result);
+			tasks.add(task);
+		}
 
-		Collection<INotificationGenerator> generators = EventTypeService.getInstance().getNotificationGenerators();
 		Collection<Notification> newNotifications = new ArrayList<>();
 
 		// Add generated notifications for each generator
-		for (INotificationGenerator next : generators) {
-			newNotifications.addAll(next.generateNotifications(notifications));
+		for (int i = 0; i < count; i++) {
+			ForkJoinTask<Collection<Notification>> task = tasks.get(i);
+			newNotifications.addAll((task == null) ? generated.get(i) : task.join());
 		}
 
 		// Add existing notifications
@@ -211,40 +365,102 @@ public class LiveValidator extends AbstractValidator<Notification> implements IL
 	 * remove/remove-many events, in addition to set events. This implementation
 	 * cuts corners because the validation context only needs a small subset of the
 	 * information available in a notification.
+	 * <p>
+	 * The values of merged additions and removals are accumulated in a buffer that
+	 * is only ever appended to. Merged sets, unsets, and moves do not record any
+	 * values; instead, the final value of the feature is read once, when the new
+	 * value is first requested.
+	 * </p>
 	 *
 	 * @author Christian W. Damus (cdamus)
 	 */
-	private static class MergeableNotification extends NotificationWrapper {
-		private Object oldValue; // old value of the feature
-		private Object newValue; // new value of the feature
+	private static final class MergedNotification extends NotificationWrapper {
 		private int eventType;
 
+		// accumulated new values of additions or old values of removals
+		private List<Object> values;
+
+		// whether the new value is the final value of the feature
+		private boolean finalValueRequired;
+		private boolean finalValueRead;
+		private Object finalValue;
+
 		/**
-		 * Initializes me with the <code>notification</code> that I wrap.
+		 * Initializes me with the first <code>notification</code> of my group.
 		 *
 		 * @param notification the wrapped notification
 		 */
-		public MergeableNotification(Notification notification) {
+		MergedNotification(Notification notification) {
 			super(notification);
 
 			eventType = notification.getEventType();
-			oldValue = notification.getOldValue();
+			finalValueRequired = eventType == Notification.MOVE;
+		}
 
-			if (eventType == Notification.MOVE) {
-				// record the whole feature value as the new value of a MOVE
-				newValue = ((EObject) notification.getNotifier()).eGet((EStructuralFeature) notification.getFeature());
-			} else {
-				newValue = notification.getNewValue();
+		/**
+		 * Finds the group of a notification amongst the groups of its notifier.
+		 *
+		 * @param notifierGroups the first notifications of the groups of the
+		 *                       notifier
+		 * @param notification   a notification from the notifier
+		 * @return the index of the <code>notification</code>'s group, or -1 if it has
+		 *         none, yet
+		 */
+		static int indexOfGroup(List<Notification> notifierGroups, Notification notification) {
+			Object feature = notification.getFeature();
+			int eventClass = getEventClass(notification.getEventType());
+
+			for (int i = 0; i < notifierGroups.size(); i++) {
+				Notification next = notifierGroups.get(i);
+
+				if ((next.getFeature() == feature) && (getEventClass(next.getEventType()) == eventClass)) {
+					return i;
+				}
 			}
 
-			// in case of oldValue or newValue being unmodifiable collections,
-			// take a copy to ensure that they are modifiable. Also, this
-			// avoids destroying the original notification's collection
-			if (oldValue instanceof Collection) {
-				oldValue = new java.util.ArrayList<Object>((Collection<?>) oldValue);
+			return -1;
+		}
+
+		/**
+		 * Obtains the event type that identifies the group of a notification. Note
+		 * that the "Add" and "Add Many" event types are considered the same, as well
+		 * as the "Remove" and "Remove Many".
+		 *
+		 * @param eventType a notification event type
+		 * @return the group event type
+		 */
+		private static int getEventClass(int eventType) {
+			switch (eventType) {
+			case Notification.ADD_MANY:
+				return Notification.ADD;
+			case Notification.REMOVE_MANY:
+				return Notification.REMOVE;
+			default:
+				return eventType;
 			}
-			if (newValue instanceof Collection) {
-				newValue = new java.util.ArrayList<Object>((Collection<?>) newValue);
+		}
+
+		/**
+		 * Queries whether other notifications can be merged into the specified
+		 * notification. Sets, unsets, moves, and other events can only be merged if
+		 * they are specific to a feature.
+		 *
+		 * @param notification the first notification of a group
+		 * @return whether the group can be merged
+		 */
+		static boolean isMergeable(Notification notification) {
+			switch (notification.getEventType()) {
+			case 0: // Notification.CREATE (deprecated)
+			case Notification.RESOLVE:
+			case Notification.ADD:
+			case Notification.ADD_MANY:
+			case Notification.REMOVE:
+			case Notification.REMOVE_MANY:
+			case Notification.REMOVING_ADAPTER:
+				return true;
+			default:
+				return (notification.getNotifier() instanceof EObject)
+						&& (notification.getFeature() instanceof EStructuralFeature);
 			}
 		}
 
@@ -257,201 +473,100 @@ public class LiveValidator extends AbstractValidator<Notification> implements IL
 		}
 
 		/*
-		 * (non-Javadoc) Redefines the inherited method to return the stored new feature
-		 * value.
+		 * (non-Javadoc) Redefines the inherited method to return the accumulated or
+		 * the final new feature value.
 		 */
 		@Override
 		public Object getNewValue() {
-			return newValue;
+			if (finalValueRequired) {
+				if (!finalValueRead) {
+					finalValue = ((EObject) getNotifier()).eGet((EStructuralFeature) getFeature());
+					finalValueRead = true;
+				}
+
+				return finalValue;
+			}
+
+			return ((values != null) && !isRemoval()) ? values : notification.getNewValue();
 		}
 
 		/*
-		 * (non-Javadoc) Redefines the inherited method to return the stored old feature
-		 * value.
+		 * (non-Javadoc) Redefines the inherited method to return the accumulated old
+		 * feature value.
 		 */
 		@Override
 		public Object getOldValue() {
-			return oldValue;
-		}
-
-		/**
-		 * I consider myself equal to any {@link Notification} if that other
-		 * notification has the same notifier, event type, and feature as myself. Note
-		 * that the "Add" and "Add Many" event types are considered the same, as well as
-		 * the "Remove" and "Remove Many", for the purposes of this comparison.
-		 */
-		@Override
-		public boolean equals(Object o) {
-			boolean result = false;
-
-			if (o instanceof Notification) {
-				Notification other = (Notification) o;
-
-				result = (other.getNotifier() == getNotifier()) && (other.getFeature() == getFeature());
-
-				if (result) {
-					int otherType = other.getEventType();
-
-					switch (getEventType()) {
-					case Notification.ADD:
-					case Notification.ADD_MANY:
-						result = (otherType == Notification.ADD) || (otherType == Notification.ADD_MANY);
-						break;
-
-					case Notification.REMOVE:
-					case Notification.REMOVE_MANY:
-						result = (otherType == Notification.REMOVE) || (otherType == Notification.REMOVE_MANY);
-						break;
-
-					default:
-						result = (otherType == getEventType());
-						break;
-					}
-				}
-			}
-
-			return result;
+			return ((values != null) && isRemoval()) ? values : notification.getOldValue();
 		}
 
 		/**
-		 * To be consistent with the {@link #equals(Object)} method, my hash code is
-		 * computed from my notifier, event type, and feature.
+		 * Queries whether I accumulate old values rather than new values.
+		 *
+		 * @return whether I am a removal
 		 */
-		@Override
-		public int hashCode() {
-			int localEventType = getEventType();
-
-			// treat the "many" flavour the same as the "non-many" flavour
-			if (localEventType == Notification.ADD_MANY) {
-				localEventType = Notification.ADD;
-			} else if (localEventType == Notification.REMOVE_MANY) {
-				localEventType = Notification.REMOVE;
-			}
-
-			return System.identityHashCode(getNotifier()) ^ (37 * localEventType)
-					^ (17 * System.identityHashCode(getFeature()));
+		private boolean isRemoval() {
+			return (eventType == Notification.REMOVE) || (eventType == Notification.REMOVE_MANY)
+					|| (eventType == Notification.REMOVING_ADAPTER);
 		}
 
 		/*
-		 * (non-Javadoc) Redefines the inherited method to implement a merge for
-		 * singleton and list features.
+		 * (non-Javadoc) Redefines the inherited method to merge another notification
+		 * of my group, which must be {@linkplain #isMergeable(Notification)
+		 * mergeable}.
 		 */
 		@Override
-		@SuppressWarnings("unchecked")
 		public boolean merge(Notification other) {
-			boolean result = false;
-
-			Collection<Object> newCollection;
-			Object otherValue;
-
-			if (this.equals(other)) {
-				switch (eventType) {
-				case 0: // Notification.CREATE (deprecated)
-				case Notification.RESOLVE:
-
-					if (newValue instanceof Collection) {
-						newCollection = (Collection<Object>) newValue;
-					} else {
-						newCollection = new java.util.ArrayList<>();
-						newCollection.add(newValue);
-					}
-
-					otherValue = other.getNewValue();
-
-					if (otherValue instanceof Collection) {
-						newCollection.addAll((Collection<?>) otherValue);
-					} else {
-						newCollection.add(otherValue);
-					}
-
-					newValue = newCollection;
-					result = true;
-					break;
-
-				case Notification.ADD:
-				case Notification.ADD_MANY:
-
-					if (newValue instanceof Collection) {
-						newCollection = (Collection<Object>) newValue;
-					} else {
-						newCollection = new java.util.ArrayList<>();
-						newCollection.add(newValue);
-					}
-
-					otherValue = other.getNewValue();
-
-					if (otherValue instanceof Collection) {
-						newCollection.addAll((Collection<?>) otherValue);
-					} else {
-						newCollection.add(otherValue);
-					}
+			switch (eventType) {
+			case 0: // Notification.CREATE (deprecated)
+			case Notification.RESOLVE:
+			case Notification.ADD:
+			case Notification.ADD_MANY:
+				if (values == null) {
+					values = new java.util.ArrayList<>();
+					append(notification.getNewValue());
+				}
+				append(other.getNewValue());
 
-					newValue = newCollection;
+				if (eventType == Notification.ADD) {
 					eventType = Notification.ADD_MANY;
-					result = true;
-					break;
-
-				case Notification.REMOVE:
-				case Notification.REMOVE_MANY:
-
-					if (oldValue instanceof Collection) {
-						newCollection = (Collection<Object>) oldValue;
-					} else {
-						newCollection = new java.util.ArrayList<>();
-						newCollection.add(oldValue);
-					}
-
-					otherValue = other.getOldValue();
-
-					if (otherValue instanceof Collection) {
-						newCollection.addAll((Collection<?>) otherValue);
-					} else {
-						newCollection.add(otherValue);
-					}
+				}
+				break;
+
+			case Notification.REMOVE:
+			case Notification.REMOVE_MANY:
+			case Notification.REMOVING_ADAPTER:
+				if (values == null) {
+					values = new java.util.ArrayList<>();
+					append(notification.getOldValue());
+				}
+				append(other.getOldValue()); // "oldValue" contains removals
 
-					oldValue = newCollection; // "oldValue" contains removals
+				if (eventType == Notification.REMOVE) {
 					eventType = Notification.REMOVE_MANY;
-					result = true;
-					break;
-
-				case Notification.REMOVING_ADAPTER:
-
-					if (oldValue instanceof Collection) {
-						newCollection = (Collection<Object>) oldValue;
-					} else {
-						newCollection = new java.util.ArrayList<>();
-						newCollection.add(oldValue);
-					}
-
-					otherValue = other.getOldValue();
-
-					if (otherValue instanceof Collection) {
-						newCollection.addAll((Collection<?>) otherValue);
-					} else {
-						newCollection.add(otherValue);
-					}
-
-					oldValue = newCollection; // "oldValue" contains removals
-					result = true;
-					break;
-
-				default:
+				}
+				break;
 
-					// just merge all sets, unsets, and moves together by
-					// recording the final value of the collection
-					if (getFeature() instanceof EStructuralFeature) {
-						newValue = ((EObject) getNotifier()).eGet((EStructuralFeature) getFeature());
+			default:
+				// just merge all sets, unsets, and moves together by
+				// recording the final value of the feature
+				finalValueRequired = true;
+				break;
+			}
 
-						// result will be false for non-feature-specific events
-						result = true;
-					}
-					break;
+			return true;
+		}
 
-				// default:
-				}
+		/**
+		 * Appends a value or collection of values to my accumulated values.
+		 *
+		 * @param value the value(s) to append
+		 */
+		private void append(Object value) {
+			if (value instanceof Collection<?>) {
+				values.addAll((Collection<?>) value);
+			} else {
+				values.add(value);
 			}
-
-			return result;
 		}
 	}
 
@@ -0,0 +1,383 @@
+/******************************************************************************
+ * Copyright (c) 2026 Eclipse contributors and others.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *    Eclipse contributors - initial API and implementation
+ ****************************************************************************/
+package org.eclipse.emf.validation.internal.service;
+
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.OperationCanceledException;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.validation.internal.l10n.ValidationMessages;
+import org.eclipse.emf.validation.internal.util.TraversalUtils;
+import org.eclipse.emf.validation.service.IBatchValidator;
+import org.eclipse.emf.validation.service.ITraversalStrategy;
+
+/**
+ * A single parallel run of a {@link BatchValidator} over the containment trees
+ * of a selection of elements, as requested by the
+ * {@link IBatchValidator#OPTION_PARALLELISM} option.
+ * <p>
+ * The containment trees are split into sub-tree tasks on a work-stealing
+ * {@link ForkJoinPool}. Every worker thread has its own validation context and
+ * constraints operation, and each task concatenates the results of its element
+ * with those of its children's tasks, so that the results of every containment
+ * tree are in depth-first order. The trees themselves are merged in the order
+ * of the disjoint selection, whereas a sequential traversal of the selection
+ * does not define any order of them.
+ * </p>
+ * <p>
+ * A constraint that fails is disabled on its descriptor, which is shared by all
+ * of the workers, so that it is not evaluated again in other sub-trees. Other
+ * state of a validation context, such as the elements for which a constraint
+ * was skipped and the current constraint data, is only seen by the worker that
+ * recorded it.
+ * </p>
+ */
+final class ParallelBatchValidation {
+	/**
+	 * Number of queued tasks beyond which a task stops forking and validates the
+	 * rest of its sub-tree itself, as there is already enough work for idle
+	 * workers to steal.
+	 */
+	private static final int SURPLUS_QUEUED_TASKS = 3;
+
+	/** Interval, in milliseconds, at which progress and cancellation are polled. */
+	private static final long POLL_INTERVAL = 100L;
+
+	private final BatchValidator validator;
+	private final int parallelism;
+	private final boolean batchOnly;
+	private final boolean reportSuccesses;
+	private final Set<Resource> resources;
+
+	private final ThreadLocal<Worker> workers = new ThreadLocal<>() {
+		@Override
+		protected Worker initialValue() {
+			return new Worker();
+		}
+	};
+
+	private final AtomicInteger validatedCount = new AtomicInteger();
+	private final AtomicReference<RuntimeException> failure = new AtomicReference<>();
+	private volatile boolean canceled;
+
+	/**
+	 * Initializes me.
+	 *
+	 * @param validator      the validator on whose behalf I evaluate constraints
+	 * @param parallelism    the number of worker threads to use
+	 * @param trackResources whether to track the resources of the validated
+	 *                       elements
+	 */
+	ParallelBatchValidation(BatchValidator validator, int parallelism, boolean trackResources) {
+		this.validator = validator;
+		this.parallelism = parallelism;
+		this.batchOnly = !validator.isIncludeLiveConstraints();
+		this.reportSuccesses = validator.isReportSuccesses();
+		this.resources = trackResources ? java.util.concurrent.ConcurrentHashMap.newKeySet() : null;
+	}
+
+	/**
+	 * Computes the effective number of workers requested by a value of the
+	 * {@link IBatchValidator#OPTION_PARALLELISM} option.
+	 *
+	 * @param option the option value
+	 * @return the number of workers, which is at least one
+	 */
+	static int getParallelism(Integer option) {
+		int result = (option == null) ? 1 : option.intValue();
+
+		if (result <= 0) {
+			result = Runtime.getRuntime().availableProcessors();
+		}
+
+		return result;
+	}
+
+	/**
+	 * Queries whether the specified <code>traversal</code> strategy walks the
+	 * complete containment trees of the <code>objects</code>, so that it can be
+	 * replaced by a parallel walk without changing the validation result.
+	 *
+	 * @param traversal       the validator's traversal strategy
+	 * @param defaultStrategy the validator's default traversal strategy
+	 * @param objects         the elements selected for validation
+	 * @return whether the traversal can be parallelized
+	 */
+	static boolean isParallelizable(ITraversalStrategy traversal, ITraversalStrategy defaultStrategy,
+			Collection<? extends EObject> objects) {
+
+		if ((traversal instanceof ITraversalStrategy.Recursive)
+				|| (traversal instanceof ITraversalStrategy.Streaming)) {
+			return true;
+		} else if (traversal != defaultStrategy) {
+			return false;
+		}
+
+		TraversalStrategyManager mgr = TraversalStrategyManager.getInstance();
+		for (EObject next : objects) {
+			if (!(mgr.getTraversalStrategy(next) instanceof ITraversalStrategy.Recursive)) {
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	/**
+	 * Validates the containment trees of the specified <code>objects</code>.
+	 *
+	 * @param objects        the elements selected for validation
+	 * @param monitor        the progress monitor (never <code>null</code>). It is
+	 *                       only accessed on the calling thread
+	 * @param clientContexts the output collection of client contexts encountered
+	 *                       during validation
+	 * @param results        the accumulator of constraint evaluation results
+	 *
+	 * @throws OperationCanceledException if a constraint requested cancellation of
+	 *                                    the validation operation
+	 */
+	void validate(Collection<? extends EObject> objects, IProgressMonitor monitor,
+			Set<IClientContext> clientContexts, ValidationResults results) {
+
+		List<EObject> roots = TraversalUtils.makeTargetsDisjoint(objects);
+		List<SubtreeTask> tasks = new java.util.ArrayList<>(roots.size());
+
+		// the client contexts are computed once per root, as in a sequential
+		// recursive traversal
+		for (EObject next : roots) {
+			Collection<IClientContext> contexts = ClientContextManager.getInstance().getClientContextsFor(next);
+			clientContexts.addAll(contexts);
+			tasks.add(new SubtreeTask(next, contexts));
+		}
+
+		monitor.beginTask(ValidationMessages.progress_task_validating, IProgressMonitor.UNKNOWN);
+
+		ForkJoinPool pool = new ForkJoinPool(parallelism);
+
+		try {
+			ForkJoinTask<ValidationResults> root = pool.submit(new RecursiveTask<ValidationResults>() {
+				private static final long serialVersionUID = 1L;
+
+				@Override
+				protected ValidationResults compute() {
+					return joinAll(tasks);
+				}
+			});
+
+			results.addAll(await(root, monitor).getResults());
+		} finally {
+			pool.shutdown();
+		}
+
+		RuntimeException e = failure.get();
+		if (e != null) {
+			// rethrow the original exception on the calling thread
+			throw e;
+		}
+	}
+
+	/**
+	 * Obtains the resources of the elements that were validated, if tracking of
+	 * resources was requested.
+	 *
+	 * @return the resources, or <code>null</code> if they were not tracked
+	 */
+	Set<Resource> getResources() {
+		return resources;
+	}
+
+	/**
+	 * Waits for the completion of the <code>task</code>, meanwhile reporting
+	 * progress to and checking for cancellation by the <code>monitor</code>.
+	 *
+	 * @param task    the task to wait for
+	 * @param monitor the progress monitor
+	 * @return the results of the task
+	 */
+	private ValidationResults await(ForkJoinTask<ValidationResults> task, IProgressMonitor monitor) {
+		int reported = 0;
+
+		for (;;) {
+			try {
+				return task.get(POLL_INTERVAL, TimeUnit.MILLISECONDS);
+			} catch (TimeoutException e) {
+				// still working
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				canceled = true;
+				monitor.setCanceled(true);
+			} catch (ExecutionException e) {
+				// tasks capture their own exceptions, so this would be an internal error
+				Throwable cause = e.getCause();
+				throw (cause instanceof RuntimeException) ? (RuntimeException) cause
+						: new IllegalStateException(cause);
+			}
+
+			int validated = validatedCount.get();
+			monitor.worked(validated - reported);
+			reported = validated;
+
+			if (monitor.isCanceled()) {
+				// let the workers wind down and return what they have so far
+				canceled = true;
+			}
+		}
+	}
+
+	/**
+	 * Forks the specified <code>tasks</code> and joins their results in order.
+	 *
+	 * @param tasks sub-tree tasks
+	 * @return the concatenation of the tasks' results
+	 */
+	private static ValidationResults joinAll(List<SubtreeTask> tasks) {
+		ValidationResults result;
+
+		if (tasks.size() == 1) {
+			result = tasks.get(0).compute();
+		} else {
+			ForkJoinTask.invokeAll(tasks);
+
+			result = new ValidationResults();
+			for (SubtreeTask next : tasks) {
+				result.addAll(next.join().getResults());
+			}
+		}
+
+		return result;
+	}
+
+	/**
+	 * Validates a single element on the current worker thread.
+	 *
+	 * @param eObject  the element to validate
+	 * @param contexts the client contexts of the element
+	 * @param results  the accumulator of the results
+	 */
+	private void validate(EObject eObject, Collection<IClientContext> contexts, ValidationResults results) {
+		Worker worker = workers.get();
+
+		worker.ctx.setClientContexts(contexts);
+		validator.validate(worker.ctx, eObject, worker.operation, results);
+
+		if (resources != null) {
+			Resource resource = eObject.eResource();
+			if (resource != null) {
+				resources.add(resource);
+			}
+		}
+
+		validatedCount.incrementAndGet();
+
+		if (validator.isBudgetExhausted()) {
+			// let the workers wind down and return what they have so far
+			canceled = true;
+		}
+	}
+
+	/**
+	 * Records the first exception thrown by a constraint evaluation, which cancels
+	 * the rest of the validation operation.
+	 *
+	 * @param e the exception
+	 */
+	private void fail(RuntimeException e) {
+		failure.compareAndSet(null, e);
+		canceled = true;
+	}
+
+	/**
+	 * The per-thread state of a worker: its own constraints operation and
+	 * validation context.
+	 */
+	private final class Worker {
+		final GetBatchConstraintsOperation operation;
+		final AbstractValidationContext ctx;
+
+		Worker() {
+			operation = new GetBatchConstraintsOperation(batchOnly);
+			ctx = operation.getContext();
+			ctx.setReportSuccesses(reportSuccesses);
+		}
+	}
+
+	/**
+	 * A task that validates an element and its containment sub-tree.
+	 */
+	private final class SubtreeTask extends RecursiveTask<ValidationResults> {
+		private static final long serialVersionUID = 1L;
+
+		private final EObject element;
+		private final Collection<IClientContext> contexts;
+
+		SubtreeTask(EObject element, Collection<IClientContext> contexts) {
+			this.element = element;
+			this.contexts = contexts;
+		}
+
+		@Override
+		protected ValidationResults compute() {
+			ValidationResults result = new ValidationResults();
+
+			if (canceled) {
+				validator.elementsSkipped();
+				return result;
+			}
+
+			try {
+				validate(element, contexts, result);
+
+				if (getSurplusQueuedTaskCount() > SURPLUS_QUEUED_TASKS) {
+					// enough work is queued for other workers. Validate the
+					// rest of this sub-tree here, in depth-first order
+					for (Iterator<EObject> iter = element.eAllContents(); iter.hasNext();) {
+						if (canceled) {
+							validator.elementsSkipped();
+							break;
+						}
+
+						validate(iter.next(), contexts, result);
+					}
+				} else {
+					List<EObject> children = element.eContents();
+
+					if (!children.isEmpty()) {
+						List<SubtreeTask> subtasks = new java.util.ArrayList<>(children.size());
+						for (EObject next : children) {
+							subtasks.add(new SubtreeTask(next, contexts));
+						}
+
+						result.addAll(joinAll(subtasks).getResults());
+					}
+				}
+			} catch (RuntimeException e) {
+				// includes the cancellation requested by constraints
+				fail(e);
+			}
+
+			return result;
+		}
+	}
+}
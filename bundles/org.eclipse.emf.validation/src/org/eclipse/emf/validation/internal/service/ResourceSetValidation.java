@@ -0,0 +1,262 @@
+/******************************************************************************
+ * Copyright (c) 2026 Eclipse contributors and others.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *    Eclipse contributors - initial API and implementation
+ ****************************************************************************/
+package org.eclipse.emf.validation.internal.service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.SubProgressMonitor;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.eclipse.emf.validation.internal.l10n.ValidationMessages;
+import org.eclipse.emf.validation.service.IBatchValidator;
+import org.eclipse.emf.validation.service.ITraversalStrategy;
+
+/**
+ * A single run of a {@link BatchValidator} over the resources of a resource
+ * set, as requested by the
+ * {@link IBatchValidator#validate(ResourceSet, IProgressMonitor)} method.
+ * <p>
+ * Every resource is an independent unit of work. When the resources are
+ * validated concurrently, each is validated by a copy of the validator on the
+ * {@linkplain IBatchValidator#OPTION_RESOURCE_EXECUTOR executor}, after the
+ * cross-resource references have been resolved on the calling thread. The
+ * progress monitor is only accessed on the calling thread.
+ * </p>
+ */
+final class ResourceSetValidation {
+	/** Interval, in milliseconds, at which progress and cancellation are polled. */
+	private static final long POLL_INTERVAL = 100L;
+
+	private final BatchValidator validator;
+
+	/**
+	 * Initializes me.
+	 *
+	 * @param validator the validator on whose behalf I validate resources
+	 */
+	ResourceSetValidation(BatchValidator validator) {
+		this.validator = validator;
+	}
+
+	/**
+	 * Validates the resources of the specified resource set.
+	 *
+	 * @param resourceSet the resource set to validate
+	 * @param monitor     the progress monitor, or <code>null</code>
+	 * @return the validation status of each resource, in resource set order
+	 */
+	Map<Resource, IStatus> validate(ResourceSet resourceSet, IProgressMonitor monitor) {
+		if (monitor == null) {
+			monitor = new NullProgressMonitor();
+		}
+
+		// resolving references may add resources to the set, which are not
+		// validated
+		List<Resource> resources = new java.util.ArrayList<>(resourceSet.getResources());
+		Map<Resource, IStatus> result = new java.util.LinkedHashMap<>();
+
+		Executor executor = validator.getOption(IBatchValidator.OPTION_RESOURCE_EXECUTOR);
+		int parallelism = ParallelBatchValidation.getParallelism(
+				validator.getOption(IBatchValidator.OPTION_PARALLELISM));
+
+		monitor.beginTask(ValidationMessages.progress_task_validating, resources.size());
+
+		try {
+			if (((executor == null) && (parallelism <= 1)) || (resources.size() <= 1)
+					|| !isConcurrent(resources)) {
+				validateSequentially(resources, monitor, result);
+			} else {
+				validateConcurrently(resources, executor, parallelism, monitor, result);
+			}
+		} finally {
+			monitor.done();
+		}
+
+		return result;
+	}
+
+	/**
+	 * Queries whether the validator's traversal strategy permits the resources to
+	 * be validated concurrently.
+	 *
+	 * @param resources the resources to validate
+	 * @return whether to validate the resources concurrently
+	 */
+	private boolean isConcurrent(List<Resource> resources) {
+		List<EObject> roots = new java.util.ArrayList<>();
+		for (Resource next : resources) {
+			roots.addAll(next.getContents());
+		}
+
+		return ParallelBatchValidation.isParallelizable(validator.getTraversalStrategy(),
+				validator.getDefaultTraversalStrategy(), roots);
+	}
+
+	/**
+	 * Validates the resources one after another on the calling thread.
+	 *
+	 * @param resources the resources to validate
+	 * @param monitor   the progress monitor
+	 * @param result    the output map of resource statuses
+	 */
+	private void validateSequentially(List<Resource> resources, IProgressMonitor monitor,
+			Map<Resource, IStatus> result) {
+
+		for (Resource next : resources) {
+			if (monitor.isCanceled()) {
+				break;
+			}
+
+			result.put(next, validator.validate(new java.util.ArrayList<>(next.getContents()),
+					new SubProgressMonitor(monitor, 1)));
+		}
+	}
+
+	/**
+	 * Validates the resources concurrently, each on a copy of the validator.
+	 *
+	 * @param resources   the resources to validate
+	 * @param executor    the executor on which to validate them, or
+	 *                    <code>null</code> to use a dedicated pool
+	 * @param parallelism the number of threads of a dedicated pool
+	 * @param monitor     the progress monitor
+	 * @param result      the output map of resource statuses
+	 */
+	private void validateConcurrently(List<Resource> resources, Executor executor, int parallelism,
+			IProgressMonitor monitor, Map<Resource, IStatus> result) {
+
+		// resolve the cross-resource references up front, so that the workers
+		// do not load resources into the resource set concurrently
+		for (Resource next : resources) {
+			EcoreUtil.resolveAll(next);
+		}
+
+		ForkJoinPool pool = null;
+		if (executor == null) {
+			pool = new ForkJoinPool(parallelism);
+			executor = pool;
+		}
+
+		List<IProgressMonitor> monitors = new java.util.ArrayList<>(resources.size());
+		List<FutureTask<IStatus>> tasks = new java.util.ArrayList<>(resources.size());
+
+		try {
+			for (Resource next : resources) {
+				final BatchValidator resourceValidator = validator.createResourceValidator();
+				final List<EObject> contents = new java.util.ArrayList<>(next.getContents());
+				final IProgressMonitor taskMonitor = new NullProgressMonitor();
+
+				FutureTask<IStatus> task = new FutureTask<>(new Callable<IStatus>() {
+					@Override
+					public IStatus call() {
+						// resources that are not started when canceled are omitted
+						return taskMonitor.isCanceled() ? null : resourceValidator.validate(contents, taskMonitor);
+					}
+				});
+
+				monitors.add(taskMonitor);
+				tasks.add(task);
+				executor.execute(task);
+			}
+
+			for (int i = 0; i < tasks.size(); i++) {
+				IStatus status = await(tasks.get(i), monitor, monitors);
+
+				if (status != null) {
+					result.put(resources.get(i), status);
+				}
+
+				monitor.worked(1);
+			}
+		} finally {
+			if (pool != null) {
+				pool.shutdown();
+			}
+		}
+	}
+
+	/**
+	 * Waits for the completion of the <code>task</code>, meanwhile checking for
+	 * cancellation by the <code>monitor</code>.
+	 *
+	 * @param task     the task to wait for
+	 * @param monitor  the progress monitor
+	 * @param monitors the progress monitors of all of the tasks, to cancel them
+	 *                 when the <code>monitor</code> is canceled
+	 * @return the result of the task
+	 */
+	private IStatus await(FutureTask<IStatus> task, IProgressMonitor monitor, List<IProgressMonitor> monitors) {
+		for (;;) {
+			try {
+				return task.get(POLL_INTERVAL, TimeUnit.MILLISECONDS);
+			} catch (TimeoutException e) {
+				// still working
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				monitor.setCanceled(true);
+			} catch (ExecutionException e) {
+				cancel(monitors);
+
+				Throwable cause = e.getCause();
+				throw (cause instanceof RuntimeException) ? (RuntimeException) cause
+						: new IllegalStateException(cause);
+			}
+
+			if (monitor.isCanceled()) {
+				// let the workers wind down and return what they have so far
+				cancel(monitors);
+			}
+		}
+	}
+
+	/**
+	 * Cancels the validation of all resources.
+	 *
+	 * @param monitors the progress monitors of the resources' tasks
+	 */
+	private static void cancel(List<IProgressMonitor> monitors) {
+		for (IProgressMonitor next : monitors) {
+			next.setCanceled(true);
+		}
+	}
+
+	/**
+	 * Creates a traversal strategy of the same kind as the specified strategy,
+	 * for use by a copy of a validator.
+	 *
+	 * @param traversal a recursive or streaming traversal strategy
+	 * @return the new strategy, or <code>null</code> if the
+	 *         <code>traversal</code> is of neither kind
+	 */
+	static ITraversalStrategy copyTraversalStrategy(ITraversalStrategy traversal) {
+		if (traversal instanceof ITraversalStrategy.Streaming) {
+			return new ITraversalStrategy.Streaming();
+		} else if (traversal instanceof ITraversalStrategy.Recursive) {
+			return new ITraversalStrategy.Recursive();
+		}
+
+		return null;
+	}
+}
@@ -0,0 +1,146 @@
+/******************************************************************************
+ * Copyright (c) 2026 Eclipse contributors and others.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *    Eclipse contributors - initial API and implementation
+ ****************************************************************************/
+package org.eclipse.emf.validation.internal.service;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.emf.validation.internal.EMFModelValidationPlugin;
+import org.eclipse.emf.validation.internal.EMFModelValidationStatusCodes;
+import org.eclipse.emf.validation.service.IBatchValidator;
+
+/**
+ * The error budget of a batch validation operation, as specified by the
+ * {@link IBatchValidator#OPTION_MAX_PROBLEMS} and
+ * {@link IBatchValidator#OPTION_STOP_ON_SEVERITY} options. The budget is
+ * exhausted when the maximal number of problems has been reported or a problem
+ * of the stop severity has been reported, after which validation should stop.
+ * The results are only truncated if a problem was rejected or elements were
+ * left unvalidated because of exhaustion, and not if exactly the maximal number
+ * of problems was found. Budgets may be shared by the workers of a parallel
+ * validation.
+ */
+final class ValidationBudget {
+	private final int maxProblems;
+	private final int stopSeverity;
+
+	private final AtomicInteger problems = new AtomicInteger();
+	private volatile boolean exhausted;
+	private volatile boolean truncated;
+
+	/**
+	 * Initializes me.
+	 *
+	 * @param maxProblems  the maximal number of problems to report, or a
+	 *                     non-positive value for no limit
+	 * @param stopSeverity the severity of problems after which to stop, or a
+	 *                     non-positive value for none
+	 */
+	private ValidationBudget(int maxProblems, int stopSeverity) {
+		this.maxProblems = maxProblems;
+		this.stopSeverity = stopSeverity;
+	}
+
+	/**
+	 * Creates the budget for the specified option values, if they request one.
+	 *
+	 * @param maxProblems  the value of the
+	 *                     {@link IBatchValidator#OPTION_MAX_PROBLEMS} option
+	 * @param stopSeverity the value of the
+	 *                     {@link IBatchValidator#OPTION_STOP_ON_SEVERITY} option
+	 * @return the budget, or <code>null</code> if validation is unlimited
+	 */
+	static ValidationBudget create(Integer maxProblems, Integer stopSeverity) {
+		int max = (maxProblems == null) ? 0 : maxProblems.intValue();
+		int severity = (stopSeverity == null) ? 0 : stopSeverity.intValue();
+
+		return ((max <= 0) && (severity <= 0)) ? null : new ValidationBudget(max, severity);
+	}
+
+	/**
+	 * Accounts for a result that is to be reported.
+	 *
+	 * @param result a constraint evaluation result
+	 * @return <code>true</code> if the result is within budget and may be reported;
+	 *         <code>false</code> if the budget is already exhausted
+	 */
+	boolean accept(IStatus result) {
+		if (exhausted) {
+			truncated = true;
+			return false;
+		}
+
+		if (!result.isOK()) {
+			if (maxProblems > 0) {
+				int count = problems.incrementAndGet();
+
+				if (count > maxProblems) {
+					// another worker reported the last problem
+					exhausted = true;
+					truncated = true;
+					return false;
+				} else if (count == maxProblems) {
+					exhausted = true;
+				}
+			}
+
+			if ((stopSeverity > 0) && (result.getSeverity() >= stopSeverity)) {
+				exhausted = true;
+			}
+		}
+
+		return true;
+	}
+
+	/**
+	 * Queries whether the budget is exhausted, so that validation should stop.
+	 *
+	 * @return whether the budget is exhausted
+	 */
+	boolean isExhausted() {
+		return exhausted;
+	}
+
+	/**
+	 * Records that validation stopped before all of the elements were validated.
+	 * If the budget is exhausted, then that is why, and the results are
+	 * truncated.
+	 */
+	void elementsSkipped() {
+		if (exhausted) {
+			truncated = true;
+		}
+	}
+
+	/**
+	 * Queries whether the results are truncated, because a problem was not
+	 * reported or elements were not validated when the budget was exhausted.
+	 *
+	 * @return whether the results are truncated
+	 */
+	boolean isTruncated() {
+		return truncated;
+	}
+
+	/**
+	 * Creates the status indicating that the validation results are truncated
+	 * because the budget was exhausted.
+	 *
+	 * @return the truncation status
+	 */
+	static IStatus createTruncatedStatus() {
+		return new Status(IStatus.INFO, EMFModelValidationPlugin.getPluginId(),
+				EMFModelValidationStatusCodes.VALIDATION_TRUNCATED,
+				EMFModelValidationStatusCodes.VALIDATION_TRUNCATED_MSG, null);
+	}
+}
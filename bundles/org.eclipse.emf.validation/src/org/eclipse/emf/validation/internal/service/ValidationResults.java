@@ -0,0 +1,118 @@
+/******************************************************************************
+ * Copyright (c) 2026 Eclipse contributors and others.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *    Eclipse contributors - initial API and implementation
+ ****************************************************************************/
+package org.eclipse.emf.validation.internal.service;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Consumer;
+
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.emf.validation.service.IValidationResultSink;
+
+/**
+ * An accumulator of the results of a validation operation. It either retains
+ * the results or passes every result to an {@link IValidationResultSink}, in
+ * which case only a running summary of the results is kept.
+ */
+final class ValidationResults implements Consumer<IStatus> {
+	private final List<IStatus> results;
+	private final IValidationResultSink sink;
+
+	private int count;
+	private int severity = IStatus.OK;
+
+	/**
+	 * Initializes me to retain the results.
+	 */
+	ValidationResults() {
+		this(null);
+	}
+
+	/**
+	 * Initializes me with the sink to which I pass results.
+	 *
+	 * @param sink the result sink, or <code>null</code> to retain the results
+	 */
+	ValidationResults(IValidationResultSink sink) {
+		this.sink = sink;
+
+		results = (sink == null) ? new java.util.ArrayList<IStatus>() : null;
+	}
+
+	/**
+	 * Adds a result.
+	 *
+	 * @param result the result of a constraint evaluation or a resource status
+	 */
+	@Override
+	public void accept(IStatus result) {
+		if (sink != null) {
+			sink.accept(result);
+		} else {
+			results.add(result);
+		}
+
+		count++;
+		if (result.getSeverity() > severity) {
+			severity = result.getSeverity();
+		}
+	}
+
+	/**
+	 * Adds results, in order.
+	 *
+	 * @param statuses results of constraint evaluations
+	 */
+	void addAll(Collection<? extends IStatus> statuses) {
+		for (IStatus next : statuses) {
+			accept(next);
+		}
+	}
+
+	/**
+	 * Queries whether I retain my results or pass them to a sink.
+	 *
+	 * @return <code>true</code> if my results are available from
+	 *         {@link #getResults()}
+	 */
+	boolean isRetained() {
+		return sink == null;
+	}
+
+	/**
+	 * Obtains the results that I retain.
+	 *
+	 * @return my results, which are empty if I passed them to a sink
+	 */
+	List<IStatus> getResults() {
+		return (results == null) ? Collections.<IStatus>emptyList() : results;
+	}
+
+	/**
+	 * Obtains the number of results that were added to me.
+	 *
+	 * @return the number of results
+	 */
+	int getCount() {
+		return count;
+	}
+
+	/**
+	 * Obtains the maximal severity of the results that were added to me.
+	 *
+	 * @return the maximal severity
+	 */
+	int getSeverity() {
+		return severity;
+	}
+}
@@ -0,0 +1,629 @@
+/******************************************************************************
+ * Copyright (c) 2026 Eclipse contributors and others.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *    Eclipse contributors - initial API and implementation
+ ****************************************************************************/
+
+package org.eclipse.emf.validation.internal.util;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import org.eclipse.core.runtime.IConfigurationElement;
+import org.eclipse.core.runtime.Platform;
+import org.eclipse.emf.common.EMFPlugin;
+import org.eclipse.emf.validation.internal.EMFModelValidationDebugOptions;
+import org.eclipse.emf.validation.internal.EMFModelValidationPlugin;
+import org.eclipse.emf.validation.internal.EMFModelValidationStatusCodes;
+import org.eclipse.emf.validation.model.Category;
+import org.eclipse.emf.validation.model.CategoryManager;
+import org.eclipse.emf.validation.service.ConstraintExistsException;
+import org.eclipse.emf.validation.service.IConstraintDescriptor;
+import org.eclipse.emf.validation.util.XmlConfig;
+import org.osgi.framework.Bundle;
+
+/**
+ * <p>
+ * A persistent snapshot of the constraints that a <tt>&lt;constraints&gt;</tt>
+ * element of an XML constraint provider includes from separate XML files. The
+ * snapshot records the constraint elements that were parsed from the included
+ * files and the categories to which the parsing assigned the constraints, so
+ * that on the next start-up the included files need not be parsed again.
+ * </p>
+ * <p>
+ * Snapshots are stored in binary files in the state location of the EMF Model
+ * Validation plug-in. A snapshot is keyed by a digest of the versions of this
+ * plug-in and of the contributing bundle, the time at which the contributing
+ * bundle was last modified, the default locale (because the XML files are
+ * localized when they are parsed), and the content of the
+ * <tt>&lt;constraints&gt;</tt> element itself, so that a snapshot is never used
+ * if any of these changes. Snapshots are only used when the Eclipse platform is
+ * running, and any problem in reading or writing a snapshot falls back to
+ * parsing the XML. When a snapshot is stored, the outdated snapshots of the
+ * same <tt>&lt;constraints&gt;</tt> element are deleted.
+ * </p>
+ */
+public final class ConstraintsSnapshot {
+	private static final int MAGIC = 0x454D4643; // "EMFC"
+
+	/** The version of the file format, to be incremented when it changes. */
+	private static final int FORMAT = 1;
+
+	private static final String SNAPSHOT_DIRECTORY = "constraintSnapshots"; //$NON-NLS-1$
+
+	private static final String SNAPSHOT_EXTENSION = ".bin"; //$NON-NLS-1$
+
+	private static final String DIGEST_ALGORITHM = "SHA-1"; //$NON-NLS-1$
+
+	/** The number of bytes of the location digest in the name of a file. */
+	private static final int LOCATION_LENGTH = 8;
+
+	private static final char LOCATION_SEPARATOR = '-';
+
+	/**
+	 * Not instantiable by clients.
+	 */
+	private ConstraintsSnapshot() {
+		super();
+	}
+
+	/**
+	 * Queries whether a <tt>&lt;constraints&gt;</tt> element can be snapshotted,
+	 * which is the case if it includes XML files.
+	 *
+	 * @param constraints a <tt>&lt;constraints&gt;</tt> element of the plug-in
+	 *                    manifest
+	 * @return whether it may have a snapshot
+	 */
+	public static boolean isApplicable(IConfigurationElement constraints) {
+		return EMFPlugin.IS_ECLIPSE_RUNNING && (EMFModelValidationPlugin.getPlugin() != null)
+				&& (constraints.getChildren(XmlConfig.E_INCLUDE).length > 0);
+	}
+
+	/**
+	 * Loads the snapshot of a <tt>&lt;constraints&gt;</tt> element, assigning the
+	 * constraints to their categories as parsing them would have done.
+	 *
+	 * @param constraints an {@linkplain #isApplicable(IConfigurationElement)
+	 *                    applicable} <tt>&lt;constraints&gt;</tt> element
+	 * @return the same result as
+	 *         {@link XmlConfig#parseConstraintsWithIncludes(IConfigurationElement)}
+	 *         would return, or <code>null</code> if there is no snapshot that
+	 *         matches the current <code>constraints</code> element
+	 */
+	public static IConfigurationElement load(IConfigurationElement constraints) {
+		IConfigurationElement result = null;
+
+		try {
+			byte[] key = computeKey(constraints);
+			File file = getFile(constraints, key);
+
+			if ((key != null) && (file != null) && file.isFile()) {
+				Loaded loaded = read(file, key, constraints);
+
+				if (loaded != null) {
+					resolveCategories(constraints, loaded);
+					result = loaded.element;
+				}
+
+				if (Trace.shouldTrace(EMFModelValidationDebugOptions.XML)) {
+					String action = (result == null) ? "Rejected" : "Loaded"; //$NON-NLS-1$//$NON-NLS-2$
+					Trace.trace(EMFModelValidationDebugOptions.XML,
+							action + " constraints snapshot: " + file); //$NON-NLS-1$
+				}
+			}
+		} catch (IOException | RuntimeException e) {
+			Trace.catching(ConstraintsSnapshot.class, "load", e); //$NON-NLS-1$
+		}
+
+		return result;
+	}
+
+	/**
+	 * Stores the snapshot of a <tt>&lt;constraints&gt;</tt> element.
+	 *
+	 * @param constraints an {@linkplain #isApplicable(IConfigurationElement)
+	 *                    applicable} <tt>&lt;constraints&gt;</tt> element
+	 * @param parsed        the result of parsing it with
+	 *                      {@link XmlConfig#parseConstraintsWithIncludes(IConfigurationElement, Map)}
+	 * @param categoryPaths the category paths that the parse assigned to the
+	 *                      constraint elements
+	 */
+	public static void store(IConfigurationElement constraints, IConfigurationElement parsed,
+			Map<IConfigurationElement, List<String>> categoryPaths) {
+
+		try {
+			byte[] key = computeKey(constraints);
+			File file = getFile(constraints, key);
+
+			if ((key == null) || (file == null) || !(parsed instanceof XmlConfigurationElement)) {
+				return;
+			}
+
+			ByteArrayOutputStream bytes = new ByteArrayOutputStream(8192);
+			DataOutputStream out = new DataOutputStream(bytes);
+
+			if (write(out, key, constraints, (XmlConfigurationElement) parsed, categoryPaths)) {
+				out.flush();
+
+				File directory = file.getParentFile();
+				directory.mkdirs();
+
+				// write a temporary file and move it, so that a snapshot is never
+				// read while it is being written
+				File temp = File.createTempFile("snapshot", null, directory); //$NON-NLS-1$
+
+				try {
+					Files.write(temp.toPath(), bytes.toByteArray());
+					Files.move(temp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING,
+							StandardCopyOption.ATOMIC_MOVE);
+				} finally {
+					temp.delete();
+				}
+
+				prune(file);
+
+				if (Trace.shouldTrace(EMFModelValidationDebugOptions.XML)) {
+					Trace.trace(EMFModelValidationDebugOptions.XML,
+							"Stored constraints snapshot: " + file); //$NON-NLS-1$
+				}
+			}
+		} catch (IOException | RuntimeException e) {
+			Trace.catching(ConstraintsSnapshot.class, "store", e); //$NON-NLS-1$
+		}
+	}
+
+	/**
+	 * Computes the key of the snapshot of a <tt>&lt;constraints&gt;</tt> element.
+	 *
+	 * @param constraints a <tt>&lt;constraints&gt;</tt> element
+	 * @return the key, or <code>null</code> if the element cannot have a snapshot
+	 * @throws IOException on failure to compute the key
+	 */
+	private static byte[] computeKey(IConfigurationElement constraints) throws IOException {
+		Bundle contributor = Platform.getBundle(constraints.getDeclaringExtension().getNamespaceIdentifier());
+
+		if (contributor == null) {
+			return null;
+		}
+
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream(1024);
+		DataOutputStream out = new DataOutputStream(bytes);
+
+		out.writeInt(FORMAT);
+		writeString(out, EMFModelValidationPlugin.getPlugin().getBundle().getVersion().toString());
+		writeString(out, contributor.getSymbolicName());
+		writeString(out, contributor.getVersion().toString());
+		out.writeLong(contributor.getLastModified());
+		writeString(out, Locale.getDefault().toString());
+		writeKeyElement(out, constraints);
+		out.flush();
+
+		try {
+			return MessageDigest.getInstance(DIGEST_ALGORITHM).digest(bytes.toByteArray());
+		} catch (NoSuchAlgorithmException e) {
+			return null;
+		}
+	}
+
+	/**
+	 * Writes the content of an element of the plug-in manifest to the key.
+	 *
+	 * @param out     the key data
+	 * @param element the element
+	 * @throws IOException on failure to write
+	 */
+	private static void writeKeyElement(DataOutputStream out, IConfigurationElement element) throws IOException {
+		writeString(out, element.getName());
+		writeString(out, element.getValue());
+
+		String[] names = element.getAttributeNames();
+		Arrays.sort(names);
+
+		out.writeInt(names.length);
+		for (String next : names) {
+			writeString(out, next);
+			writeString(out, element.getAttribute(next));
+		}
+
+		IConfigurationElement[] children = element.getChildren();
+
+		out.writeInt(children.length);
+		for (IConfigurationElement next : children) {
+			writeKeyElement(out, next);
+		}
+	}
+
+	/**
+	 * Obtains the file in which the snapshot with the specified key is stored. The
+	 * name of the file starts with a digest of the location of the
+	 * <tt>&lt;constraints&gt;</tt> element in its plug-in manifest, which is
+	 * shared by all of the snapshots of the element, followed by the key.
+	 *
+	 * @param constraints a <tt>&lt;constraints&gt;</tt> element
+	 * @param key         the snapshot key, or <code>null</code>
+	 * @return the file, or <code>null</code> if there is no state location
+	 */
+	private static File getFile(IConfigurationElement constraints, byte[] key) {
+		if (key == null) {
+			return null;
+		}
+
+		byte[] location;
+
+		try {
+			location = MessageDigest.getInstance(DIGEST_ALGORITHM)
+					.digest(getLocation(constraints).getBytes(StandardCharsets.UTF_8));
+		} catch (NoSuchAlgorithmException e) {
+			return null;
+		}
+
+		StringBuilder name = new StringBuilder(LOCATION_LENGTH * 2 + 1 + key.length * 2
+				+ SNAPSHOT_EXTENSION.length());
+		appendHex(name, Arrays.copyOf(location, LOCATION_LENGTH));
+		name.append(LOCATION_SEPARATOR);
+		appendHex(name, key);
+		name.append(SNAPSHOT_EXTENSION);
+
+		try {
+			return EMFModelValidationPlugin.getPlugin().getStateLocation().append(SNAPSHOT_DIRECTORY)
+					.append(name.toString()).toFile();
+		} catch (IllegalStateException e) {
+			// no instance location
+			return null;
+		}
+	}
+
+	/**
+	 * Computes the location of a <tt>&lt;constraints&gt;</tt> element in its
+	 * plug-in manifest, which identifies the element across versions of the
+	 * plug-in.
+	 *
+	 * @param constraints a <tt>&lt;constraints&gt;</tt> element
+	 * @return its location
+	 */
+	private static String getLocation(IConfigurationElement constraints) {
+		StringBuilder result = new StringBuilder(64);
+
+		result.append(constraints.getDeclaringExtension().getNamespaceIdentifier());
+		result.append('/');
+		result.append(constraints.getDeclaringExtension().getUniqueIdentifier());
+
+		// the indices of the element and of its ancestors amongst their siblings
+		IConfigurationElement element = constraints;
+		while (element.getParent() instanceof IConfigurationElement) {
+			IConfigurationElement parent = (IConfigurationElement) element.getParent();
+
+			result.append('/').append(Arrays.asList(parent.getChildren()).indexOf(element));
+			element = parent;
+		}
+
+		result.append('/').append(
+				Arrays.asList(constraints.getDeclaringExtension().getConfigurationElements()).indexOf(element));
+
+		return result.toString();
+	}
+
+	/**
+	 * Deletes the other snapshots of the <tt>&lt;constraints&gt;</tt> element
+	 * whose snapshot was stored in a file, which are outdated.
+	 *
+	 * @param file the file of the current snapshot
+	 */
+	private static void prune(File file) {
+		String name = file.getName();
+		String prefix = name.substring(0, name.indexOf(LOCATION_SEPARATOR) + 1);
+
+		File[] siblings = file.getParentFile().listFiles();
+		if (siblings != null) {
+			for (File next : siblings) {
+				String nextName = next.getName();
+
+				if (nextName.startsWith(prefix) && nextName.endsWith(SNAPSHOT_EXTENSION) && !nextName.equals(name)) {
+					next.delete();
+				}
+			}
+		}
+	}
+
+	private static void appendHex(StringBuilder buf, byte[] bytes) {
+		for (byte next : bytes) {
+			buf.append(Character.forDigit((next >> 4) & 0xF, 16));
+			buf.append(Character.forDigit(next & 0xF, 16));
+		}
+	}
+
+	/**
+	 * Writes the snapshot of a <tt>&lt;constraints&gt;</tt> element.
+	 *
+	 * @param out           the snapshot data
+	 * @param key           the snapshot key
+	 * @param constraints   the <tt>&lt;constraints&gt;</tt> element
+	 * @param parsed        the result of parsing it
+	 * @param categoryPaths the category paths that the parse assigned to the
+	 *                      constraint elements
+	 * @return whether the snapshot could be written. If not, it must be discarded
+	 * @throws IOException on failure to write
+	 */
+	private static boolean write(DataOutputStream out, byte[] key, IConfigurationElement constraints,
+			XmlConfigurationElement parsed, Map<IConfigurationElement, List<String>> categoryPaths)
+			throws IOException {
+
+		out.writeInt(MAGIC);
+		out.writeInt(FORMAT);
+		out.writeInt(key.length);
+		out.write(key);
+
+		writeUrl(out, parsed.getBaseUrl());
+
+		// the parsed element has the children of the original element that are
+		// not includes, followed by the children parsed from the included files
+		List<IConfigurationElement> original = new java.util.ArrayList<>();
+		for (IConfigurationElement next : constraints.getChildren()) {
+			if (!XmlConfig.E_INCLUDE.equals(next.getName())) {
+				original.add(next);
+			}
+		}
+
+		IConfigurationElement[] children = parsed.getChildren();
+		if ((children.length < original.size())
+				|| !original.equals(Arrays.asList(children).subList(0, original.size()))) {
+			return false;
+		}
+
+		out.writeInt(children.length - original.size());
+		for (int i = original.size(); i < children.length; i++) {
+			if (!writeElement(out, children[i])) {
+				return false;
+			}
+		}
+
+		// the categories to which the parsing itself assigned the constraints,
+		// excluding any to which they were added otherwise
+		for (IConfigurationElement next : children) {
+			List<String> paths = categoryPaths.get(next);
+
+			if (paths == null) {
+				paths = java.util.Collections.emptyList();
+			}
+
+			out.writeInt(paths.size());
+			for (String path : paths) {
+				writeString(out, path);
+			}
+		}
+
+		return true;
+	}
+
+	/**
+	 * Writes an element parsed from an XML file.
+	 *
+	 * @param out     the snapshot data
+	 * @param element the element
+	 * @return whether the element could be written
+	 * @throws IOException on failure to write
+	 */
+	private static boolean writeElement(DataOutputStream out, IConfigurationElement element) throws IOException {
+		if (!(element instanceof XmlConfigurationElement)) {
+			return false;
+		}
+
+		XmlConfigurationElement xml = (XmlConfigurationElement) element;
+
+		writeString(out, xml.getName());
+		writeString(out, xml.getValue());
+		writeUrl(out, xml.getBaseUrl());
+
+		String[] names = xml.getAttributeNames();
+
+		out.writeInt(names.length);
+		for (String next : names) {
+			writeString(out, next);
+			writeString(out, xml.getAttribute(next));
+		}
+
+		IConfigurationElement[] children = xml.getChildren();
+
+		out.writeInt(children.length);
+		for (IConfigurationElement next : children) {
+			if (!writeElement(out, next)) {
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	/**
+	 * Reads the snapshot of a <tt>&lt;constraints&gt;</tt> element from a
+	 * memory-mapped file.
+	 *
+	 * @param file        the snapshot file
+	 * @param key         the expected snapshot key
+	 * @param constraints the <tt>&lt;constraints&gt;</tt> element
+	 * @return the loaded snapshot, or <code>null</code> if the file is not a
+	 *         valid snapshot with the expected key
+	 * @throws IOException on failure to read the file
+	 */
+	private static Loaded read(File file, byte[] key, IConfigurationElement constraints) throws IOException {
+		try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+			ByteBuffer in = channel.map(FileChannel.MapMode.READ_ONLY, 0L, channel.size());
+
+			if ((in.getInt() != MAGIC) || (in.getInt() != FORMAT)) {
+				return null;
+			}
+
+			byte[] fileKey = new byte[in.getInt()];
+			in.get(fileKey);
+
+			if (!Arrays.equals(key, fileKey)) {
+				return null;
+			}
+
+			ConstraintsConfigurationElement element = new ConstraintsConfigurationElement(constraints,
+					readUrl(in));
+
+			for (int i = in.getInt(); i > 0; i--) {
+				element.addChild(readElement(in, constraints));
+			}
+
+			IConfigurationElement[] children = element.getChildren();
+			String[][] categories = new String[children.length][];
+
+			for (int i = 0; i < children.length; i++) {
+				categories[i] = new String[in.getInt()];
+
+				for (int j = 0; j < categories[i].length; j++) {
+					categories[i][j] = readString(in);
+				}
+			}
+
+			return new Loaded(element, categories);
+		} catch (BufferUnderflowException | IllegalArgumentException | MalformedURLException e) {
+			// a truncated or otherwise corrupt snapshot
+			Trace.catching(ConstraintsSnapshot.class, "read", e); //$NON-NLS-1$
+			return null;
+		}
+	}
+
+	/**
+	 * Reads an element parsed from an XML file.
+	 *
+	 * @param in          the snapshot data
+	 * @param constraints the <tt>&lt;constraints&gt;</tt> element of the plug-in
+	 *                    manifest that included the element
+	 * @return the element
+	 * @throws MalformedURLException if the element's base URL is not valid
+	 */
+	private static XmlConfigurationElement readElement(ByteBuffer in, IConfigurationElement constraints)
+			throws MalformedURLException {
+
+		String name = readString(in);
+		String value = readString(in);
+		URL baseUrl = readUrl(in);
+
+		int attributeCount = in.getInt();
+		Map<String, String> attributes = new java.util.HashMap<>();
+		for (int i = 0; i < attributeCount; i++) {
+			attributes.put(readString(in), readString(in));
+		}
+
+		XmlConfigurationElement result = new XmlConfigurationElement(name, attributes,
+				constraints.getDeclaringExtension(), baseUrl);
+		result.setValue(value);
+
+		for (int i = in.getInt(); i > 0; i--) {
+			result.addChild(readElement(in, constraints));
+		}
+
+		return result;
+	}
+
+	/**
+	 * Assigns the constraints of a loaded snapshot to the categories to which
+	 * parsing them would have assigned them.
+	 *
+	 * @param constraints the <tt>&lt;constraints&gt;</tt> element
+	 * @param loaded      the loaded snapshot
+	 */
+	private static void resolveCategories(IConfigurationElement constraints, Loaded loaded) {
+		CategoryManager mgr = CategoryManager.getInstance();
+		IConfigurationElement[] children = loaded.element.getChildren();
+
+		for (int i = 0; i < children.length; i++) {
+			if (loaded.categories[i].length == 0) {
+				continue;
+			}
+
+			try {
+				IConstraintDescriptor constraint = new XmlConstraintDescriptor(children[i]);
+
+				for (String path : loaded.categories[i]) {
+					Category category = mgr.findCategory(path);
+
+					if (category != null) {
+						category.addConstraint(constraint);
+					}
+				}
+			} catch (ConstraintExistsException e) {
+				// duplicate constraint case. Log it
+				Log.warningMessage(EMFModelValidationStatusCodes.PROVIDER_DUPLICATE_CONSTRAINT,
+						EMFModelValidationStatusCodes.PROVIDER_DUPLICATE_CONSTRAINT_MSG,
+						new Object[] { e.getMessage() }); // the constraint ID
+			}
+		}
+	}
+
+	private static void writeString(DataOutputStream out, String s) throws IOException {
+		if (s == null) {
+			out.writeInt(-1);
+		} else {
+			byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
+			out.writeInt(bytes.length);
+			out.write(bytes);
+		}
+	}
+
+	private static String readString(ByteBuffer in) {
+		int length = in.getInt();
+
+		if (length < 0) {
+			return null;
+		}
+
+		byte[] bytes = new byte[length];
+		in.get(bytes);
+
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+
+	private static void writeUrl(DataOutputStream out, URL url) throws IOException {
+		writeString(out, (url == null) ? null : url.toExternalForm());
+	}
+
+	private static URL readUrl(ByteBuffer in) throws MalformedURLException {
+		String url = readString(in);
+
+		return (url == null) ? null : new URL(url);
+	}
+
+	/**
+	 * A snapshot loaded from its file.
+	 */
+	private static final class Loaded {
+		/** The snapshot of the parsed <tt>&lt;constraints&gt;</tt> element. */
+		final XmlConfigurationElement element;
+
+		/** The category paths of the element's children, by index. */
+		final String[][] categories;
+
+		Loaded(XmlConfigurationElement element, String[][] categories) {
+			this.element = element;
+			this.categories = categories;
+		}
+	}
+}
@@ -0,0 +1,401 @@
+/******************************************************************************
+ * Copyright (c) 2026 Eclipse contributors and others.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *    Eclipse contributors - initial API and implementation
+ ****************************************************************************/
+
+package org.eclipse.emf.validation.internal.util;
+
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import org.eclipse.core.expressions.EvaluationContext;
+import org.eclipse.core.expressions.EvaluationResult;
+import org.eclipse.core.expressions.Expression;
+import org.eclipse.core.expressions.ExpressionConverter;
+import org.eclipse.core.expressions.Expressions;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IConfigurationElement;
+import org.eclipse.emf.ecore.EObject;
+
+/**
+ * <p>
+ * Compiles the XML expressions of client-context enablements into predicates on
+ * the objects that they select, so that the common forms of enablement are
+ * tested without interpreting an expression tree and without creating an
+ * {@link EvaluationContext} for every object. The following expressions are
+ * compiled, with the same semantics as the Expressions language:
+ * </p>
+ * <ul>
+ * <li><code>&lt;and&gt;</code>, <code>&lt;or&gt;</code>, and
+ * <code>&lt;not&gt;</code></li>
+ * <li><code>&lt;instanceof&gt;</code>, whose result is remembered for every
+ * Java class</li>
+ * <li><code>&lt;equals&gt;</code></li>
+ * <li><code>&lt;systemTest&gt;</code></li>
+ * </ul>
+ * <p>
+ * Any other expression, such as a property <code>&lt;test&gt;</code>, is
+ * interpreted by the Expressions language in a new evaluation context when it
+ * is reached. As an interpreted expression may evaluate to
+ * {@link EvaluationResult#NOT_LOADED}, which is not negated, a
+ * <code>&lt;not&gt;</code> of an expression that is not entirely compiled is
+ * itself interpreted.
+ * </p>
+ * <p>
+ * The compiler also marks the predicates that only test the Java type of the
+ * object, so that their selection may be
+ * {@linkplain #isTypeTest(Predicate) remembered} for every Java class.
+ * </p>
+ *
+ * @see XmlExpressionSelector
+ */
+final class ExpressionCompiler {
+	private static final String E_AND = "and"; //$NON-NLS-1$
+	private static final String E_OR = "or"; //$NON-NLS-1$
+	private static final String E_NOT = "not"; //$NON-NLS-1$
+	private static final String E_INSTANCEOF = "instanceof"; //$NON-NLS-1$
+	private static final String E_EQUALS = "equals"; //$NON-NLS-1$
+	private static final String E_SYSTEM_TEST = "systemTest"; //$NON-NLS-1$
+	private static final String A_VALUE = "value"; //$NON-NLS-1$
+	private static final String A_PROPERTY = "property"; //$NON-NLS-1$
+
+	/**
+	 * The value of an <code>&lt;and&gt;</code> or an <code>&lt;or&gt;</code>
+	 * without sub-expressions, which the Expressions language evaluates as
+	 * <code>true</code>.
+	 */
+	private static final Predicate<EObject> EMPTY_COMPOSITE = new TypeTest() {
+		@Override
+		public boolean test(EObject eObject) {
+			return true;
+		}
+	};
+
+	/**
+	 * Not instantiable by clients.
+	 */
+	private ExpressionCompiler() {
+		super();
+	}
+
+	/**
+	 * Compiles an <code>&lt;enablement&gt;</code> element.
+	 *
+	 * @param enablement the enablement element of a client context
+	 * @return the predicate that selects the same objects as the enablement
+	 *
+	 * @throws CoreException if an expression is invalid
+	 */
+	static Predicate<EObject> compile(IConfigurationElement enablement) throws CoreException {
+		return and(enablement.getChildren(), false);
+	}
+
+	/**
+	 * Queries whether a compiled enablement only tests the Java type of the
+	 * object, that is, whether it consists only of <code>&lt;instanceof&gt;</code>
+	 * expressions combined by <code>&lt;and&gt;</code>, <code>&lt;or&gt;</code>,
+	 * and <code>&lt;not&gt;</code>. Such an enablement selects all instances of a
+	 * Java class alike. Any other expression may depend on the individual object
+	 * or on the state of the system.
+	 *
+	 * @param predicate a predicate {@linkplain #compile(IConfigurationElement)
+	 *                  compiled} from an enablement
+	 * @return whether the predicate only tests the type of the object
+	 */
+	static boolean isTypeTest(Predicate<EObject> predicate) {
+		return predicate instanceof TypeTest;
+	}
+
+	/**
+	 * Compiles an expression element.
+	 *
+	 * @param element an expression element
+	 * @param exact   whether to refuse to interpret the expression or any of its
+	 *                sub-expressions
+	 * @return the predicate, or <code>null</code> if the expression is not
+	 *         entirely compiled and <code>exact</code> is <code>true</code>
+	 *
+	 * @throws CoreException if the expression is invalid
+	 */
+	private static Predicate<EObject> compile(IConfigurationElement element, boolean exact) throws CoreException {
+		String name = element.getName();
+
+		if (E_AND.equals(name)) {
+			return and(element.getChildren(), exact);
+		} else if (E_OR.equals(name)) {
+			return or(element.getChildren(), exact);
+		} else if (E_NOT.equals(name)) {
+			return not(element, exact);
+		} else if (E_INSTANCEOF.equals(name)) {
+			return instanceOf(element.getAttribute(A_VALUE));
+		} else if (E_EQUALS.equals(name)) {
+			return equalTo(Expressions.convertArgument(element.getAttribute(A_VALUE)));
+		} else if (E_SYSTEM_TEST.equals(name)) {
+			return systemTest(element.getAttribute(A_PROPERTY), element.getAttribute(A_VALUE));
+		}
+
+		return exact ? null : interpret(element);
+	}
+
+	/**
+	 * Compiles the sub-expressions of an element into an array.
+	 *
+	 * @param children the sub-expression elements
+	 * @param exact    whether to refuse to interpret any of them
+	 * @return the compiled sub-expressions, or <code>null</code> if any is not
+	 *         entirely compiled and <code>exact</code> is <code>true</code>
+	 *
+	 * @throws CoreException if an expression is invalid
+	 */
+	private static Predicate<EObject>[] compileAll(IConfigurationElement[] children, boolean exact)
+			throws CoreException {
+
+		@SuppressWarnings("unchecked")
+		Predicate<EObject>[] result = new Predicate[children.length];
+
+		for (int i = 0; i < children.length; i++) {
+			result[i] = compile(children[i], exact);
+
+			if (result[i] == null) {
+				return null;
+			}
+		}
+
+		return result;
+	}
+
+	/**
+	 * Compiles a conjunction, such as an <code>&lt;and&gt;</code> or an
+	 * <code>&lt;enablement&gt;</code>, which is <code>true</code> if it has no
+	 * sub-expressions.
+	 */
+	private static Predicate<EObject> and(IConfigurationElement[] children, boolean exact) throws CoreException {
+		final Predicate<EObject>[] operands = compileAll(children, exact);
+
+		if (operands == null) {
+			return null;
+		} else if (operands.length == 0) {
+			return EMPTY_COMPOSITE;
+		} else if (operands.length == 1) {
+			return operands[0];
+		}
+
+		return typeTestIfAll(operands, new Predicate<EObject>() {
+			@Override
+			public boolean test(EObject eObject) {
+				for (Predicate<EObject> next : operands) {
+					if (!next.test(eObject)) {
+						return false;
+					}
+				}
+
+				return true;
+			}
+		});
+	}
+
+	/**
+	 * Compiles an <code>&lt;or&gt;</code> of sub-expressions, which, like a
+	 * conjunction, is <code>true</code> if it has no sub-expressions.
+	 */
+	private static Predicate<EObject> or(IConfigurationElement[] children, boolean exact) throws CoreException {
+		final Predicate<EObject>[] operands = compileAll(children, exact);
+
+		if (operands == null) {
+			return null;
+		} else if (operands.length == 0) {
+			return EMPTY_COMPOSITE;
+		} else if (operands.length == 1) {
+			return operands[0];
+		}
+
+		return typeTestIfAll(operands, new Predicate<EObject>() {
+			@Override
+			public boolean test(EObject eObject) {
+				for (Predicate<EObject> next : operands) {
+					if (next.test(eObject)) {
+						return true;
+					}
+				}
+
+				return false;
+			}
+		});
+	}
+
+	/**
+	 * Compiles a <code>&lt;not&gt;</code> element, which is only negated if its
+	 * sub-expression is entirely compiled.
+	 */
+	private static Predicate<EObject> not(IConfigurationElement element, boolean exact) throws CoreException {
+		IConfigurationElement[] children = element.getChildren();
+		Predicate<EObject> operand = (children.length == 1) ? compile(children[0], true) : null;
+
+		if (operand == null) {
+			// an interpreted result of NOT_LOADED is not negated
+			return exact ? null : interpret(element);
+		}
+
+		return isTypeTest(operand) ? typeTest(operand.negate()) : operand.negate();
+	}
+
+	/**
+	 * Marks a composite of sub-expressions as a type test if all of them are.
+	 *
+	 * @param operands  the compiled sub-expressions
+	 * @param composite their composite
+	 * @return the composite, marked as a type test if appropriate
+	 */
+	private static Predicate<EObject> typeTestIfAll(Predicate<EObject>[] operands, Predicate<EObject> composite) {
+		for (Predicate<EObject> next : operands) {
+			if (!isTypeTest(next)) {
+				return composite;
+			}
+		}
+
+		return typeTest(composite);
+	}
+
+	/**
+	 * Marks a predicate as only testing the Java type of the object.
+	 *
+	 * @param predicate a predicate composed of type tests
+	 * @return the marked predicate
+	 */
+	private static Predicate<EObject> typeTest(final Predicate<EObject> predicate) {
+		return new TypeTest() {
+			@Override
+			public boolean test(EObject eObject) {
+				return predicate.test(eObject);
+			}
+		};
+	}
+
+	/**
+	 * Compiles an <code>&lt;instanceof&gt;</code> of the named type.
+	 */
+	private static Predicate<EObject> instanceOf(final String typeName) {
+		// the type hierarchy of a class does not change. A class value does not
+		// retain the classes, so that their class loaders may be collected
+		final ClassValue<Boolean> results = new ClassValue<Boolean>() {
+			@Override
+			protected Boolean computeValue(Class<?> type) {
+				return isSubtype(type, typeName);
+			}
+		};
+
+		return new TypeTest() {
+			@Override
+			public boolean test(EObject eObject) {
+				return (eObject != null) && results.get(eObject.getClass());
+			}
+		};
+	}
+
+	/**
+	 * Queries whether a class is, extends, or implements the named type, without
+	 * loading the type, in the manner of the <code>&lt;instanceof&gt;</code>
+	 * expression.
+	 *
+	 * @param clazz    a class
+	 * @param typeName the qualified name of a class or interface
+	 * @return whether the <code>clazz</code> conforms to the type
+	 */
+	private static boolean isSubtype(Class<?> clazz, String typeName) {
+		List<Class<?>> queue = new java.util.ArrayList<>();
+		Set<Class<?>> visited = new java.util.HashSet<>();
+		queue.add(clazz);
+
+		for (int i = 0; i < queue.size(); i++) {
+			Class<?> next = queue.get(i);
+
+			if (!visited.add(next)) {
+				continue;
+			}
+
+			if (next.getName().equals(typeName)) {
+				return true;
+			}
+
+			if (next.getSuperclass() != null) {
+				queue.add(next.getSuperclass());
+			}
+
+			queue.addAll(java.util.Arrays.asList(next.getInterfaces()));
+		}
+
+		return false;
+	}
+
+	/**
+	 * Compiles an <code>&lt;equals&gt;</code> of the converted value.
+	 */
+	private static Predicate<EObject> equalTo(final Object expectedValue) {
+		return new Predicate<EObject>() {
+			@Override
+			public boolean test(EObject eObject) {
+				return expectedValue.equals(eObject);
+			}
+		};
+	}
+
+	/**
+	 * Compiles a <code>&lt;systemTest&gt;</code> of a system property.
+	 */
+	private static Predicate<EObject> systemTest(final String property, final String expectedValue) {
+		return new Predicate<EObject>() {
+			@Override
+			public boolean test(EObject eObject) {
+				// the system properties may change, so read them every time
+				String value = System.getProperty(property);
+
+				return (value != null) && value.equals(expectedValue);
+			}
+		};
+	}
+
+	/**
+	 * Creates a predicate that interprets an expression that is not compiled.
+	 *
+	 * @param element an expression element
+	 * @return the interpreting predicate
+	 *
+	 * @throws CoreException if the expression is invalid
+	 */
+	private static Predicate<EObject> interpret(IConfigurationElement element) throws CoreException {
+		final Expression expression = ExpressionConverter.getDefault().perform(element);
+
+		return new Predicate<EObject>() {
+			@Override
+			public boolean test(EObject eObject) {
+				try {
+					return expression.evaluate(new EvaluationContext(null, eObject)) == EvaluationResult.TRUE;
+				} catch (CoreException e) {
+					Trace.catching(ExpressionCompiler.class, "interpret", e); //$NON-NLS-1$
+
+					// re-throw the exception so that the selector and, therefore,
+					// its client context will be invalidated
+					RuntimeException re = new RuntimeException(e);
+
+					Trace.throwing(ExpressionCompiler.class, "interpret", re); //$NON-NLS-1$
+					throw re;
+				}
+			}
+		};
+	}
+
+	/**
+	 * A compiled expression that only tests the Java type of the object.
+	 */
+	private interface TypeTest extends Predicate<EObject> {
+		// a marker interface
+	}
+}
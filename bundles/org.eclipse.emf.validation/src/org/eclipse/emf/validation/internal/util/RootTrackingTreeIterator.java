@@ -0,0 +1,91 @@
+/******************************************************************************
+ * Copyright (c) 2026 Eclipse contributors and others.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *    Eclipse contributors - initial API and implementation
+ ****************************************************************************/
+package org.eclipse.emf.validation.internal.util;
+
+import java.util.Collection;
+import java.util.Iterator;
+
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+
+/**
+ * A content tree iterator over a collection of traversal roots that tracks
+ * whether the last element that it provided is one of the roots. The traversal
+ * strategies use this to detect changes of client context, on the assumption
+ * that only the traversal roots may be in different client contexts.
+ */
+public class RootTrackingTreeIterator extends EcoreUtil.ContentTreeIterator<EObject> {
+	private static final long serialVersionUID = -5653134989235663973L;
+
+	private final Collection<EObject> roots;
+	private boolean rootChanged = true;
+
+	/**
+	 * Initializes me with the traversal roots.
+	 *
+	 * @param roots the roots of the content trees to iterate
+	 */
+	public RootTrackingTreeIterator(Collection<EObject> roots) {
+		super(roots);
+
+		this.roots = roots;
+	}
+
+	/**
+	 * Queries whether the last element that I provided is a traversal root.
+	 * Before the first element is provided, this is <code>true</code>.
+	 *
+	 * @return whether the traversal stepped to another root
+	 */
+	public boolean isRootChanged() {
+		return rootChanged;
+	}
+
+	@Override
+	public Iterator<EObject> getChildren(Object obj) {
+		if (obj == roots) {
+			return new Iterator<>() {
+				private final Iterator<EObject> delegate = roots.iterator();
+
+				@Override
+				public boolean hasNext() {
+					return delegate.hasNext();
+				}
+
+				@Override
+				public EObject next() {
+					// if I'm being asked for my next element, then
+					// we are stepping to another traversal root
+					rootChanged = true;
+
+					return delegate.next();
+				}
+
+				@Override
+				public void remove() {
+					delegate.remove();
+				}
+			};
+		} else {
+			return super.getChildren(obj);
+		}
+	}
+
+	@Override
+	public EObject next() {
+		// this will be set to true again the next time we test hasNext() at
+		// the traversal root level
+		rootChanged = false;
+
+		return super.next();
+	}
+}
@@ -0,0 +1,116 @@
+/******************************************************************************
+ * Copyright (c) 2026 Eclipse contributors and others.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *    Eclipse contributors - initial API and implementation
+ ****************************************************************************/
+
+package org.eclipse.emf.validation.internal.util;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.InternalEObject;
+import org.eclipse.emf.validation.internal.l10n.ValidationMessages;
+
+/**
+ * Utilities for the traversal of the content trees of elements selected for
+ * batch validation.
+ */
+public class TraversalUtils {
+	/**
+	 * Not instantiable by clients.
+	 */
+	private TraversalUtils() {
+		super();
+	}
+
+	/**
+	 * Begins the validation task on the progress monitor of a traversal.
+	 *
+	 * @param monitor the progress monitor
+	 * @param totalWork the number of work units of the task
+	 */
+	public static void beginValidationTask(IProgressMonitor monitor, int totalWork) {
+		monitor.beginTask(ValidationMessages.progress_task_validating, totalWork);
+	}
+
+	/**
+	 * <p>
+	 * Computes the elements of a selection that are not contained (directly or
+	 * indirectly) by any other selected element. These are the roots of the
+	 * content trees that must be traversed to cover the entire selection, because
+	 * the other elements are traversed by recursion, anyway. Duplicates in the
+	 * selection are ignored.
+	 * </p>
+	 * <p>
+	 * Unlike repeated calls to
+	 * {@link org.eclipse.emf.ecore.util.EcoreUtil#isAncestor(Collection, EObject)},
+	 * this walks the container chain of each distinct element at most once, so the
+	 * cost is linear in the size of the selection plus the number of containers.
+	 * </p>
+	 *
+	 * @param objects the selected elements
+	 * @return the disjoint traversal roots, in the order of the selection
+	 */
+	public static List<EObject> makeTargetsDisjoint(Collection<? extends EObject> objects) {
+		List<EObject> result = new java.util.ArrayList<>(objects.size());
+
+		Set<EObject> selected = java.util.Collections.newSetFromMap(new java.util.IdentityHashMap<>(objects.size()));
+		selected.addAll(objects);
+
+		// whether an element that is not selected has a selected ancestor. Every
+		// container is recorded on the first walk up its chain, so that no
+		// chain is walked twice
+		Map<EObject, Boolean> covered = new java.util.IdentityHashMap<>();
+		List<EObject> chain = new java.util.ArrayList<>();
+		Set<EObject> added = java.util.Collections.newSetFromMap(new java.util.IdentityHashMap<>(objects.size()));
+
+		for (EObject target : objects) {
+			if (!added.add(target)) {
+				continue; // a duplicate
+			}
+
+			// EcoreUtil uses the InternalEObject interface to check
+			// containment, so we do the same
+			boolean isCovered = false;
+			EObject container = ((InternalEObject) target).eInternalContainer();
+
+			while (container != null) {
+				if (selected.contains(container)) {
+					isCovered = true;
+					break;
+				}
+
+				Boolean known = covered.get(container);
+				if (known != null) {
+					isCovered = known.booleanValue();
+					break;
+				}
+
+				chain.add(container);
+				container = ((InternalEObject) container).eInternalContainer();
+			}
+
+			for (EObject next : chain) {
+				covered.put(next, isCovered);
+			}
+			chain.clear();
+
+			if (!isCovered) {
+				result.add(target);
+			}
+		}
+
+		return result;
+	}
+}
@@ -0,0 +1,253 @@
+/******************************************************************************
+ * Copyright (c) 2026 Eclipse contributors and others.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *    Eclipse contributors - initial API and implementation
+ ****************************************************************************/
+
+package org.eclipse.emf.validation.internal.util;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Consumer;
+
+/**
+ * <p>
+ * A map with weakly referenced keys that may be read and updated concurrently
+ * without locking, as a thread-safe alternative to the
+ * {@link java.util.WeakHashMap} for keys such as {@link org.eclipse.emf.ecore.EClass}es,
+ * whose metamodels must not be retained by caches. Keys are compared by
+ * identity. The entries of keys that have been garbage-collected are removed
+ * as the map is accessed, and their values may be passed to a handler, such as
+ * to account for them in statistics.
+ * </p>
+ * <p>
+ * As with the <code>WeakHashMap</code>, the values must not strongly reference
+ * their keys.
+ * </p>
+ *
+ * @param <K> the key type
+ * @param <V> the value type
+ */
+public final class WeakConcurrentMap<K, V> {
+	private final ConcurrentMap<Object, V> map = new java.util.concurrent.ConcurrentHashMap<>();
+
+	private final ReferenceQueue<K> queue = new ReferenceQueue<>();
+
+	private final Consumer<? super V> expungeHandler;
+
+	/**
+	 * Initializes me.
+	 */
+	public WeakConcurrentMap() {
+		this(null);
+	}
+
+	/**
+	 * Initializes me with a handler of the values of the entries that are removed
+	 * because their keys have been garbage-collected.
+	 *
+	 * @param expungeHandler the handler of expunged values, or <code>null</code>
+	 *                       if none
+	 */
+	public WeakConcurrentMap(Consumer<? super V> expungeHandler) {
+		this.expungeHandler = expungeHandler;
+	}
+
+	/**
+	 * Obtains the value of a key.
+	 *
+	 * @param key a key
+	 * @return its value, or <code>null</code> if none
+	 */
+	public V get(K key) {
+		expunge();
+
+		return map.get(new LookupKey(key));
+	}
+
+	/**
+	 * Associates a value with a key, unless the key already has a value.
+	 *
+	 * @param key   a key
+	 * @param value its new value
+	 * @return the value of the <code>key</code>, which is the existing value if
+	 *         there was one, otherwise the new <code>value</code>
+	 */
+	public V putIfAbsent(K key, V value) {
+		expunge();
+
+		V result = map.putIfAbsent(new WeakKey<>(key, queue), value);
+
+		return (result == null) ? value : result;
+	}
+
+	/**
+	 * Replaces the value of a key, if it currently has the expected value.
+	 *
+	 * @param key      a key
+	 * @param oldValue the expected current value of the <code>key</code>
+	 * @param newValue its new value
+	 * @return whether the value was replaced
+	 */
+	public boolean replace(K key, V oldValue, V newValue) {
+		expunge();
+
+		return map.replace(new LookupKey(key), oldValue, newValue);
+	}
+
+	/**
+	 * Removes the value of a key.
+	 *
+	 * @param key a key
+	 * @return its former value, or <code>null</code> if none
+	 */
+	public V remove(K key) {
+		expunge();
+
+		return map.remove(new LookupKey(key));
+	}
+
+	/**
+	 * Obtains a weakly consistent view of my values, which reflects some or all of
+	 * the concurrent updates.
+	 *
+	 * @return my values (not to be modified)
+	 */
+	public Collection<V> values() {
+		expunge();
+
+		return java.util.Collections.unmodifiableCollection(map.values());
+	}
+
+	/**
+	 * Copies those of my entries whose keys are not yet garbage-collected into a
+	 * map that references the keys strongly, such as for the purpose of reporting
+	 * on them.
+	 *
+	 * @return a new identity map of my current entries
+	 */
+	public Map<K, V> toMap() {
+		expunge();
+
+		Map<K, V> result = new java.util.IdentityHashMap<>();
+
+		for (Map.Entry<Object, V> next : map.entrySet()) {
+			@SuppressWarnings("unchecked")
+			K key = ((WeakKey<K>) next.getKey()).get();
+
+			if (key != null) {
+				result.put(key, next.getValue());
+			}
+		}
+
+		return result;
+	}
+
+	/**
+	 * Queries the number of my entries, which may include the entries of keys
+	 * that were garbage-collected only very recently.
+	 *
+	 * @return my size
+	 */
+	public int size() {
+		expunge();
+
+		return map.size();
+	}
+
+	/**
+	 * Removes all of my entries.
+	 */
+	public void clear() {
+		map.clear();
+		expunge();
+	}
+
+	/**
+	 * Removes the entries of keys that have been garbage-collected, passing their
+	 * values to my expunge handler.
+	 */
+	private void expunge() {
+		for (Reference<? extends K> ref = queue.poll(); ref != null; ref = queue.poll()) {
+			V value = map.remove(ref);
+
+			if ((value != null) && (expungeHandler != null)) {
+				expungeHandler.accept(value);
+			}
+		}
+	}
+
+	/**
+	 * The key of an entry, which weakly references the actual key.
+	 */
+	private static final class WeakKey<K> extends WeakReference<K> {
+		private final int hash;
+
+		WeakKey(K key, ReferenceQueue<K> queue) {
+			super(key, queue);
+
+			hash = System.identityHashCode(key);
+		}
+
+		@Override
+		public int hashCode() {
+			return hash;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (obj == this) {
+				return true;
+			}
+
+			Object key = get();
+
+			if (key == null) {
+				// only equal to myself when my key is collected
+				return false;
+			} else if (obj instanceof WeakKey<?>) {
+				return key == ((WeakKey<?>) obj).get();
+			} else if (obj instanceof LookupKey) {
+				return key == ((LookupKey) obj).key;
+			}
+
+			return false;
+		}
+	}
+
+	/**
+	 * A short-lived key with which to look up an entry, which strongly references
+	 * the actual key.
+	 */
+	private static final class LookupKey {
+		final Object key;
+
+		LookupKey(Object key) {
+			this.key = key;
+		}
+
+		@Override
+		public int hashCode() {
+			return System.identityHashCode(key);
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (obj instanceof WeakKey<?>) {
+				return key == ((WeakKey<?>) obj).get();
+			}
+
+			return (obj instanceof LookupKey) && (key == ((LookupKey) obj).key);
+		}
+	}
+}
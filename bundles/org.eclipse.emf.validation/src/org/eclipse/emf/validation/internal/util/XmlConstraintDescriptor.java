@@ -1,5 +1,5 @@
 /******************************************************************************
- * Copyright (c) 2003, 2008 IBM Corporation and others.
+ * Copyright (c) 2003, 2026 IBM Corporation and others.
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
  * which is available at https://www.eclipse.org/legal/epl-2.0/
@@ -78,7 +78,10 @@ public final class XmlConstraintDescriptor extends AbstractConstraintDescriptor
 	private ConstraintSeverity severity = ConstraintSeverity.ERROR;
 	private EvaluationMode<?> mode;
 
-	private Map<Object, TargetDescriptor> targetMap = new java.util.HashMap<>();
+	// lazily extended with the descriptors of queried types by concurrent
+	// validation operations, so it must be a concurrent map. It is replaced
+	// only when the target types are resolved
+	private volatile Map<Object, TargetDescriptor> targetMap = new java.util.concurrent.ConcurrentHashMap<>();
 
 	private String messagePattern;
 
@@ -239,7 +242,10 @@ public final class XmlConstraintDescriptor extends AbstractConstraintDescriptor
 	/**
 	 * Obtains the target descriptor corresponding to the specified <code>key</code>
 	 * which indicates the EMF object type. The descriptor is lazily instantiated,
-	 * if it does not already exist.
+	 * if it does not already exist. A descriptor is completely initialized before
+	 * it is added to my target map, so that concurrent queries either find it
+	 * complete or create an equivalent one of their own, of which only the first
+	 * is retained.
 	 *
 	 * @param key the EMF object type, as a class name (string) or {@link EClass}
 	 * @return the descriptor
@@ -250,15 +256,21 @@ public final class XmlConstraintDescriptor extends AbstractConstraintDescriptor
 					new Object[] { key });
 		}
 
-		TargetDescriptor result = targetMap.get(key);
+		Map<Object, TargetDescriptor> map = targetMap;
+		TargetDescriptor result = map.get(key);
 
 		if (result == null) {
 			result = new TargetDescriptor();
-			targetMap.put(key, result);
 
 			if (key instanceof EClass) {
 				// "inherit" supertype descriptors
-				inheritTriggers((EClass) key, result);
+				inheritTriggers(map, (EClass) key, result);
+			}
+
+			TargetDescriptor existing = map.putIfAbsent(key, result);
+			if (existing != null) {
+				// another thread got here first
+				result = existing;
 			}
 		}
 
@@ -283,7 +295,7 @@ public final class XmlConstraintDescriptor extends AbstractConstraintDescriptor
 	 * (non-Javadoc) Implements the inherited method.
 	 */
 	@Override
-	public void resolveTargetTypes(String[] namespaceUris) {
+	public synchronized void resolveTargetTypes(String[] namespaceUris) {
 		if (resolved) {
 			// I already did this. Don't bother me about it again
 			return;
@@ -291,8 +303,10 @@ public final class XmlConstraintDescriptor extends AbstractConstraintDescriptor
 
 		resolved = true;
 
+		// build the resolved map before publishing it, so that no query sees it
+		// partially resolved
 		Map<Object, TargetDescriptor> oldMap = targetMap;
-		targetMap = new java.util.HashMap<>();
+		Map<Object, TargetDescriptor> newMap = new java.util.concurrent.ConcurrentHashMap<>();
 
 		for (Map.Entry<Object, TargetDescriptor> next : oldMap.entrySet()) {
 			String typeName = (String) next.getKey();
@@ -315,7 +329,7 @@ public final class XmlConstraintDescriptor extends AbstractConstraintDescriptor
 			}
 
 			if (targetEClass != null) {
-				targetMap.put(targetEClass, next.getValue());
+				newMap.put(targetEClass, next.getValue());
 
 				if (Trace.shouldTrace(EMFModelValidationDebugOptions.CONSTRAINTS)) {
 					Trace.trace(EMFModelValidationDebugOptions.CONSTRAINTS, "Resolved target: " + typeName //$NON-NLS-1$
@@ -337,20 +351,23 @@ public final class XmlConstraintDescriptor extends AbstractConstraintDescriptor
 		// that are for ancestor EClasses. This is an O{n**2) algorithm, but
 		// there are not expected ever to be more than a handful of targets in
 		// any given constraint
-		for (Map.Entry<Object, TargetDescriptor> next : targetMap.entrySet()) {
-			inheritTriggers((EClass) next.getKey(), next.getValue());
+		for (Map.Entry<Object, TargetDescriptor> next : newMap.entrySet()) {
+			inheritTriggers(newMap, (EClass) next.getKey(), next.getValue());
 		}
+
+		targetMap = newMap;
 	}
 
 	/**
 	 * Causes the specified <code>target</code>'s <code>descriptor</code> to inherit
 	 * trigger definitions from the descriptors of any registers ancestor EClasses.
 	 *
+	 * @param map        the target map in which to look for ancestor EClasses
 	 * @param target     a target EClass
 	 * @param descriptor its descriptor
 	 */
-	private void inheritTriggers(EClass target, TargetDescriptor descriptor) {
-		for (Map.Entry<Object, TargetDescriptor> next : targetMap.entrySet()) {
+	private void inheritTriggers(Map<Object, TargetDescriptor> map, EClass target, TargetDescriptor descriptor) {
+		for (Map.Entry<Object, TargetDescriptor> next : map.entrySet()) {
 			EClass otherTarget = (EClass) next.getKey();
 
 			if ((otherTarget != target) && (otherTarget.isSuperTypeOf(target))) {
@@ -411,36 +428,38 @@ public final class XmlConstraintDescriptor extends AbstractConstraintDescriptor
 	public boolean targetsEvent(Notification notification) {
 		if (notification.getNotifier() instanceof EObject) {
 			EObject eObject = (EObject) notification.getNotifier();
-			EMFEventType eventType = EMFEventType.getInstance(notification.getEventType());
 
 			EStructuralFeature changedFeature = null;
 			if (notification.getFeature() instanceof EStructuralFeature) {
 				changedFeature = (EStructuralFeature) notification.getFeature();
 			}
 
-			// if we specify no targets ("universal case"), then we match if
-			// and only if the event type is an EMF-standard type. Only if
-			// we are not universal do we check whether we match a custom event
-			return ((eObject == null) || eventType.isNull()) ? false
-					: (isUniversal() && EMFEventType.getPredefinedInstances().contains(eventType))
-							|| (!isUniversal() && targetsEvent(eObject.eClass(), eventType, changedFeature));
+			return targetsEvent(eObject.eClass(), EMFEventType.getInstance(notification.getEventType()),
+					changedFeature);
 		} else {
 			return false;
 		}
 	}
 
 	/**
-	 * Queries whether the specified <CODE>eventType</CODE> is one that I explicitly
-	 * support.
+	 * Queries whether I target the specified kind of event on objects of the
+	 * specified type. As the events that I target are defined only by the types,
+	 * event types, and features that are declared in the XML, this is equivalent
+	 * to {@link #targetsEvent(Notification)} for any notification of this kind.
 	 *
-	 * @param eClass    the EMF type
+	 * @param eClass    the EMF type of the notifier
 	 * @param eventType the EMF event type
 	 * @param feature   the particular feature that is changed (may be
 	 *                  <code>null</code> for some kinds of notifications)
-	 * @return whether the event type is supported for the <code>eClass</code>
+	 * @return whether I target such events
 	 */
-	private boolean targetsEvent(EClass eClass, EMFEventType eventType, EStructuralFeature feature) {
-		return getTarget(eClass).hasEvent(eventType, feature);
+	public boolean targetsEvent(EClass eClass, EMFEventType eventType, EStructuralFeature feature) {
+		// if we specify no targets ("universal case"), then we match if
+		// and only if the event type is an EMF-standard type. Only if
+		// we are not universal do we check whether we match a custom event
+		return ((eClass == null) || eventType.isNull()) ? false
+				: (isUniversal() && EMFEventType.getPredefinedInstances().contains(eventType))
+						|| (!isUniversal() && getTarget(eClass).hasEvent(eventType, feature));
 	}
 
 	// implements the interface method
@@ -1,5 +1,5 @@
 /******************************************************************************
- * Copyright (c) 2005 IBM Corporation and others.
+ * Copyright (c) 2005, 2026 IBM Corporation and others.
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
  * which is available at https://www.eclipse.org/legal/epl-2.0/
@@ -12,24 +12,45 @@
 
 package org.eclipse.emf.validation.internal.util;
 
+import java.util.function.Predicate;
+
 import org.eclipse.core.expressions.EvaluationContext;
 import org.eclipse.core.expressions.EvaluationResult;
 import org.eclipse.core.expressions.Expression;
 import org.eclipse.core.expressions.ExpressionConverter;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IConfigurationElement;
-import org.eclipse.emf.validation.model.IClientSelector;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.validation.model.IStableClientSelector;
 
 /**
  * Implementation of a client context selector that is defined by the context
  * extension in the XML, using the Expressions language.
+ * <p>
+ * The selector is {@linkplain IStableClientSelector stable} per EClass if its
+ * expression only tests the Java type of the object, as
+ * {@linkplain ExpressionCompiler#isTypeTest(Predicate) determined} by the
+ * expression compiler. Its selection is then remembered for every EClass
+ * and Java class of the selected objects, which all conform alike to the
+ * tested types. Any other expression, such as a property test, may depend on
+ * the individual object.
+ * </p>
+ * <p>
+ * The expression is {@linkplain ExpressionCompiler compiled} into a predicate
+ * when the selector is created, so that selecting an object does not, for the
+ * common forms of enablement, interpret the expression.
+ * </p>
  *
  * @author Christian W. Damus
  */
-public class XmlExpressionSelector implements IClientSelector {
+public class XmlExpressionSelector implements IStableClientSelector {
 
 	private final Expression expression;
 
+	private final Predicate<EObject> predicate;
+
+	private final Stability stability;
+
 	/**
 	 * Initializes me with the <code>&lt;enablement&gt;</code> element from the
 	 * extension.
@@ -41,20 +62,41 @@ public class XmlExpressionSelector implements IClientSelector {
 	 */
 	public XmlExpressionSelector(IConfigurationElement enablement) throws CoreException {
 		expression = ExpressionConverter.getDefault().perform(enablement);
+		predicate = ExpressionCompiler.compile(enablement);
+		stability = ExpressionCompiler.isTypeTest(predicate) ? Stability.ECLASS : null;
+	}
+
+	/**
+	 * My selection is stable per EClass and Java class if my expression only
+	 * tests the Java type of the object.
+	 *
+	 * @return {@link Stability#ECLASS} if my expression only tests the type of the
+	 *         object, or <code>null</code> if it may test anything else
+	 */
+	@Override
+	public Stability getStability() {
+		return stability;
 	}
 
 	/**
-	 * The argument to the XML Expression Selector is an {@link EvaluationContext}
-	 * that has an {@link org.eclipse.emf.ecore.EObject} as the default variable.
+	 * The argument to the XML Expression Selector is an
+	 * {@link org.eclipse.emf.ecore.EObject} or an {@link EvaluationContext} that
+	 * has an {@link org.eclipse.emf.ecore.EObject} as the default variable. An
+	 * object is tested by my compiled expression, but an evaluation context is
+	 * always interpreted, so that its variables are available to the expression.
 	 *
-	 * @param object an {@link EvaluationContext} on an
+	 * @param object an {@link org.eclipse.emf.ecore.EObject} or an
+	 *               {@link EvaluationContext} on an
 	 *               {@link org.eclipse.emf.ecore.EObject}
 	 */
 	@Override
 	public boolean selects(Object object) {
-		boolean result = false;
+		if (object instanceof EObject) {
+			return predicate.test((EObject) object);
+		}
 
 		EvaluationContext ctx = (EvaluationContext) object;
+		boolean result = false;
 
 		try {
 			EvaluationResult res = expression.evaluate(ctx);
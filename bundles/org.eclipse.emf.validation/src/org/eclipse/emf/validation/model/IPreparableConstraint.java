@@ -0,0 +1,46 @@
+/******************************************************************************
+ * Copyright (c) 2026 Eclipse contributors and others.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *    Eclipse contributors - initial API and implementation
+ ****************************************************************************/
+
+package org.eclipse.emf.validation.model;
+
+import org.eclipse.emf.ecore.EObject;
+
+/**
+ * <p>
+ * An optional extension of the {@link IModelConstraint} interface for
+ * constraints that lazily prepare some costly state for the EMF class of the
+ * objects that they validate, such as a query that is compiled on first use.
+ * The
+ * {@link org.eclipse.emf.validation.service.ModelValidationService#warmUp(java.util.Collection)
+ * warm-up} of the validation service asks such constraints to prepare
+ * themselves ahead of the first validation.
+ * </p>
+ * <p>
+ * This interface is intended to be implemented by clients.
+ * </p>
+ *
+ * @since 1.9
+ */
+public interface IPreparableConstraint extends IModelConstraint {
+	/**
+	 * Prepares me to validate objects of the EMF class of the specified
+	 * <code>target</code>. This may be invoked concurrently on any thread, and
+	 * more than once for the same class.
+	 *
+	 * @param target an object representative of the objects of its EMF class,
+	 *               which is not validated and must not be modified
+	 *
+	 * @throws RuntimeException if I cannot be prepared, which is ignored until I
+	 *                          am asked to validate an object of that class
+	 */
+	void prepare(EObject target);
+}
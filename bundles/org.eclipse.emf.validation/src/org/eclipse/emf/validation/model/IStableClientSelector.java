@@ -0,0 +1,64 @@
+/******************************************************************************
+ * Copyright (c) 2026 Eclipse contributors and others.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *    Eclipse contributors - initial API and implementation
+ ****************************************************************************/
+
+package org.eclipse.emf.validation.model;
+
+/**
+ * An optional extension of the {@link IClientSelector} interface for selectors
+ * whose selection of an {@link org.eclipse.emf.ecore.EObject} does not depend
+ * on the individual object, but only on its
+ * {@linkplain org.eclipse.emf.ecore.EObject#eClass() class} or on its class and
+ * {@linkplain org.eclipse.emf.ecore.EObject#eResource() resource}. The
+ * validation framework remembers the selection of a stable selector for every
+ * class (or class and resource) instead of asking the selector again for every
+ * object. As the objects of an EClass need not all be instances of the same
+ * Java class, for example when they are created by different factories or
+ * dynamically, the selection is remembered separately for every Java class of
+ * the objects of an EClass, so that a selector may also test the Java type of
+ * the objects.
+ * <p>
+ * This interface is intended to be implemented by clients.
+ * </p>
+ *
+ * @since 1.9
+ */
+public interface IStableClientSelector extends IClientSelector {
+	/**
+	 * Queries how stable my selection is.
+	 *
+	 * @return my stability, or <code>null</code> if my selection may differ for
+	 *         every object, in which case I am asked to select every object
+	 */
+	Stability getStability();
+
+	/**
+	 * Enumeration of the degrees of stability of a selector's selection.
+	 *
+	 * @since 1.9
+	 */
+	enum Stability {
+		/**
+		 * The selection of an object depends only on its class and its Java class,
+		 * so it is the same for all objects of the same class that are instances
+		 * of the same Java class.
+		 */
+		ECLASS,
+
+		/**
+		 * The selection of an object depends only on its class and the resource
+		 * that contains it, so it is the same for all objects of the same class in
+		 * the same resource. All objects of the same class that are not in any
+		 * resource are likewise selected alike.
+		 */
+		RESOURCE;
+	}
+}
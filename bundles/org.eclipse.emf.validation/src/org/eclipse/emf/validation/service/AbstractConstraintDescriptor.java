@@ -1,5 +1,5 @@
 /******************************************************************************
- * Copyright (c) 2003, 2007 IBM Corporation and others.
+ * Copyright (c) 2003, 2026 IBM Corporation and others.
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
  * which is available at https://www.eclipse.org/legal/epl-2.0/
@@ -33,9 +33,10 @@ public abstract class AbstractConstraintDescriptor implements IConstraintDescrip
 	private final Set<Category> categories = new java.util.HashSet<>();
 	private final Set<Category> unmodCategories = java.util.Collections.unmodifiableSet(categories);
 
-	private Throwable exception;
+	// set and queried by concurrent validation operations
+	private volatile Throwable exception;
 
-	private boolean enabled = true;
+	private volatile boolean enabled = true;
 
 	/**
 	 * Default initialization.
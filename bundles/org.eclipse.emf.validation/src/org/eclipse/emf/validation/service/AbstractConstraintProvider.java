@@ -1,5 +1,5 @@
 /******************************************************************************
- * Copyright (c) 2003, 2007 IBM Corporation and others.
+ * Copyright (c) 2003, 2026 IBM Corporation and others.
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
  * which is available at https://www.eclipse.org/legal/epl-2.0/
@@ -15,7 +15,6 @@ package org.eclipse.emf.validation.service;
 
 import java.util.Collection;
 import java.util.List;
-import java.util.ListIterator;
 import java.util.Set;
 
 import org.eclipse.core.runtime.CoreException;
@@ -32,6 +31,7 @@ import org.eclipse.emf.validation.internal.EMFModelValidationStatusCodes;
 import org.eclipse.emf.validation.internal.util.DisabledConstraint;
 import org.eclipse.emf.validation.internal.util.Trace;
 import org.eclipse.emf.validation.model.IModelConstraint;
+import org.eclipse.emf.validation.model.IPreparableConstraint;
 import org.eclipse.emf.validation.util.XmlConfig;
 
 /**
@@ -66,9 +66,9 @@ public abstract class AbstractConstraintProvider implements IModelConstraintProv
 	 *
 	 * @author Christian W. Damus (cdamus)
 	 */
-	private class ConstraintProxy implements IModelConstraint {
+	private class ConstraintProxy implements IPreparableConstraint {
 		private final IConstraintDescriptor descriptor;
-		private IModelConstraint delegate = null;
+		private volatile IModelConstraint delegate = null;
 
 		/**
 		 * Initializes me with the descriptor that I can provide with little performance
@@ -90,59 +90,87 @@ public abstract class AbstractConstraintProvider implements IModelConstraintProv
 
 		/**
 		 * Lazily initializes my delegate constraint before invoking it, if necessary.
+		 * I am not replaced by my delegate in the lists of my provider or in the
+		 * validation service's cache: once initialized, the delegate is resolved in
+		 * constant time by a volatile read.
 		 */
 		@Override
 		public IStatus validate(IValidationContext ctx) {
-			IStatus result;
-
-			if (delegate == null) {
-				if (Trace.shouldTrace(EMFModelValidationDebugOptions.CONSTRAINTS)) {
-					Trace.trace(EMFModelValidationDebugOptions.CONSTRAINTS,
-							"Initializing constraint delegate: " + descriptor); //$NON-NLS-1$
-				}
-
-				// this will throw if the delegate could not be created
-				delegate = createModelConstraint(descriptor);
-			}
+			IModelConstraint constraint = getDelegate();
 
 			try {
 				if (Trace.shouldTrace(EMFModelValidationDebugOptions.CONSTRAINTS_EVALUATION)) {
 					Trace.trace(EMFModelValidationDebugOptions.CONSTRAINTS_EVALUATION,
-							"Delegating validate() method to: " + delegate //$NON-NLS-1$
+							"Delegating validate() method to: " + constraint //$NON-NLS-1$
 									+ " for: " + descriptor); //$NON-NLS-1$
 				}
 
-				result = delegate.validate(ctx);
+				return constraint.validate(ctx);
 			} catch (RuntimeException e) {
 				Trace.catching(getClass(), "validate()", e); //$NON-NLS-1$
 
-				Trace.trace(EMFModelValidationDebugOptions.CONSTRAINTS_DISABLED,
-						"Constraint is disabled: " + descriptor); //$NON-NLS-1$
+				synchronized (this) {
+					// another thread may already have disabled me
+					if (delegate == constraint) {
+						Trace.trace(EMFModelValidationDebugOptions.CONSTRAINTS_DISABLED,
+								"Constraint is disabled: " + descriptor); //$NON-NLS-1$
+
+						// the disabled constraint is a placeholder for the missing
+						// functionality. It will log a disablement message and
+						// thereafter be silent
+						delegate = new DisabledConstraint(descriptor, e);
+					}
 
-				// the disabled constraint is a placeholder for the missing
-				// functionality. It will log a disablement message and
-				// thereafter be silent
-				delegate = new DisabledConstraint(descriptor, e);
+					constraint = delegate;
+				}
 
 				// won't throw an exception, this time!
 				// (the disabled constraint never does; it returns an INFO
 				// status to report the problem to the user)
-				result = delegate.validate(ctx);
+				return constraint.validate(ctx);
 			}
+		}
 
-			// replace me with my delegate in the list of constraints, to avoid
-			// the delegation in future invocations and to free some memory
-			for (ListIterator<IModelConstraint> iter = getConstraints().listIterator(); iter.hasNext();) {
+		/**
+		 * Initializes my delegate constraint, if necessary, and prepares it if it is
+		 * preparable.
+		 */
+		@Override
+		public void prepare(EObject target) {
+			IModelConstraint constraint = getDelegate();
 
-				if (iter.next() == this) {
-					iter.set(delegate);
-					break;
-				}
+			if (constraint instanceof IPreparableConstraint) {
+				((IPreparableConstraint) constraint).prepare(target);
 			}
+		}
 
-			// in case this provider is cached, also replace me in the
-			// validation service's cache
-			ModelValidationService.getInstance().replaceInCache(this, delegate);
+		/**
+		 * Obtains my delegate constraint, initializing it if necessary. The delegate
+		 * is published only once, unless it is later replaced by a disabled
+		 * constraint.
+		 *
+		 * @return my delegate
+		 */
+		private IModelConstraint getDelegate() {
+			IModelConstraint result = delegate;
+
+			if (result == null) {
+				// validators on other threads may be asking for me, too
+				synchronized (this) {
+					result = delegate;
+
+					if (result == null) {
+						if (Trace.shouldTrace(EMFModelValidationDebugOptions.CONSTRAINTS)) {
+							Trace.trace(EMFModelValidationDebugOptions.CONSTRAINTS,
+									"Initializing constraint delegate: " + descriptor); //$NON-NLS-1$
+						}
+
+						// this will throw if the delegate could not be created
+						result = createModelConstraint(descriptor);
+						delegate = result;
+					}
+				}
+			}
 
 			return result;
 		}
@@ -153,6 +181,20 @@ public abstract class AbstractConstraintProvider implements IModelConstraintProv
 		super();
 	}
 
+	/**
+	 * Initializes the delegate of a lazily initialized constraint, if it is one
+	 * that was created by the {@link #createModelConstraintProxy} method.
+	 *
+	 * @param constraint a constraint
+	 *
+	 * @throws RuntimeException if the delegate could not be created
+	 */
+	static void resolve(IModelConstraint constraint) {
+		if (constraint instanceof AbstractConstraintProvider.ConstraintProxy) {
+			((AbstractConstraintProvider.ConstraintProxy) constraint).getDelegate();
+		}
+	}
+
 	/**
 	 * Creates the model constraint implementation from the descriptor. This default
 	 * implementation delegates to the {@link ConstraintFactory} to create the
@@ -0,0 +1,314 @@
+/******************************************************************************
+ * Copyright (c) 2026 Eclipse contributors and others.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *    Eclipse contributors - initial API and implementation
+ ****************************************************************************/
+
+package org.eclipse.emf.validation.service;
+
+import java.util.Collections;
+import java.util.Map;
+
+import org.eclipse.emf.ecore.EClass;
+
+/**
+ * <p>
+ * A snapshot of the statistics of the cache of the constraints that are
+ * provided for EMF classes, as obtained from the
+ * {@link ModelValidationService#getConstraintCacheStatistics()} method. The
+ * statistics help to size the heap and to detect thrashing of the cache, for
+ * example when dynamic EPackages are created and discarded repeatedly.
+ * </p>
+ * <p>
+ * Hits, misses, and evicted buckets are counted since the cache was created or
+ * its statistics were last
+ * {@linkplain ModelValidationService#resetConstraintCacheStatistics() reset}. A
+ * miss is a lookup for which the cached constraints had to be retrieved from the
+ * constraint providers, and the time that this took is accumulated as the
+ * <em>fill time</em>. The totals of the cache include the lookups of the EMF
+ * classes whose buckets were evicted because the classes were
+ * garbage-collected, so they may exceed the sums of the
+ * {@linkplain #getClassStatistics() class statistics}. The sizing statistics
+ * describe the current content of the cache.
+ * </p>
+ *
+ * @since 1.9
+ *
+ * @noextend This class is not intended to be subclassed by clients.
+ * @noinstantiate This class is not intended to be instantiated by clients.
+ */
+public final class ConstraintCacheStatistics {
+	private final ClassStatistics totals;
+	private final int bucketCount;
+	private final long evictedBucketCount;
+	private final Map<EClass, ClassStatistics> classStatistics;
+
+	/**
+	 * Initializes me.
+	 *
+	 * @param totals             the cumulative statistics of the whole cache
+	 * @param bucketCount        the number of buckets in the cache
+	 * @param evictedBucketCount the number of buckets that were evicted
+	 * @param classStatistics    the statistics of each EMF class that has a bucket
+	 *                           in the cache
+	 *
+	 * @noreference This constructor is not intended to be referenced by clients.
+	 */
+	public ConstraintCacheStatistics(ClassStatistics totals, int bucketCount, long evictedBucketCount,
+			Map<EClass, ClassStatistics> classStatistics) {
+
+		this.totals = totals;
+		this.bucketCount = bucketCount;
+		this.evictedBucketCount = evictedBucketCount;
+		this.classStatistics = Collections.unmodifiableMap(new java.util.LinkedHashMap<>(classStatistics));
+	}
+
+	/**
+	 * Obtains the number of lookups of batch constraints that were answered from
+	 * the cache.
+	 *
+	 * @return the number of batch hits
+	 */
+	public long getBatchHits() {
+		return totals.getBatchHits();
+	}
+
+	/**
+	 * Obtains the number of lookups of batch constraints that had to retrieve the
+	 * constraints from the providers.
+	 *
+	 * @return the number of batch misses
+	 */
+	public long getBatchMisses() {
+		return totals.getBatchMisses();
+	}
+
+	/**
+	 * Obtains the number of lookups of live constraints that were answered from
+	 * the cache.
+	 *
+	 * @return the number of live hits
+	 */
+	public long getLiveHits() {
+		return totals.getLiveHits();
+	}
+
+	/**
+	 * Obtains the number of lookups of live constraints that had to retrieve the
+	 * constraints from the providers.
+	 *
+	 * @return the number of live misses
+	 */
+	public long getLiveMisses() {
+		return totals.getLiveMisses();
+	}
+
+	/**
+	 * Obtains the total time spent in retrieving constraints from the providers
+	 * on cache misses.
+	 *
+	 * @return the fill time, in nanoseconds
+	 */
+	public long getFillTime() {
+		return totals.getFillTime();
+	}
+
+	/**
+	 * Obtains the longest time spent in retrieving constraints from the providers
+	 * on a single cache miss.
+	 *
+	 * @return the maximal fill time, in nanoseconds
+	 */
+	public long getMaxFillTime() {
+		return totals.getMaxFillTime();
+	}
+
+	/**
+	 * Obtains the number of EMF classes for which the cache has a bucket of
+	 * constraints.
+	 *
+	 * @return the number of buckets
+	 */
+	public int getBucketCount() {
+		return bucketCount;
+	}
+
+	/**
+	 * Obtains the number of buckets that were evicted from the cache because
+	 * their EMF classes were garbage-collected. A count that grows steadily
+	 * indicates that metamodels are created and discarded repeatedly.
+	 *
+	 * @return the number of evicted buckets
+	 */
+	public long getEvictedBucketCount() {
+		return evictedBucketCount;
+	}
+
+	/**
+	 * Obtains the number of references to constraints that are retained by the
+	 * cache, counting every constraint once for each of the lookups (batch, or
+	 * live by event type and feature) in which it is cached.
+	 *
+	 * @return the number of retained constraint references
+	 */
+	public long getConstraintReferenceCount() {
+		return totals.getConstraintReferenceCount();
+	}
+
+	/**
+	 * Obtains the statistics of each EMF class for which the cache has a bucket.
+	 *
+	 * @return the statistics, by class (not modifiable)
+	 */
+	public Map<EClass, ClassStatistics> getClassStatistics() {
+		return classStatistics;
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder result = new StringBuilder(128);
+
+		result.append("ConstraintCacheStatistics[buckets="); //$NON-NLS-1$
+		result.append(getBucketCount());
+		result.append(", evictedBuckets="); //$NON-NLS-1$
+		result.append(getEvictedBucketCount());
+		result.append(", "); //$NON-NLS-1$
+		result.append(totals);
+		result.append(']');
+
+		return result.toString();
+	}
+
+	/**
+	 * The statistics of the constraints cached for a single EMF class.
+	 *
+	 * @noextend This class is not intended to be subclassed by clients.
+	 * @noinstantiate This class is not intended to be instantiated by clients.
+	 */
+	public static final class ClassStatistics {
+		private final long batchHits;
+		private final long batchMisses;
+		private final long liveHits;
+		private final long liveMisses;
+		private final long fillTime;
+		private final long maxFillTime;
+		private final long constraintReferences;
+
+		/**
+		 * Initializes me.
+		 *
+		 * @param batchHits            the number of batch hits
+		 * @param batchMisses          the number of batch misses
+		 * @param liveHits             the number of live hits
+		 * @param liveMisses           the number of live misses
+		 * @param fillTime             the total fill time, in nanoseconds
+		 * @param maxFillTime          the maximal fill time, in nanoseconds
+		 * @param constraintReferences the number of retained constraint references
+		 *
+		 * @noreference This constructor is not intended to be referenced by
+		 *              clients.
+		 */
+		public ClassStatistics(long batchHits, long batchMisses, long liveHits, long liveMisses, long fillTime,
+				long maxFillTime, long constraintReferences) {
+
+			this.batchHits = batchHits;
+			this.batchMisses = batchMisses;
+			this.liveHits = liveHits;
+			this.liveMisses = liveMisses;
+			this.fillTime = fillTime;
+			this.maxFillTime = maxFillTime;
+			this.constraintReferences = constraintReferences;
+		}
+
+		/**
+		 * Obtains the number of lookups of batch constraints that were answered
+		 * from the cache.
+		 *
+		 * @return the number of batch hits
+		 */
+		public long getBatchHits() {
+			return batchHits;
+		}
+
+		/**
+		 * Obtains the number of lookups of batch constraints that had to retrieve
+		 * the constraints from the providers.
+		 *
+		 * @return the number of batch misses
+		 */
+		public long getBatchMisses() {
+			return batchMisses;
+		}
+
+		/**
+		 * Obtains the number of lookups of live constraints that were answered from
+		 * the cache.
+		 *
+		 * @return the number of live hits
+		 */
+		public long getLiveHits() {
+			return liveHits;
+		}
+
+		/**
+		 * Obtains the number of lookups of live constraints that had to retrieve
+		 * the constraints from the providers.
+		 *
+		 * @return the number of live misses
+		 */
+		public long getLiveMisses() {
+			return liveMisses;
+		}
+
+		/**
+		 * Obtains the total time spent in retrieving constraints from the providers
+		 * on cache misses.
+		 *
+		 * @return the fill time, in nanoseconds
+		 */
+		public long getFillTime() {
+			return fillTime;
+		}
+
+		/**
+		 * Obtains the longest time spent in retrieving constraints from the
+		 * providers on a single cache miss.
+		 *
+		 * @return the maximal fill time, in nanoseconds
+		 */
+		public long getMaxFillTime() {
+			return maxFillTime;
+		}
+
+		/**
+		 * Obtains the number of references to constraints that are retained by the
+		 * cache for the class.
+		 *
+		 * @return the number of retained constraint references
+		 */
+		public long getConstraintReferenceCount() {
+			return constraintReferences;
+		}
+
+		@Override
+		public String toString() {
+			StringBuilder result = new StringBuilder(128);
+
+			result.append("batchHits=").append(batchHits); //$NON-NLS-1$
+			result.append(", batchMisses=").append(batchMisses); //$NON-NLS-1$
+			result.append(", liveHits=").append(liveHits); //$NON-NLS-1$
+			result.append(", liveMisses=").append(liveMisses); //$NON-NLS-1$
+			result.append(", fillTime=").append(fillTime); //$NON-NLS-1$
+			result.append(", maxFillTime=").append(maxFillTime); //$NON-NLS-1$
+			result.append(", constraintReferences=").append(constraintReferences); //$NON-NLS-1$
+
+			return result.toString();
+		}
+	}
+}
@@ -1,5 +1,5 @@
 /******************************************************************************
- * Copyright (c) 2007, 2008 IBM Corporation, Zeligsoft Inc., and others.
+ * Copyright (c) 2007, 2026 IBM Corporation, Zeligsoft Inc., and others.
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
  * which is available at https://www.eclipse.org/legal/epl-2.0/
@@ -14,7 +14,6 @@ package org.eclipse.emf.validation.service;
 
 import java.util.Collection;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.Map;
 
 import org.eclipse.core.runtime.CoreException;
@@ -51,6 +50,7 @@ public class EventTypeService {
 	private static final String A_FEATURE_SPECIFIC = "featureSpecific"; //$NON-NLS-1$
 	private static final String A_NOTIFICATION_GENERATOR = "notificationGenerator"; //$NON-NLS-1$
 
+	// in order of registration, which is the order in which they are invoked
 	private volatile Map<String, INotificationGenerator> notificationGenerators;
 
 	private final Object eventTypesLock = new Object();
@@ -72,7 +72,7 @@ public class EventTypeService {
 	 * Cannot be instantiated by clients.
 	 */
 	private EventTypeService() {
-		notificationGenerators = new HashMap<>();
+		notificationGenerators = new java.util.LinkedHashMap<>();
 
 		configureEventTypes();
 	}
@@ -101,7 +101,7 @@ public class EventTypeService {
 	private void registerEventTypes(IConfigurationElement[] configs) {
 		synchronized (eventTypesLock) {
 			// copy on write
-			notificationGenerators = new java.util.HashMap<>(notificationGenerators);
+			notificationGenerators = new java.util.LinkedHashMap<>(notificationGenerators);
 
 			for (IConfigurationElement element : configs) {
 				if (element.getName().equals("eventType")) { //$NON-NLS-1$
@@ -158,7 +158,8 @@ public class EventTypeService {
 	}
 
 	/**
-	 * Retrieves the available notification generators.
+	 * Retrieves the available notification generators, in the order in which
+	 * their event types were registered.
 	 *
 	 * @return collection of notification generators
 	 */
@@ -1,5 +1,5 @@
 /******************************************************************************
- * Copyright (c) 2003, 2008 IBM Corporation, Zeligsoft Inc., and others.
+ * Copyright (c) 2003, 2026 IBM Corporation, Zeligsoft Inc., and others.
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
  * which is available at https://www.eclipse.org/legal/epl-2.0/
@@ -19,6 +19,8 @@ import java.util.Map;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
 import org.eclipse.emf.validation.marker.MarkerUtil;
 import org.eclipse.emf.validation.model.EvaluationMode;
 
@@ -82,6 +84,138 @@ public interface IBatchValidator extends IValidator<EObject> {
 	 */
 	Option<Boolean> OPTION_TRACK_RESOURCES = Option.make(false);
 
+	/**
+	 * <p>
+	 * An integer-valued option specifying the number of worker threads with which
+	 * to validate the containment trees of the selected elements. The default
+	 * value is <code>1</code>, meaning that validation is performed sequentially
+	 * on the calling thread. A value of zero or less requests as many workers as
+	 * there are available processors.
+	 * </p>
+	 * <p>
+	 * When more than one worker is requested, the containment trees are split into
+	 * sub-tree tasks that are executed on a work-stealing
+	 * {@link java.util.concurrent.ForkJoinPool}. Each worker evaluates constraints
+	 * in its own validation context and the results of every containment tree are
+	 * merged in depth-first order, but the order of the trees of different
+	 * selected elements is not defined, as in sequential validation. Parallel
+	 * validation is only applied when the
+	 * {@linkplain #OPTION_TRAVERSAL_STRATEGY traversal strategy} is the
+	 * {@link ITraversalStrategy.Recursive} or {@link ITraversalStrategy.Streaming}
+	 * strategy, or when the {@linkplain #getDefaultTraversalStrategy() default
+	 * strategy} resolves to the recursive strategy for all of the selected
+	 * elements; any other strategy is always executed sequentially. Validation is
+	 * also sequential when a {@linkplain #OPTION_RESULT_SINK result sink} is
+	 * specified, so that the sink bounds the memory required by the results.
+	 * </p>
+	 * <p>
+	 * <b>Note</b> that constraints evaluated in parallel must be thread-safe. A
+	 * constraint that is disabled because it failed is disabled for all workers,
+	 * but constraints which use
+	 * {@link org.eclipse.emf.validation.IValidationContext#skipCurrentConstraintFor(EObject)}
+	 * or the current constraint data only see the state of their own worker.
+	 * </p>
+	 *
+	 * @since 1.9
+	 *
+	 * @see #setOptions(Map)
+	 */
+	Option<Integer> OPTION_PARALLELISM = Option.make(1);
+
+	/**
+	 * <p>
+	 * An option specifying an {@link IncrementalValidationTracker} with which to
+	 * validate incrementally. The default value is <code>null</code>, meaning that
+	 * all constraints are evaluated on every element that is traversed.
+	 * </p>
+	 * <p>
+	 * When a tracker is specified, only the elements that it reports as changed
+	 * since they were last validated, their ancestors, and the elements that were
+	 * never validated have their constraints evaluated. The results of all other
+	 * traversed elements are those retained by the tracker from previous
+	 * validation operations.
+	 * </p>
+	 *
+	 * @since 1.9
+	 *
+	 * @see #setOptions(Map)
+	 */
+	Option<IncrementalValidationTracker> OPTION_INCREMENTAL_TRACKER = Option.make(null);
+
+	/**
+	 * <p>
+	 * An option specifying an {@link IValidationResultSink} to which to pass the
+	 * results of validation as they are produced. The default value is
+	 * <code>null</code>, meaning that all results are collected as the children
+	 * of the status returned by the validator.
+	 * </p>
+	 * <p>
+	 * When a sink is specified, the validator does not retain the results, and the
+	 * status that it returns only summarizes their maximal severity: it has no
+	 * children. Consequently, {@linkplain IValidationListener validation
+	 * listeners} also only receive the summary. Because parallel workers would
+	 * have to buffer their results to pass them to the sink in order, the
+	 * {@link #OPTION_PARALLELISM} option is ignored when a sink is specified, and
+	 * the selected elements are validated sequentially.
+	 * </p>
+	 *
+	 * @since 1.9
+	 *
+	 * @see #setOptions(Map)
+	 */
+	Option<IValidationResultSink> OPTION_RESULT_SINK = Option.make(null);
+
+	/**
+	 * <p>
+	 * An integer-valued option specifying the maximal number of problems (results
+	 * that are not OK) to report. When this many problems have been found,
+	 * validation stops and, if any problems or elements remained, the returned
+	 * status includes a child status indicating that the results are truncated.
+	 * The default value is <code>0</code>, meaning that there is no limit.
+	 * </p>
+	 * <p>
+	 * In {@linkplain #OPTION_PARALLELISM parallel} validation, which problems are
+	 * reported within the limit depends on the scheduling of the workers.
+	 * </p>
+	 *
+	 * @since 1.9
+	 *
+	 * @see #setOptions(Map)
+	 * @see #OPTION_STOP_ON_SEVERITY
+	 */
+	Option<Integer> OPTION_MAX_PROBLEMS = Option.make(0);
+
+	/**
+	 * An integer-valued option specifying an {@link IStatus} severity at which to
+	 * stop validation: when a problem of this severity or worse has been found,
+	 * validation stops and, if any problems or elements remained, the returned
+	 * status includes a child status indicating that the results are truncated.
+	 * For example, a value of {@link IStatus#ERROR} stops on the first error. The
+	 * default value is <code>0</code>, meaning that validation does not stop on
+	 * any severity.
+	 *
+	 * @since 1.9
+	 *
+	 * @see #setOptions(Map)
+	 * @see #OPTION_MAX_PROBLEMS
+	 */
+	Option<Integer> OPTION_STOP_ON_SEVERITY = Option.make(0);
+
+	/**
+	 * An option specifying the {@link java.util.concurrent.Executor} on which the
+	 * resources of a resource set are validated by the
+	 * {@link #validate(ResourceSet, IProgressMonitor)} method. The default value
+	 * is <code>null</code>, meaning that the resources are validated on a
+	 * dedicated pool of as many threads as the {@link #OPTION_PARALLELISM} option
+	 * specifies, or on the calling thread if that is only one.
+	 *
+	 * @since 1.9
+	 *
+	 * @see #setOptions(Map)
+	 * @see #validate(ResourceSet, IProgressMonitor)
+	 */
+	Option<java.util.concurrent.Executor> OPTION_RESOURCE_EXECUTOR = Option.make(null);
+
 	/**
 	 * <p>
 	 * Queries whether I also evaluate applicable live constraints on each object
@@ -199,6 +333,39 @@ public interface IBatchValidator extends IValidator<EObject> {
 	 */
 	IStatus validate(Collection<? extends EObject> eObjects, IProgressMonitor monitor);
 
+	/**
+	 * <p>
+	 * Validates the contents of all of the resources in the specified resource
+	 * set, each as an independent validation operation, using the specified
+	 * progress monitor to monitor progress of validation. Every resource is
+	 * validated as though by a validator of its own, with my options, filters and
+	 * client data, and its results are reported separately.
+	 * </p>
+	 * <p>
+	 * When the resources are validated concurrently, as specified by the
+	 * {@link #OPTION_RESOURCE_EXECUTOR} and {@link #OPTION_PARALLELISM} options,
+	 * the cross-resource references of the resources are first resolved on the
+	 * calling thread, so that the workers only read the resource set. Resources
+	 * that are loaded by this resolution are not validated. Each resource's
+	 * containment tree is then validated sequentially by one worker. Concurrent
+	 * validation requires a {@link ITraversalStrategy.Recursive recursive}
+	 * traversal, as described for the {@link #OPTION_PARALLELISM} option;
+	 * otherwise, the resources are validated one after another on the calling
+	 * thread. In any case, constraints and the {@linkplain #OPTION_RESULT_SINK
+	 * result sink}, if any, must be thread-safe to be used concurrently.
+	 * </p>
+	 *
+	 * @param resourceSet the resource set to validate
+	 * @param monitor     the progress monitor to track validation progress, or
+	 *                    <code>null</code> if no progress monitoring is required
+	 * @return the validation status of each resource, in the order of the
+	 *         resources in the resource set. Resources whose validation was not
+	 *         started because the <code>monitor</code> was canceled are omitted
+	 *
+	 * @since 1.9
+	 */
+	Map<Resource, IStatus> validate(ResourceSet resourceSet, IProgressMonitor monitor);
+
 	/**
 	 * Validates a single {@link EObject EMF element} without using any progress
 	 * monitor.
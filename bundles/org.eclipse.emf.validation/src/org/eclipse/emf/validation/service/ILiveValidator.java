@@ -1,5 +1,5 @@
 /******************************************************************************
- * Copyright (c) 2003, 2008 IBM Corporation, Zeligsoft Inc., and others.
+ * Copyright (c) 2003, 2026 IBM Corporation, Zeligsoft Inc., and others.
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
  * which is available at https://www.eclipse.org/legal/epl-2.0/
@@ -16,6 +16,10 @@
 
 package org.eclipse.emf.validation.service;
 
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.Future;
+
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.emf.common.notify.Notification;
 import org.eclipse.emf.validation.model.EvaluationMode;
@@ -39,6 +43,49 @@ import org.eclipse.emf.validation.util.FilteredCollection;
  * @noextend This interface is not intended to be extended by clients.
  */
 public interface ILiveValidator extends IValidator<Notification> {
+	/**
+	 * A long-valued option specifying the quiet period, in milliseconds, of
+	 * {@linkplain #validateAsync(Collection) asynchronous validation}:
+	 * notifications are buffered until none have been received for this long.
+	 * The default value is <code>100</code>. A value of <code>0</code> validates
+	 * the buffered notifications as soon as possible.
+	 *
+	 * @since 1.9
+	 *
+	 * @see #setOptions(Map)
+	 * @see #OPTION_MAX_BATCH_SIZE
+	 */
+	Option<Long> OPTION_QUIET_PERIOD = Option.make(100L);
+
+	/**
+	 * An integer-valued option specifying the maximal number of notifications
+	 * that {@linkplain #validateAsync(Collection) asynchronous validation}
+	 * buffers before validating them, even if the
+	 * {@linkplain #OPTION_QUIET_PERIOD quiet period} has not elapsed. The default
+	 * value is <code>0</code>, meaning that there is no limit.
+	 *
+	 * @since 1.9
+	 *
+	 * @see #setOptions(Map)
+	 */
+	Option<Integer> OPTION_MAX_BATCH_SIZE = Option.make(0);
+
+	/**
+	 * An option specifying the {@link java.util.concurrent.Executor} on which
+	 * {@linkplain #validateAsync(Collection) asynchronous validation} validates
+	 * the buffered notifications. The default value is <code>null</code>, meaning
+	 * that they are validated on the
+	 * {@linkplain java.util.concurrent.ForkJoinPool#commonPool() common pool}, so
+	 * that batches of different validators may be validated concurrently.
+	 * Clients whose models may only be read in a particular context,
+	 * such as a transaction, specify an executor that provides that context.
+	 *
+	 * @since 1.9
+	 *
+	 * @see #setOptions(Map)
+	 */
+	Option<java.util.concurrent.Executor> OPTION_ASYNC_EXECUTOR = Option.make(null);
+
 	/**
 	 * Validates the specified {@link Notification EMF event}. This method is a
 	 * synonym for the inherited {@link IValidator#validate(Object)}.
@@ -75,4 +122,43 @@ public interface ILiveValidator extends IValidator<Notification> {
 	 * @since 1.1
 	 */
 	void setNotificationFilter(FilteredCollection.Filter<Notification> filter);
+
+	/**
+	 * Validates the specified {@link Notification EMF event} asynchronously.
+	 *
+	 * @param notification the EMF event to validate
+	 * @return the future validation status
+	 *
+	 * @see #validateAsync(Collection)
+	 *
+	 * @since 1.9
+	 */
+	Future<IStatus> validateAsync(Notification notification);
+
+	/**
+	 * <p>
+	 * Validates the specified {@link Notification EMF events} asynchronously. The
+	 * notifications are buffered with any others that are received until the
+	 * {@linkplain #OPTION_QUIET_PERIOD quiet period} elapses without any further
+	 * notifications or the {@linkplain #OPTION_MAX_BATCH_SIZE maximal batch size}
+	 * is reached. All of the buffered notifications are then merged and
+	 * validated at once, as though by the {@link #validate(Collection)} method,
+	 * on the {@linkplain #OPTION_ASYNC_EXECUTOR executor}. Notifications that are
+	 * received while a validation is running are buffered for the next one, so
+	 * that my validations never overlap.
+	 * </p>
+	 * <p>
+	 * The status of the validation is delivered by the returned future, which
+	 * is shared by all notifications that are validated together, as well as to
+	 * the {@linkplain ModelValidationService#addValidationListener(IValidationListener)
+	 * validation listeners}. Note that, in the meantime, I must not be used
+	 * for synchronous validation and my options should not be changed.
+	 * </p>
+	 *
+	 * @param notifications the EMF events to validate
+	 * @return the future validation status
+	 *
+	 * @since 1.9
+	 */
+	Future<IStatus> validateAsync(Collection<? extends Notification> notifications);
 }
@@ -0,0 +1,60 @@
+/******************************************************************************
+ * Copyright (c) 2026 Eclipse contributors and others.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *    Eclipse contributors - initial API and implementation
+ ****************************************************************************/
+package org.eclipse.emf.validation.service;
+
+import java.util.Collection;
+
+import org.eclipse.emf.common.notify.Notification;
+
+/**
+ * An optional extension of the {@link INotificationGenerator} interface for
+ * generators that only consume some kinds of notifications, such as the
+ * notifications from particular notifiers, of particular features, or of
+ * particular event types. Live validation passes such a generator only the
+ * notifications that it consumes, and does not invoke it at all if there are
+ * none.
+ * <p>
+ * A selective generator may also declare that it is independent of all other
+ * generators and safe to invoke on any thread, in which case live validation of
+ * a large number of notifications may invoke it concurrently with other such
+ * generators. Either way, the notifications generated by all generators are
+ * validated in the same order.
+ * </p>
+ * <p>
+ * This interface is intended to be implemented by clients.
+ * </p>
+ *
+ * @since 1.9
+ */
+public interface ISelectiveNotificationGenerator extends INotificationGenerator {
+	/**
+	 * Queries whether I generate notifications from the specified notification.
+	 * The answer must not depend on any other notification.
+	 *
+	 * @param notification a notification that is eligible for validation
+	 * @return whether to include it in the notifications from which I generate
+	 *         custom notifications
+	 *
+	 * @see #generateNotifications(Collection)
+	 */
+	boolean consumes(Notification notification);
+
+	/**
+	 * Queries whether I may generate notifications concurrently with other
+	 * generators, on a thread other than the thread that requested validation.
+	 * That is the case if I do not depend on the notifications generated by
+	 * other generators or on any state of the thread, and I only read the model.
+	 *
+	 * @return whether I may be invoked concurrently
+	 */
+	boolean isConcurrent();
+}
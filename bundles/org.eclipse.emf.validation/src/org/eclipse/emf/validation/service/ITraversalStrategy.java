@@ -1,5 +1,5 @@
 /******************************************************************************
- * Copyright (c) 2004, 2007 IBM Corporation and others.
+ * Copyright (c) 2004, 2026 IBM Corporation and others.
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
  * which is available at https://www.eclipse.org/legal/epl-2.0/
@@ -14,13 +14,12 @@ package org.eclipse.emf.validation.service;
 
 import java.util.Collection;
 import java.util.Iterator;
-import java.util.Set;
 
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.emf.ecore.EObject;
-import org.eclipse.emf.ecore.InternalEObject;
-import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.eclipse.emf.validation.internal.util.RootTrackingTreeIterator;
+import org.eclipse.emf.validation.internal.util.TraversalUtils;
 
 /**
  * <p>
@@ -89,7 +88,7 @@ public interface ITraversalStrategy {
 	 */
 	final class Recursive extends AbstractTraversalStrategy {
 		private Collection<EObject> roots;
-		private boolean contextChanged = true;
+		private RootTrackingTreeIterator iterator;
 
 		/**
 		 * Initializes me.
@@ -101,7 +100,7 @@ public interface ITraversalStrategy {
 		@Override
 		public void startTraversal(Collection<? extends EObject> traversalRoots, IProgressMonitor progressMonitor) {
 
-			roots = makeTargetsDisjoint(traversalRoots);
+			roots = TraversalUtils.makeTargetsDisjoint(traversalRoots);
 
 			super.startTraversal(traversalRoots, progressMonitor);
 		}
@@ -136,75 +135,108 @@ public interface ITraversalStrategy {
 		@Override
 		protected Iterator<? extends EObject> createIterator(Collection<? extends EObject> ignored) {
 
-			return new EcoreUtil.ContentTreeIterator<>(getRoots()) {
-				private static final long serialVersionUID = -5653134989235663973L;
-
-				@Override
-				public Iterator<EObject> getChildren(Object obj) {
-					if (obj == getRoots()) {
-						return new Iterator<>() {
-							private final Iterator<EObject> delegate = getRoots().iterator();
-
-							@Override
-							public boolean hasNext() {
-								return delegate.hasNext();
-							}
-
-							@Override
-							public EObject next() {
-								// if I'm being asked for my next element, then
-								// we are stepping to another traversal root
-								contextChanged = true;
-
-								return delegate.next();
-							}
-
-							@Override
-							public void remove() {
-								delegate.remove();
-							}
-						};
-					} else {
-						return super.getChildren(obj);
-					}
-				}
-
-				@Override
-				public EObject next() {
-					// this will be set to true again the next time we test hasNext() at
-					// the traversal root level
-					contextChanged = false;
-
-					return super.next();
-				}
-			};
+			iterator = new RootTrackingTreeIterator(getRoots());
+			return iterator;
 		}
 
 		@Override
 		public boolean isClientContextChanged() {
-			return contextChanged;
+			return (iterator == null) || iterator.isRootChanged();
 		}
+	}
 
-		private Set<EObject> makeTargetsDisjoint(Collection<? extends EObject> objects) {
-			Set<EObject> result = new java.util.HashSet<>();
-
-			// ensure that any contained (descendent) elements of other elements
-			// that we include are not included, because they will be
-			// traversed by recursion, anyway
-
-			for (EObject target : objects) {
-				// EcoreUtil uses the InternalEObject interface to check
-				// containment, so we do the same. Also, we kip up a level to
-				// the immediate container for efficiency: an object is its
-				// own ancestor, so we can "pre-step" up a level to avoid the
-				// cost of doing it individually for every miss in the collection
-				if (!EcoreUtil.isAncestor(objects, ((InternalEObject) target).eInternalContainer())) {
-					result.add(target);
-				}
-			}
+	/**
+	 * <p>
+	 * An implementation of the {@link ITraversalStrategy} interface that, like the
+	 * {@link Recursive} strategy, iterates over the content trees of the roots, but
+	 * in a single pass. Whereas the {@link Recursive} strategy walks the entire
+	 * content tree once to count the elements for the progress monitor before
+	 * walking it again to validate them, this strategy starts validating
+	 * immediately. This is particularly beneficial for large models whose contents
+	 * are resolved lazily.
+	 * </p>
+	 * <p>
+	 * Progress is reported from an estimate of the number of elements to be
+	 * validated, which is the number of elements traversed so far plus the number
+	 * of contents discovered but not yet traversed. The estimate grows as the
+	 * traversal proceeds, until it is exact at the end, and the progress monitor
+	 * is only ever advanced.
+	 * </p>
+	 * <p>
+	 * This traversal strategy assumes that only the root elements of the traversal
+	 * may be in different client contexts, not any contents of their sub-trees.
+	 * </p>
+	 *
+	 * @since 1.9
+	 */
+	final class Streaming implements ITraversalStrategy {
+		/** The number of work units over which progress is reported. */
+		private static final int PROGRESS_TICKS = 1024;
+
+		private Collection<EObject> roots;
+		private RootTrackingTreeIterator iterator;
+		private IProgressMonitor monitor;
+
+		private int estimate;
+		private int validated;
+		private int ticksReported;
+
+		/**
+		 * Initializes me.
+		 */
+		public Streaming() {
+			super();
+		}
+
+		@Override
+		public void startTraversal(Collection<? extends EObject> traversalRoots, IProgressMonitor progressMonitor) {
+			roots = TraversalUtils.makeTargetsDisjoint(traversalRoots);
+			monitor = progressMonitor;
+
+			estimate = roots.size();
+			validated = 0;
+			ticksReported = 0;
+
+			TraversalUtils.beginValidationTask(monitor, PROGRESS_TICKS);
+
+			iterator = new RootTrackingTreeIterator(roots);
+		}
+
+		@Override
+		public boolean hasNext() {
+			return iterator.hasNext();
+		}
+
+		@Override
+		public EObject next() {
+			EObject result = iterator.next();
+
+			// the contents of this element are discovered, but not yet traversed
+			estimate = estimate + result.eContents().size();
 
 			return result;
 		}
+
+		@Override
+		public boolean isClientContextChanged() {
+			return (iterator == null) || iterator.isRootChanged();
+		}
+
+		/**
+		 * Advances the progress monitor by the fraction of the current estimate of
+		 * elements that has been validated, if that fraction has grown.
+		 */
+		@Override
+		public void elementValidated(EObject element, IStatus status) {
+			validated++;
+
+			int ticks = (int) (((long) PROGRESS_TICKS * validated) / Math.max(estimate, validated));
+
+			if (ticks > ticksReported) {
+				monitor.worked(ticks - ticksReported);
+				ticksReported = ticks;
+			}
+		}
 	}
 
 	/**
@@ -0,0 +1,46 @@
+/******************************************************************************
+ * Copyright (c) 2026 Eclipse contributors and others.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *    Eclipse contributors - initial API and implementation
+ ****************************************************************************/
+
+package org.eclipse.emf.validation.service;
+
+import org.eclipse.core.runtime.IStatus;
+
+/**
+ * Interface implemented by clients who wish to receive the results of a batch
+ * validation operation as they are produced, instead of collecting them in the
+ * status returned by the validator. This keeps the memory required by the
+ * validation of very large models bounded, regardless of the number of
+ * problems that are found.
+ * <p>
+ * <b>Note</b> that, to keep the memory bounded, a validator that has a sink
+ * validates the selected elements sequentially, ignoring the
+ * {@linkplain IBatchValidator#OPTION_PARALLELISM parallelism} option.
+ * Resources of a resource set may still be validated concurrently, in which
+ * case the sink must be thread-safe.
+ * </p>
+ *
+ * @since 1.9
+ *
+ * @see IBatchValidator#OPTION_RESULT_SINK
+ */
+public interface IValidationResultSink {
+	/**
+	 * Receives the next result of a validation operation. Results are received in
+	 * the order in which they would otherwise have been reported as the children
+	 * of the validation status, on the thread that invoked the validator.
+	 *
+	 * @param result the result of a constraint evaluation, or a resource status as
+	 *               requested by the {@link IBatchValidator#OPTION_TRACK_RESOURCES}
+	 *               option
+	 */
+	void accept(IStatus result);
+}
@@ -0,0 +1,158 @@
+/******************************************************************************
+ * Copyright (c) 2026 Eclipse contributors and others.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *    Eclipse contributors - initial API and implementation
+ ****************************************************************************/
+
+package org.eclipse.emf.validation.service;
+
+import java.util.Collection;
+
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.emf.common.notify.Notification;
+import org.eclipse.emf.common.notify.Notifier;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.util.EContentAdapter;
+import org.eclipse.emf.validation.internal.service.IncrementalValidationState;
+
+/**
+ * <p>
+ * Supports incremental batch validation. A tracker records the elements that
+ * have changed since they were last validated and retains the results of the
+ * constraints evaluated on every element, keyed by element and constraint ID.
+ * When a tracker is assigned to a batch validator by the
+ * {@link IBatchValidator#OPTION_INCREMENTAL_TRACKER} option, the validator
+ * only evaluates the constraints of elements that were changed (or that
+ * contain changed elements, directly or indirectly) or that were never
+ * validated; the results of all other elements that it traverses are obtained
+ * from the tracker.
+ * </p>
+ * <p>
+ * Changes are detected by a content adapter that the tracker attaches to the
+ * models that it {@linkplain #track(Notifier) tracks}. Changes that are not
+ * notified can be reported explicitly by {@link #markDirty(EObject)}. The
+ * retained results are only valid for the configuration of the validator (its
+ * options, filters, and the enablement of constraints) that produced them, so
+ * clients must {@linkplain #reset() reset} the tracker when that changes.
+ * </p>
+ * <p>
+ * Incremental validation does not shorten the traversal: the validator still
+ * traverses every element of the content trees that it validates, and only the
+ * evaluation of the constraints of unchanged elements is skipped.
+ * </p>
+ * <p>
+ * A tracker may be used concurrently by validation operations of different
+ * content trees, such as the resources of a resource set, but it is not
+ * intended to be shared by validators that validate the same elements
+ * concurrently.
+ * </p>
+ *
+ * @since 1.9
+ *
+ * @noextend This class is not intended to be subclassed by clients.
+ */
+public final class IncrementalValidationTracker {
+	private final IncrementalValidationState state = IncrementalValidationState.create(this);
+
+	private final EContentAdapter adapter = new EContentAdapter() {
+		@Override
+		public void notifyChanged(Notification notification) {
+			super.notifyChanged(notification);
+
+			if (!notification.isTouch()) {
+				state.changed(notification);
+			}
+		}
+	};
+
+	/**
+	 * Initializes me.
+	 */
+	public IncrementalValidationTracker() {
+		super();
+	}
+
+	/**
+	 * Starts tracking the changes in the specified model, which is usually a
+	 * resource set or a resource, but may also be the root of a content tree.
+	 *
+	 * @param notifier the model to track
+	 */
+	public void track(Notifier notifier) {
+		if (!notifier.eAdapters().contains(adapter)) {
+			notifier.eAdapters().add(adapter);
+		}
+	}
+
+	/**
+	 * Stops tracking the changes in a model that I previously started to
+	 * {@linkplain #track(Notifier) track}.
+	 *
+	 * @param notifier the model to stop tracking
+	 */
+	public void untrack(Notifier notifier) {
+		notifier.eAdapters().remove(adapter);
+	}
+
+	/**
+	 * Marks the specified element as having changed, so that it and its ancestors
+	 * are validated again by the next validation operation that traverses them.
+	 * This is only necessary for changes that are not notified.
+	 *
+	 * @param eObject an element that was changed
+	 */
+	public void markDirty(EObject eObject) {
+		state.markDirty(eObject);
+	}
+
+	/**
+	 * Queries whether the specified element has changed since it was last
+	 * validated. Once a validation operation has begun, the containers of the
+	 * changed elements are dirty, too, until they are validated.
+	 *
+	 * @param eObject an element
+	 * @return whether it is dirty
+	 */
+	public boolean isDirty(EObject eObject) {
+		return state.isDirty(eObject);
+	}
+
+	/**
+	 * Forgets all retained results and changes, so that the next validation
+	 * operation evaluates all constraints on every element that it traverses.
+	 */
+	public void reset() {
+		state.reset();
+	}
+
+	/**
+	 * Obtains the retained results of the last evaluation of the constraints on
+	 * the specified element.
+	 *
+	 * @param eObject an element
+	 * @return its results, in the order in which they were reported, or an empty
+	 *         collection if the element was not validated or had no results
+	 */
+	public Collection<IStatus> getResults(EObject eObject) {
+		return state.getResults(eObject);
+	}
+
+	/**
+	 * Obtains the retained result of the last evaluation of a constraint on the
+	 * specified element.
+	 *
+	 * @param eObject      an element
+	 * @param constraintId the ID of a constraint
+	 * @return the result, or <code>null</code> if the constraint was not evaluated
+	 *         on the element or its result was not reported
+	 */
+	public IStatus getResult(EObject eObject, String constraintId) {
+		return state.getResult(eObject, constraintId);
+	}
+}
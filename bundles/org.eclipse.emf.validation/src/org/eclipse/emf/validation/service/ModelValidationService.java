@@ -1,5 +1,5 @@
 /******************************************************************************
- * Copyright (c) 2003, 2008 IBM Corporation, Zeligsoft Inc., and others.
+ * Copyright (c) 2003, 2026 IBM Corporation, Zeligsoft Inc., and others.
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
  * which is available at https://www.eclipse.org/legal/epl-2.0/
@@ -19,6 +19,9 @@ import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IConfigurationElement;
@@ -33,22 +36,28 @@ import org.eclipse.emf.common.EMFPlugin;
 import org.eclipse.emf.common.util.URI;
 import org.eclipse.emf.ecore.EClass;
 import org.eclipse.emf.ecore.EClassifier;
+import org.eclipse.emf.ecore.EObject;
 import org.eclipse.emf.ecore.EPackage;
+import org.eclipse.emf.ecore.util.EcoreUtil;
 import org.eclipse.emf.validation.internal.EMFModelValidationDebugOptions;
 import org.eclipse.emf.validation.internal.EMFModelValidationPlugin;
 import org.eclipse.emf.validation.internal.EMFModelValidationStatusCodes;
 import org.eclipse.emf.validation.internal.modeled.ModeledConstraintsConfig;
 import org.eclipse.emf.validation.internal.service.BatchValidator;
 import org.eclipse.emf.validation.internal.service.ConstraintCache;
+import org.eclipse.emf.validation.internal.service.ConstraintCacheManagement;
+import org.eclipse.emf.validation.internal.service.DispatchPlanCache;
 import org.eclipse.emf.validation.internal.service.IProviderDescriptor;
 import org.eclipse.emf.validation.internal.service.IProviderOperation;
 import org.eclipse.emf.validation.internal.service.IProviderOperationExecutor;
+import org.eclipse.emf.validation.internal.service.LiveTriggerIndex;
 import org.eclipse.emf.validation.internal.service.LiveValidator;
 import org.eclipse.emf.validation.internal.service.ProviderDescriptor;
 import org.eclipse.emf.validation.internal.util.Log;
 import org.eclipse.emf.validation.internal.util.Trace;
 import org.eclipse.emf.validation.model.EvaluationMode;
 import org.eclipse.emf.validation.model.IModelConstraint;
+import org.eclipse.emf.validation.model.IPreparableConstraint;
 import org.eclipse.emf.validation.util.XmlConfig;
 
 /**
@@ -93,6 +102,22 @@ public class ModelValidationService {
 
 	private final Object providersLock = new Object();
 
+	/** Invalidates the cache when constraints are registered or unregistered. */
+	private final IConstraintListener cacheInvalidator = new IConstraintListener() {
+		@Override
+		public void constraintChanged(ConstraintChangeEvent event) {
+			switch (event.getEventType()) {
+			case REGISTERED:
+			case UNREGISTERED:
+				constraintCache.invalidate();
+				break;
+			default:
+				// the cached constraints are not filtered by enablement or category
+				break;
+			}
+		}
+	};
+
 	private final IExtensionChangeHandler providersHandler = new IExtensionChangeHandler() {
 
 		@Override
@@ -175,6 +200,8 @@ public class ModelValidationService {
 		Collection<IProviderDescriptor> providers = getProviders();
 		// include the cache in my collection of providers
 		providers.add(constraintCache.getDescriptor());
+		ConstraintRegistry.getInstance().addConstraintListener(cacheInvalidator);
+		ConstraintCacheManagement.register(constraintCache);
 
 		if (EMFPlugin.IS_ECLIPSE_RUNNING) {
 			IExtensionPoint extPoint = Platform.getExtensionRegistry().getExtensionPoint(
@@ -250,6 +277,10 @@ public class ModelValidationService {
 			}
 		}
 
+		// the new providers may provide constraints for classes already planned
+		DispatchPlanCache.getInstance().invalidate();
+		LiveTriggerIndex.getInstance().invalidate();
+
 		return result;
 	}
 
@@ -257,6 +288,26 @@ public class ModelValidationService {
 		synchronized (providersLock) {
 			constraintProviders.add(descriptor);
 		}
+
+		DispatchPlanCache.getInstance().invalidate();
+		LiveTriggerIndex.getInstance().invalidate();
+	}
+
+	/**
+	 * Obtains the descriptors of the registered constraint providers, including
+	 * the descriptor of the constraint cache, which caches the constraints of the
+	 * other providers.
+	 *
+	 * @return a snapshot of the provider descriptors
+	 *
+	 * @noreference This method is not intended to be called by clients.
+	 *
+	 * @since 1.9
+	 */
+	public Collection<IProviderDescriptor> getProviderDescriptors() {
+		synchronized (providersLock) {
+			return new java.util.ArrayList<>(getProviders());
+		}
 	}
 
 	/**
@@ -484,17 +535,206 @@ public class ModelValidationService {
 		// no longer implemented
 	}
 
+	/**
+	 * Obtains a snapshot of the statistics of the cache of the constraints that
+	 * are provided for EMF classes. The same statistics are available to JMX
+	 * clients from the <tt>org.eclipse.emf.validation:type=ConstraintCache</tt>
+	 * MBean.
+	 *
+	 * @return the current statistics of the constraint cache
+	 *
+	 * @since 1.9
+	 */
+	public ConstraintCacheStatistics getConstraintCacheStatistics() {
+		return constraintCache.getStatistics();
+	}
+
+	/**
+	 * Resets the hit, miss, and fill time counters of the constraint cache, for
+	 * example to measure them for a particular period.
+	 *
+	 * @since 1.9
+	 */
+	public void resetConstraintCacheStatistics() {
+		constraintCache.resetStatistics();
+	}
+
 	/**
 	 * Replaces a constraint in the cache with an alternative implementation. This
 	 * must only be invoked by constraint providers, and then only when the provider
 	 * can ensure that the new constraint implementation's semantics are compatible
 	 * with the old.
+	 * <p>
+	 * Note that this visits every cached EMF class, so it is not suitable for
+	 * replacing many constraints. The lazily initialized constraints of the
+	 * {@link AbstractConstraintProvider} resolve their implementations in place and
+	 * do not need to be replaced.
+	 * </p>
 	 *
 	 * @param oldConstraint the constraint to be replaced in the cache
 	 * @param newConstraint the new constraint to replace it
 	 */
 	public void replaceInCache(IModelConstraint oldConstraint, IModelConstraint newConstraint) {
 		constraintCache.replace(oldConstraint, newConstraint);
+
+		DispatchPlanCache.getInstance().invalidate();
+	}
+
+	/**
+	 * <p>
+	 * Warms up the validation service for the validation of objects of the
+	 * specified packages, so that the first validation is as fast as later ones.
+	 * This is intended to be invoked by applications such as servers when they
+	 * start, before they accept requests for validation.
+	 * </p>
+	 * <p>
+	 * The warm-up initializes all of the registered constraint providers and the
+	 * implementations of their lazily initialized constraints, fills the
+	 * constraint cache with the batch constraints of every concrete class of the
+	 * <code>ePackages</code>, and {@linkplain IPreparableConstraint#prepare
+	 * prepares} the constraints that target those classes. The providers are
+	 * initialized in turn, but the constraints and the classes are warmed up in
+	 * parallel on the common fork-join pool. This method returns when the warm-up
+	 * is complete. Problems are not reported by the warm-up but, as usual, by the
+	 * validation that encounters them.
+	 * </p>
+	 *
+	 * @param ePackages the packages of the objects to be validated, which may be
+	 *                  empty to initialize only the providers and constraints
+	 *
+	 * @since 1.9
+	 */
+	public void warmUp(Collection<? extends EPackage> ePackages) {
+		long start = System.nanoTime();
+
+		Collection<IProviderDescriptor> descriptors = new java.util.ArrayList<>(constraintCache.getProviders());
+		for (IProviderDescriptor next : getProviderDescriptors()) {
+			if (!next.isCache()) {
+				descriptors.add(next);
+			}
+		}
+
+		// initialize the providers, which parse their constraints. This is done
+		// serially because providers register their constraints and categories
+		final Set<IModelConstraint> constraints = java.util.Collections
+				.newSetFromMap(new java.util.IdentityHashMap<IModelConstraint, Boolean>());
+		for (IProviderDescriptor next : descriptors) {
+			IModelConstraintProvider provider = next.getProvider();
+
+			if (provider instanceof AbstractConstraintProvider) {
+				constraints.addAll(((AbstractConstraintProvider) provider).getConstraints());
+			}
+		}
+
+		// initialize the constraints that the providers create lazily
+		List<ForkJoinTask<?>> tasks = new java.util.ArrayList<>();
+		for (final IModelConstraint next : constraints) {
+			tasks.add(ForkJoinPool.commonPool().submit(new Runnable() {
+				@Override
+				public void run() {
+					try {
+						AbstractConstraintProvider.resolve(next);
+					} catch (RuntimeException e) {
+						// the constraint is disabled when it is first evaluated
+						Trace.catching(ModelValidationService.class, "warmUp", e); //$NON-NLS-1$
+					}
+				}
+			}));
+		}
+		join(tasks);
+
+		// find the constraints that target every concrete class. This is done
+		// serially, before the parallel phase, because the descriptors of the
+		// constraints are shared by all of the classes
+		Map<EObject, Collection<IModelConstraint>> targets = new java.util.LinkedHashMap<>();
+		for (EPackage ePackage : ePackages) {
+			for (EClassifier classifier : ePackage.getEClassifiers()) {
+				if ((classifier instanceof EClass) && !((EClass) classifier).isAbstract()) {
+					EObject target = createWarmUpTarget((EClass) classifier);
+
+					if (target != null) {
+						Collection<IModelConstraint> targeting = java.util.Collections
+								.newSetFromMap(new java.util.IdentityHashMap<IModelConstraint, Boolean>());
+						for (IModelConstraint next : constraints) {
+							if (next.getDescriptor().targetsTypeOf(target)) {
+								targeting.add(next);
+							}
+						}
+
+						targets.put(target, targeting);
+					}
+				}
+			}
+		}
+
+		// fill the cache and prepare the constraints for every concrete class
+		for (final Map.Entry<EObject, Collection<IModelConstraint>> next : targets.entrySet()) {
+			tasks.add(ForkJoinPool.commonPool().submit(new Runnable() {
+				@Override
+				public void run() {
+					warmUpClass(next.getKey(), next.getValue());
+				}
+			}));
+		}
+		join(tasks);
+
+		if (Trace.shouldTrace(EMFModelValidationDebugOptions.CACHE)) {
+			Trace.trace(EMFModelValidationDebugOptions.CACHE, "Warmed up " + constraints.size() //$NON-NLS-1$
+					+ " constraints in " + ((System.nanoTime() - start) / 1000000L) + " ms"); //$NON-NLS-1$ //$NON-NLS-2$
+		}
+	}
+
+	/**
+	 * Creates an instance of an EMF class on which to warm up its constraints.
+	 *
+	 * @param eClass a concrete EMF class
+	 * @return the new instance, or <code>null</code> if it cannot be created
+	 */
+	private EObject createWarmUpTarget(EClass eClass) {
+		try {
+			return EcoreUtil.create(eClass);
+		} catch (RuntimeException e) {
+			// the factory does not create instances of this class
+			Trace.catching(getClass(), "warmUp", e); //$NON-NLS-1$
+			return null;
+		}
+	}
+
+	/**
+	 * Fills the cache with the batch constraints of an EMF class and prepares the
+	 * constraints that target it.
+	 *
+	 * @param target    an instance of a concrete EMF class
+	 * @param targeting the constraints of all of the providers that are known to
+	 *                  me that target the class, to which are added the cached
+	 *                  batch constraints
+	 */
+	private void warmUpClass(EObject target, Collection<IModelConstraint> targeting) {
+		constraintCache.getBatchConstraints(target, targeting);
+
+		for (IModelConstraint next : targeting) {
+			if (next instanceof IPreparableConstraint) {
+				try {
+					((IPreparableConstraint) next).prepare(target);
+				} catch (RuntimeException e) {
+					// the constraint is disabled when it is first evaluated
+					Trace.catching(getClass(), "warmUp", e); //$NON-NLS-1$
+				}
+			}
+		}
+	}
+
+	/**
+	 * Waits for the completion of the tasks of a warm-up phase.
+	 *
+	 * @param tasks the tasks, which list is cleared when they are complete
+	 */
+	private static void join(List<ForkJoinTask<?>> tasks) {
+		for (ForkJoinTask<?> next : tasks) {
+			next.join();
+		}
+
+		tasks.clear();
 	}
 
 	/**
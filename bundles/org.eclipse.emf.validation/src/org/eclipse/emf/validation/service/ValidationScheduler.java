@@ -0,0 +1,340 @@
+/******************************************************************************
+ * Copyright (c) 2026 Eclipse contributors and others.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *    Eclipse contributors - initial API and implementation
+ ****************************************************************************/
+
+package org.eclipse.emf.validation.service;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.emf.common.notify.Notifier;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.validation.model.EvaluationMode;
+
+/**
+ * <p>
+ * Schedules batch validation of resources and model elements in the
+ * background. Requests to validate the same target are coalesced: a request
+ * for a target that is already waiting to be validated does not queue another
+ * run, and a request for a target that is being validated cancels that run
+ * (through its progress monitor) and queues a new one, because the target has
+ * changed again. Either way, all requesters receive the result of the run that
+ * eventually completes.
+ * </p>
+ * <p>
+ * Runs are executed on a bounded pool of threads, in order of decreasing
+ * priority and, for equal priorities, in the order in which they were
+ * requested. Every run uses a new {@link IBatchValidator} obtained from the
+ * {@link ModelValidationService} and configured with the options of the
+ * scheduler.
+ * </p>
+ *
+ * @since 1.9
+ *
+ * @noextend This class is not intended to be subclassed by clients.
+ */
+public final class ValidationScheduler {
+	/**
+	 * The priority of validation requests for which there is no particular
+	 * urgency. Higher priorities are validated first.
+	 */
+	public static final int PRIORITY_NORMAL = 0;
+
+	/**
+	 * The priority of validation requests whose results a user is waiting for,
+	 * such as the validation of the resource that is being edited.
+	 */
+	public static final int PRIORITY_HIGH = 10;
+
+	private final Map<IValidator.Option<?>, ?> options;
+
+	private final ThreadPoolExecutor executor;
+
+	private final AtomicLong sequence = new AtomicLong();
+
+	private final Object lock = new Object();
+
+	// requests that are queued and not yet started, by target
+	private final Map<Notifier, Request> pending = new java.util.IdentityHashMap<>();
+
+	// requests that are in progress, by target
+	private final Map<Notifier, Request> running = new java.util.IdentityHashMap<>();
+
+	/**
+	 * Initializes me with the maximal number of validation runs that I execute
+	 * concurrently and the default options of the validators.
+	 *
+	 * @param maxThreads the maximal number of concurrent validation runs (at
+	 *                   least one)
+	 */
+	public ValidationScheduler(int maxThreads) {
+		this(maxThreads, Collections.emptyMap());
+	}
+
+	/**
+	 * Initializes me with the maximal number of validation runs that I execute
+	 * concurrently and the options of the validators.
+	 *
+	 * @param maxThreads the maximal number of concurrent validation runs (at
+	 *                   least one)
+	 * @param options    the options with which to configure the validators
+	 *
+	 * @see IValidator#setOptions(Map)
+	 */
+	public ValidationScheduler(int maxThreads, Map<IValidator.Option<?>, ?> options) {
+		if (maxThreads < 1) {
+			throw new IllegalArgumentException("maxThreads < 1"); //$NON-NLS-1$
+		}
+
+		this.options = new java.util.HashMap<IValidator.Option<?>, Object>(options);
+
+		executor = new ThreadPoolExecutor(maxThreads, maxThreads, 30L, TimeUnit.SECONDS,
+				new java.util.concurrent.PriorityBlockingQueue<Runnable>(), new ThreadFactory() {
+					private int count;
+
+					@Override
+					public synchronized Thread newThread(Runnable r) {
+						Thread result = new Thread(r, "EMF Validation Scheduler " + ++count); //$NON-NLS-1$
+						result.setDaemon(true);
+						return result;
+					}
+				});
+		executor.allowCoreThreadTimeOut(true);
+	}
+
+	/**
+	 * Schedules the validation of the contents of a resource.
+	 *
+	 * @param resource the resource to validate
+	 * @param priority the priority of the request
+	 * @return the future result of the validation, which is shared by all
+	 *         coalesced requests for the same <code>resource</code>
+	 */
+	public Future<IStatus> schedule(Resource resource, int priority) {
+		return doSchedule(resource, priority);
+	}
+
+	/**
+	 * Schedules the validation of an element, according to the validators'
+	 * traversal strategy.
+	 *
+	 * @param eObject  the element to validate
+	 * @param priority the priority of the request
+	 * @return the future result of the validation, which is shared by all
+	 *         coalesced requests for the same <code>eObject</code>
+	 */
+	public Future<IStatus> schedule(EObject eObject, int priority) {
+		return doSchedule(eObject, priority);
+	}
+
+	/**
+	 * Cancels the pending or running validation of a resource or element, if
+	 * any. The future result of the validation is cancelled.
+	 *
+	 * @param target a resource or element that was scheduled for validation
+	 */
+	public void cancel(Notifier target) {
+		Request request;
+
+		synchronized (lock) {
+			request = pending.remove(target);
+
+			if (request != null) {
+				executor.remove(request);
+			} else {
+				request = running.get(target);
+
+				if (request != null) {
+					request.monitor.setCanceled(true);
+				}
+			}
+		}
+
+		if (request != null) {
+			request.future.cancel(false);
+		}
+	}
+
+	/**
+	 * Queries whether a resource or element is waiting for or undergoing
+	 * validation.
+	 *
+	 * @param target a resource or element
+	 * @return whether its validation is pending or running
+	 */
+	public boolean isScheduled(Notifier target) {
+		synchronized (lock) {
+			return pending.containsKey(target) || running.containsKey(target);
+		}
+	}
+
+	/**
+	 * Cancels all pending and running validations and stops my threads. I
+	 * cannot schedule any further validations.
+	 */
+	public void shutdown() {
+		Collection<Request> canceled = new java.util.ArrayList<>();
+
+		synchronized (lock) {
+			canceled.addAll(pending.values());
+			canceled.addAll(running.values());
+			pending.clear();
+
+			executor.shutdownNow();
+		}
+
+		for (Request next : canceled) {
+			next.monitor.setCanceled(true);
+			next.future.cancel(false);
+		}
+	}
+
+	/**
+	 * Schedules the validation of a resource or element, coalescing it with any
+	 * pending or running validation of the same target.
+	 *
+	 * @param target   the resource or element
+	 * @param priority the priority of the request
+	 * @return the future result of the validation
+	 */
+	private Future<IStatus> doSchedule(Notifier target, int priority) {
+		synchronized (lock) {
+			Request request = pending.get(target);
+
+			if (request != null) {
+				// coalesce with the pending request, which must be re-queued if
+				// its priority increases
+				if ((priority > request.priority) && executor.remove(request)) {
+					request = new Request(target, priority, request.future);
+					pending.put(target, request);
+					executor.execute(request);
+				}
+			} else {
+				Request current = running.get(target);
+
+				if (current != null) {
+					// the target has changed again, so its current results are
+					// already out of date
+					current.superseded = true;
+					current.monitor.setCanceled(true);
+
+					// unless it was cancelled, the run's requesters await the new run
+					CompletableFuture<IStatus> future = current.future.isDone() ? new CompletableFuture<>()
+							: current.future;
+					request = new Request(target, Math.max(priority, current.priority), future);
+				} else {
+					request = new Request(target, priority, new CompletableFuture<>());
+				}
+
+				pending.put(target, request);
+				executor.execute(request);
+			}
+
+			return request.future;
+		}
+	}
+
+	/**
+	 * Validates a resource or element.
+	 *
+	 * @param target  the resource or element
+	 * @param monitor the progress monitor by which the validation is canceled
+	 * @return the validation status
+	 */
+	private IStatus validate(Notifier target, IProgressMonitor monitor) {
+		IBatchValidator validator = ModelValidationService.getInstance().newValidator(EvaluationMode.BATCH);
+		validator.setOptions(options);
+
+		if (target instanceof Resource) {
+			return validator.validate(new java.util.ArrayList<>(((Resource) target).getContents()), monitor);
+		}
+
+		return validator.validate((EObject) target, monitor);
+	}
+
+	/**
+	 * A request to validate a target, which is queued on the executor.
+	 */
+	private final class Request implements Runnable, Comparable<Request> {
+		final Notifier target;
+		final int priority;
+		final long order = sequence.getAndIncrement();
+		final CompletableFuture<IStatus> future;
+		final IProgressMonitor monitor = new NullProgressMonitor();
+
+		// whether a new request for my target has replaced me while running.
+		// Guarded by the lock, as is the completion of my future, so that a
+		// superseded run cannot complete the future handed on to its successor
+		boolean superseded;
+
+		Request(Notifier target, int priority, CompletableFuture<IStatus> future) {
+			this.target = target;
+			this.priority = priority;
+			this.future = future;
+		}
+
+		@Override
+		public void run() {
+			synchronized (lock) {
+				if (pending.get(target) != this) {
+					// cancelled or replaced by a request of higher priority
+					return;
+				}
+
+				pending.remove(target);
+				running.put(target, this);
+			}
+
+			try {
+				IStatus status = validate(target, monitor);
+
+				synchronized (lock) {
+					if (!superseded && !monitor.isCanceled()) {
+						future.complete(status);
+					}
+				}
+			} catch (RuntimeException e) {
+				synchronized (lock) {
+					if (!superseded) {
+						future.completeExceptionally(e);
+					}
+				}
+			} finally {
+				synchronized (lock) {
+					if (running.get(target) == this) {
+						running.remove(target);
+					}
+				}
+			}
+		}
+
+		// higher priorities first, then first come, first served
+		@Override
+		public int compareTo(Request other) {
+			if (priority != other.priority) {
+				return (priority > other.priority) ? -1 : 1;
+			}
+
+			return Long.compare(order, other.order);
+		}
+	}
+}
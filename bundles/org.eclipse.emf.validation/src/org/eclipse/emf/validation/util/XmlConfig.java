@@ -1,5 +1,5 @@
 /******************************************************************************
- * Copyright (c) 2003, 2008 IBM Corporation, Zeligsoft Inc., and others.
+ * Copyright (c) 2003, 2026 IBM Corporation, Zeligsoft Inc., and others.
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
  * which is available at https://www.eclipse.org/legal/epl-2.0/
@@ -14,6 +14,7 @@ package org.eclipse.emf.validation.util;
 
 import java.net.URL;
 import java.util.List;
+import java.util.Map;
 import java.util.StringTokenizer;
 
 import javax.xml.parsers.SAXParser;
@@ -102,6 +103,13 @@ public class XmlConfig {
 	public static final String A_MANDATORY = "mandatory"; //$NON-NLS-1$
 	public static final String A_ENABLED = "enabled"; //$NON-NLS-1$
 
+	/**
+	 * The category paths that the current parse assigns to constraint elements,
+	 * if they are recorded.
+	 */
+	private static final ThreadLocal<Map<IConfigurationElement, List<String>>> assignedCategories =
+			new ThreadLocal<>();
+
 	/**
 	 * Cannot be instantiated by clients.
 	 */
@@ -154,6 +162,43 @@ public class XmlConfig {
 		return result;
 	}
 
+	/**
+	 * Parses a <tt>&lt;constraints&gt;</tt> element in the same way as
+	 * {@link #parseConstraintsWithIncludes(IConfigurationElement)}, recording the
+	 * paths of the categories to which the parse assigns each of the constraints.
+	 *
+	 * @param constraints   an Eclipse configuration element obtained either from
+	 *                      Eclipse's extension point parser or from this utility
+	 *                      class
+	 * @param categoryPaths an identity map in which to record the category paths
+	 *                      of the <tt>&lt;constraint&gt;</tt> elements, in the
+	 *                      order in which they are assigned
+	 * @return the Eclipse-ish representation of the XML constraint configurations
+	 * @throws CoreException if there is any problem either in accessing an existing
+	 *                       configuration element or in parsing the XML to create
+	 *                       new ones
+	 *
+	 * @since 1.9
+	 *
+	 * @noreference This method is not intended to be referenced by clients.
+	 */
+	public static IConfigurationElement parseConstraintsWithIncludes(IConfigurationElement constraints,
+			Map<IConfigurationElement, List<String>> categoryPaths) throws CoreException {
+
+		Map<IConfigurationElement, List<String>> outer = assignedCategories.get();
+		assignedCategories.set(categoryPaths);
+
+		try {
+			return parseConstraintsWithIncludes(constraints);
+		} finally {
+			if (outer == null) {
+				assignedCategories.remove();
+			} else {
+				assignedCategories.set(outer);
+			}
+		}
+	}
+
 	/**
 	 * Gets the value of the <code>name</code>d parameter on the specified
 	 * <code>constraint</code> configuration element. If the parameter occurs more
@@ -260,6 +305,7 @@ public class XmlConfig {
 
 		if (!categoryList.isEmpty()) {
 			Category[] categoryArray = categoryList.toArray(new Category[categoryList.size()]);
+			Map<IConfigurationElement, List<String>> assigned = assignedCategories.get();
 
 			for (IConfigurationElement element : children) {
 				try {
@@ -267,6 +313,17 @@ public class XmlConfig {
 
 					for (Category next : categoryArray) {
 						next.addConstraint(constraint);
+
+						if (assigned != null) {
+							List<String> paths = assigned.get(element);
+
+							if (paths == null) {
+								paths = new java.util.ArrayList<>(categoryArray.length);
+								assigned.put(element, paths);
+							}
+
+							paths.add(next.getPath());
+						}
 					}
 				} catch (ConstraintExistsException e) {
 					// duplicate constraint case. Log it
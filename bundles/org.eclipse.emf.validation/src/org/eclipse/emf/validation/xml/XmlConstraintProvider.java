@@ -1,5 +1,5 @@
 /******************************************************************************
- * Copyright (c) 2003, 2007 IBM Corporation and others.
+ * Copyright (c) 2003, 2026 IBM Corporation and others.
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
  * which is available at https://www.eclipse.org/legal/epl-2.0/
@@ -12,6 +12,9 @@
  ****************************************************************************/
 package org.eclipse.emf.validation.xml;
 
+import java.util.List;
+import java.util.Map;
+
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IConfigurationElement;
 import org.eclipse.core.runtime.IExecutableExtension;
@@ -19,6 +22,7 @@ import org.eclipse.emf.validation.internal.EMFModelValidationDebugOptions;
 import org.eclipse.emf.validation.internal.EMFModelValidationPlugin;
 import org.eclipse.emf.validation.internal.EMFModelValidationStatusCodes;
 import org.eclipse.emf.validation.internal.l10n.ValidationMessages;
+import org.eclipse.emf.validation.internal.util.ConstraintsSnapshot;
 import org.eclipse.emf.validation.internal.util.Log;
 import org.eclipse.emf.validation.internal.util.Trace;
 import org.eclipse.emf.validation.internal.util.XmlConfigurationElement;
@@ -40,7 +44,10 @@ import org.eclipse.emf.validation.util.XmlConfig;
  * Constraints may be specified in the <tt>plugin.xml</tt> file or in separate
  * XML files containing the <tt>&lt;constraints&gt;</tt> element as their root
  * and included from the plug-in manifest via a <tt>&lt;include&gt;</tt>
- * element. Includes can nest to any depth.
+ * element. Includes can nest to any depth. The constraints parsed from
+ * included files are stored in a snapshot that is loaded instead of parsing the
+ * files again on the next start-up, for as long as the contributing plug-in is
+ * not updated.
  * </p>
  * <p>
  * Constraints may be specified in any language for which some plug-in provides
@@ -89,7 +96,23 @@ public class XmlConstraintProvider extends AbstractConstraintProvider implements
 		IConfigurationElement[] constraintses = config.getChildren(XmlConfig.E_CONSTRAINTS);
 
 		for (IConfigurationElement element : constraintses) {
-			IConfigurationElement next = XmlConfig.parseConstraintsWithIncludes(element);
+			IConfigurationElement next = null;
+			boolean snapshot = ConstraintsSnapshot.isApplicable(element);
+
+			if (snapshot) {
+				// avoid parsing the included XML files again, if possible
+				next = ConstraintsSnapshot.load(element);
+			}
+
+			if (next == null) {
+				if (snapshot) {
+					Map<IConfigurationElement, List<String>> categoryPaths = new java.util.IdentityHashMap<>();
+					next = XmlConfig.parseConstraintsWithIncludes(element, categoryPaths);
+					ConstraintsSnapshot.store(element, next, categoryPaths);
+				} else {
+					next = XmlConfig.parseConstraintsWithIncludes(element);
+				}
+			}
 
 			IConfigurationElement[] configs = next.getChildren();
 
@@ -1,5 +1,5 @@
 /**
- * Copyright (c) 2005, 2007 IBM Corporation and others.
+ * Copyright (c) 2005, 2026 IBM Corporation and others.
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
  * which is available at https://www.eclipse.org/legal/epl-2.0/
@@ -19,19 +19,25 @@ import java.util.Collections;
 import org.eclipse.core.runtime.IConfigurationElement;
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.Status;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.impl.DynamicEObjectImpl;
 import org.eclipse.emf.validation.IValidationContext;
+import org.eclipse.emf.validation.internal.service.ClientContext;
 import org.eclipse.emf.validation.internal.service.ClientContextManager;
 import org.eclipse.emf.validation.internal.service.IClientContext;
 import org.eclipse.emf.validation.internal.service.impl.tests.ConstraintDescriptorTest;
 import org.eclipse.emf.validation.internal.util.XmlConstraintDescriptor;
+import org.eclipse.emf.validation.internal.util.XmlExpressionSelector;
 import org.eclipse.emf.validation.model.IClientSelector;
 import org.eclipse.emf.validation.model.IModelConstraint;
+import org.eclipse.emf.validation.model.IStableClientSelector;
 import org.eclipse.emf.validation.service.ConstraintExistsException;
 import org.eclipse.emf.validation.service.IConstraintDescriptor;
 
 import junit.framework.TestCase;
 import ordersystem.Order;
 import ordersystem.OrderSystemFactory;
+import ordersystem.OrderSystemPackage;
 import ordersystem.Product;
 
 /**
@@ -56,6 +62,7 @@ public class ClientContextManagerTest extends TestCase {
 	private static final ClientContextManager mgr;
 	private static final ConstraintDescriptorTest.FixtureElement clientElement;
 	private static final ConstraintDescriptorTest.FixtureElement clientElement2;
+	private static final ConstraintDescriptorTest.FixtureElement stableClientElement;
 
 	private IClientContext ctx;
 	private IClientContext ctx2;
@@ -82,6 +89,11 @@ public class ClientContextManagerTest extends TestCase {
 				new String[][] { { "id", TEST_CLIENT + '2' } }); //$NON-NLS-1$
 		clientElement2.addChild(ConstraintDescriptorTest.FixtureElement.build("selector", //$NON-NLS-1$
 				new String[][] { { "class", TestSelector.class.getName() } })); //$NON-NLS-1$
+
+		stableClientElement = ConstraintDescriptorTest.FixtureElement.build("clientContext", //$NON-NLS-1$
+				new String[][] { { "id", TEST_CLIENT + ".stable" } }); //$NON-NLS-1$ //$NON-NLS-2$
+		stableClientElement.addChild(ConstraintDescriptorTest.FixtureElement.build("selector", //$NON-NLS-1$
+				new String[][] { { "class", StableTestSelector.class.getName() } })); //$NON-NLS-1$
 	}
 
 	@Override
@@ -101,7 +113,7 @@ public class ClientContextManagerTest extends TestCase {
 						{ "constraint", TEST_CONSTRAINT + '2' } }); //$NON-NLS-1$
 
 		configureConstraintBindings(mgr,
-				new IConfigurationElement[] { clientElement, binding, clientElement2, binding2 });
+				new IConfigurationElement[] { clientElement, binding, clientElement2, binding2, stableClientElement });
 
 		ctx = mgr.getClientContext(TEST_CLIENT);
 		ctx2 = mgr.getClientContext(TEST_CLIENT + '2');
@@ -126,6 +138,56 @@ public class ClientContextManagerTest extends TestCase {
 				mgr.getClientContextsFor(order).contains(ctx));
 	}
 
+	public void test_getClientContextsFor_stableSelector() {
+		IClientContext stable = mgr.getClientContext(TEST_CLIENT + ".stable"); //$NON-NLS-1$
+		Product product2 = OrderSystemFactory.eINSTANCE.createProduct();
+
+		int count = StableTestSelector.selectCount;
+
+		Collection<IClientContext> contexts = mgr.getClientContextsFor(product);
+		assertTrue(contexts.contains(stable));
+		assertFalse(mgr.getClientContextsFor(order).contains(stable));
+
+		// the selection of the product class is remembered
+		assertSame(contexts, mgr.getClientContextsFor(product2));
+		assertEquals(count + 2, StableTestSelector.selectCount);
+	}
+
+	public void test_getClientContextsFor_stableSelector_javaClass() {
+		IClientContext stable = mgr.getClientContext(TEST_CLIENT + ".stable"); //$NON-NLS-1$
+
+		// a dynamic product is not an instance of the generated Product interface
+		EObject dynamicProduct = new DynamicEObjectImpl(OrderSystemPackage.eINSTANCE.getProduct());
+
+		assertTrue(mgr.getClientContextsFor(product).contains(stable));
+		assertFalse(mgr.getClientContextsFor(dynamicProduct).contains(stable));
+		assertTrue(mgr.getClientContextsFor(product).contains(stable));
+	}
+
+	public void test_xmlExpressionSelector_stability() throws Exception {
+		ConstraintDescriptorTest.FixtureElement typeTest = ConstraintDescriptorTest.FixtureElement
+				.build("enablement", new String[0][]); //$NON-NLS-1$
+		typeTest.addChild(ConstraintDescriptorTest.FixtureElement.build("or", new String[0][]) //$NON-NLS-1$
+				.addChild(ConstraintDescriptorTest.FixtureElement.build("instanceof", //$NON-NLS-1$
+						new String[][] { { "value", Product.class.getName() } })) //$NON-NLS-1$
+				.addChild(ConstraintDescriptorTest.FixtureElement.build("not", new String[0][]) //$NON-NLS-1$
+						.addChild(ConstraintDescriptorTest.FixtureElement.build("instanceof", //$NON-NLS-1$
+								new String[][] { { "value", Order.class.getName() } })))); //$NON-NLS-1$
+
+		assertSame(IStableClientSelector.Stability.ECLASS, new XmlExpressionSelector(typeTest).getStability());
+
+		ConstraintDescriptorTest.FixtureElement propertyTest = ConstraintDescriptorTest.FixtureElement
+				.build("enablement", new String[0][]); //$NON-NLS-1$
+		propertyTest.addChild(ConstraintDescriptorTest.FixtureElement.build("and", new String[0][]) //$NON-NLS-1$
+				.addChild(ConstraintDescriptorTest.FixtureElement.build("instanceof", //$NON-NLS-1$
+						new String[][] { { "value", Product.class.getName() } })) //$NON-NLS-1$
+				.addChild(ConstraintDescriptorTest.FixtureElement.build("test", //$NON-NLS-1$
+						new String[][] { { "property", //$NON-NLS-1$
+								"org.eclipse.emf.validation.tests.runningTests" } }))); //$NON-NLS-1$
+
+		assertNull(new XmlExpressionSelector(propertyTest).getStability());
+	}
+
 	public void test_getBindings_eobject() {
 		IModelConstraint constraint = new TestConstraint();
 		Collection<IModelConstraint> constraints = Collections.singleton(constraint);
@@ -157,6 +219,23 @@ public class ClientContextManagerTest extends TestCase {
 		assertFalse(mgr.getBindings(Arrays.asList(ctx2, ctx2), constraints).contains(constraint));
 	}
 
+	public void test_getBindings_bindingsChanged() {
+		IModelConstraint constraint = new TestConstraint();
+		Collection<IModelConstraint> constraints = Collections.singleton(constraint);
+
+		assertTrue(mgr.getBindings(ctx, constraints).contains(constraint));
+
+		// the bindings already computed for the context are recomputed
+		((ClientContext) ctx).excludeConstraint(TEST_CONSTRAINT);
+		try {
+			assertFalse(mgr.getBindings(ctx, constraints).contains(constraint));
+		} finally {
+			((ClientContext) ctx).includeConstraint(TEST_CONSTRAINT);
+		}
+
+		assertTrue(mgr.getBindings(ctx, constraints).contains(constraint));
+	}
+
 	public void test_defaultBindings_context() {
 		final ConstraintDescriptorTest.FixtureElement defaultElement = ConstraintDescriptorTest.FixtureElement.build(
 				"constraint", //$NON-NLS-1$
@@ -273,6 +352,21 @@ public class ClientContextManagerTest extends TestCase {
 		}
 	}
 
+	public static final class StableTestSelector implements IStableClientSelector {
+		static int selectCount;
+
+		@Override
+		public boolean selects(Object object) {
+			selectCount++;
+			return object instanceof Product;
+		}
+
+		@Override
+		public Stability getStability() {
+			return Stability.ECLASS;
+		}
+	}
+
 	private static final class TestConstraint implements IModelConstraint {
 		@Override
 		public IStatus validate(IValidationContext c) {
@@ -20,8 +20,10 @@ import org.eclipse.emf.validation.internal.service.BatchValidator;
 import org.eclipse.emf.validation.internal.service.IProviderOperation;
 import org.eclipse.emf.validation.internal.service.IProviderOperationExecutor;
 import org.eclipse.emf.validation.model.EvaluationMode;
+import org.eclipse.emf.validation.service.ITraversalStrategy;
 
 import junit.framework.TestCase;
+import ordersystem.Order;
 import ordersystem.OrderSystemFactory;
 
 /**
@@ -151,6 +153,31 @@ public class BatchValidatorTest extends TestCase {
 				monitor.getTotalWork(), monitor.getWorked(), 0.1);
 	}
 
+	/*
+	 * Tests the progress estimate of the single-pass recursive traversal strategy.
+	 */
+	public void test_validate_streamingTraversal() {
+		TestMonitor monitor = new TestMonitor();
+
+		Order order = OrderSystemFactory.eINSTANCE.createOrder();
+		for (int i = 0; i < 10; i++) {
+			order.getItem().add(OrderSystemFactory.eINSTANCE.createLineItem());
+		}
+
+		getValidator().setTraversalStrategy(new ITraversalStrategy.Streaming());
+
+		try {
+			getValidator().validate(order, monitor);
+		} catch (Exception e) {
+			fail("Should not throw."); //$NON-NLS-1$
+		}
+
+		assertTrue("Monitor not done", monitor.isDone()); //$NON-NLS-1$
+		assertTrue("Monitor has zero total work", monitor.getTotalWork() > 0); //$NON-NLS-1$
+		assertEquals("Monitor did not work total", //$NON-NLS-1$
+				monitor.getTotalWork(), monitor.getWorked(), 0.1);
+	}
+
 	static class TestMonitor implements IProgressMonitor {
 		private int totalWork;
 		private double worked;
@@ -1,5 +1,5 @@
 /**
- * Copyright (c) 2004, 2007 IBM Corporation and others.
+ * Copyright (c) 2004, 2026 IBM Corporation and others.
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
  * which is available at https://www.eclipse.org/legal/epl-2.0/
@@ -12,6 +12,8 @@
 package org.eclipse.emf.validation.internal.service.impl.tests;
 
 import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
 
 import org.eclipse.emf.common.notify.Notification;
 import org.eclipse.emf.ecore.EObject;
@@ -19,11 +21,13 @@ import org.eclipse.emf.validation.internal.service.ConstraintCache;
 import org.eclipse.emf.validation.internal.service.IProviderDescriptor;
 import org.eclipse.emf.validation.internal.service.IProviderOperation;
 import org.eclipse.emf.validation.model.IModelConstraint;
+import org.eclipse.emf.validation.service.ConstraintCacheStatistics;
 import org.eclipse.emf.validation.service.IModelConstraintProvider;
 import org.eclipse.emf.validation.tests.TestNotification;
 
 import junit.framework.TestCase;
 import ordersystem.OrderSystemFactory;
+import ordersystem.OrderSystemPackage;
 
 /**
  * Tests for {@link ConstraintCache}.
@@ -53,6 +57,10 @@ public class ConstraintCacheTest extends TestCase {
 	protected void setUp() throws Exception {
 		super.setUp();
 
+		// the hit counts of a test must not depend on the other tests
+		batchHits = 0;
+		liveHits = 0;
+
 		provider = new TestDescriptor();
 
 		fixture = new ConstraintCache();
@@ -123,6 +131,137 @@ public class ConstraintCacheTest extends TestCase {
 		assertEquals("Source provider hit again.", 1, liveHits);//$NON-NLS-1$
 	}
 
+	public void test_getLiveConstraints_byFeature() {
+		int hits = liveHits;
+
+		// a feature change and a change not about any feature are cached apart
+		getFixture().getLiveConstraints(new TestNotification(OrderSystemFactory.eINSTANCE.createProduct(),
+				Notification.SET, OrderSystemPackage.PRODUCT__SKU, null, "1"), null); //$NON-NLS-1$
+		assertEquals("Source provider not hit.", hits + 1, liveHits);//$NON-NLS-1$
+
+		getFixture().getLiveConstraints(
+				new TestNotification(OrderSystemFactory.eINSTANCE.createProduct(), Notification.SET), null);
+		assertEquals("Source provider not hit for no feature.", hits + 2, liveHits);//$NON-NLS-1$
+
+		// as are different event types for the same feature
+		getFixture().getLiveConstraints(new TestNotification(OrderSystemFactory.eINSTANCE.createProduct(),
+				Notification.UNSET, OrderSystemPackage.PRODUCT__SKU, "1", null), null); //$NON-NLS-1$
+		assertEquals("Source provider not hit for other event.", hits + 3, liveHits);//$NON-NLS-1$
+
+		// hit the cache again, and check that it did not miss
+		Collection<IModelConstraint> c = getFixture().getLiveConstraints(new TestNotification(
+				OrderSystemFactory.eINSTANCE.createProduct(), Notification.SET, OrderSystemPackage.PRODUCT__SKU,
+				null, "2"), null); //$NON-NLS-1$
+
+		assertEquals("Wrong number of constraints on second pass.", 1, c.size());//$NON-NLS-1$
+		assertEquals("Source provider hit again.", hits + 3, liveHits);//$NON-NLS-1$
+	}
+
+	public void test_invalidate() {
+		int hits = batchHits;
+
+		getFixture().getBatchConstraints(OrderSystemFactory.eINSTANCE.createProduct(), null);
+		assertEquals("Source provider not hit.", hits + 1, batchHits);//$NON-NLS-1$
+
+		getFixture().invalidate();
+
+		// the bucket of the earlier epoch is rebuilt on demand
+		Collection<IModelConstraint> c = getFixture().getBatchConstraints(
+				OrderSystemFactory.eINSTANCE.createProduct(), null);
+		assertEquals("Wrong number of constraints.", 1, c.size());//$NON-NLS-1$
+		assertEquals("Source provider not hit again.", hits + 2, batchHits);//$NON-NLS-1$
+	}
+
+	public void test_addProvider_invalidates() {
+		getFixture().getBatchConstraints(OrderSystemFactory.eINSTANCE.createProduct(), null);
+
+		getFixture().addProvider(new TestDescriptor());
+
+		// the constraints of the new provider are not hidden by the cache
+		Collection<IModelConstraint> c = getFixture().getBatchConstraints(
+				OrderSystemFactory.eINSTANCE.createProduct(), null);
+		assertEquals("Wrong number of constraints.", 2, c.size());//$NON-NLS-1$
+	}
+
+	public void test_getStatistics() {
+		getFixture().getBatchConstraints(OrderSystemFactory.eINSTANCE.createProduct(), null);
+		getFixture().getBatchConstraints(OrderSystemFactory.eINSTANCE.createProduct(), null);
+		getFixture().getLiveConstraints(
+				new TestNotification(OrderSystemFactory.eINSTANCE.createOrder(), Notification.SET), null);
+
+		ConstraintCacheStatistics stats = getFixture().getStatistics();
+
+		assertEquals("Wrong batch hits.", 1L, stats.getBatchHits()); //$NON-NLS-1$
+		assertEquals("Wrong batch misses.", 1L, stats.getBatchMisses()); //$NON-NLS-1$
+		assertEquals("Wrong live hits.", 0L, stats.getLiveHits()); //$NON-NLS-1$
+		assertEquals("Wrong live misses.", 1L, stats.getLiveMisses()); //$NON-NLS-1$
+		assertEquals("Wrong bucket count.", 2, stats.getBucketCount()); //$NON-NLS-1$
+		assertEquals("Wrong reference count.", 2L, stats.getConstraintReferenceCount()); //$NON-NLS-1$
+		assertEquals("Wrong class statistics.", 1L, //$NON-NLS-1$
+				stats.getClassStatistics().get(OrderSystemPackage.eINSTANCE.getProduct()).getBatchHits());
+
+		// the counters are reset, but the sizes are not
+		getFixture().resetStatistics();
+		stats = getFixture().getStatistics();
+
+		assertEquals("Batch hits not reset.", 0L, stats.getBatchHits()); //$NON-NLS-1$
+		assertEquals("Wrong reference count after reset.", 2L, stats.getConstraintReferenceCount()); //$NON-NLS-1$
+	}
+
+	public void test_getTotals_invalidate() {
+		getFixture().getBatchConstraints(OrderSystemFactory.eINSTANCE.createProduct(), null);
+		getFixture().resetStatistics();
+
+		// the replaced bucket withdraws its references, but not its lookups
+		getFixture().invalidate();
+		getFixture().getBatchConstraints(OrderSystemFactory.eINSTANCE.createProduct(), null);
+		getFixture().getBatchConstraints(OrderSystemFactory.eINSTANCE.createProduct(), null);
+
+		ConstraintCacheStatistics.ClassStatistics totals = getFixture().getTotals();
+
+		assertEquals("Wrong batch hits.", 1L, totals.getBatchHits()); //$NON-NLS-1$
+		assertEquals("Wrong batch misses.", 1L, totals.getBatchMisses()); //$NON-NLS-1$
+		assertEquals("Wrong reference count.", 1L, totals.getConstraintReferenceCount()); //$NON-NLS-1$
+		assertEquals("Wrong bucket count.", 1, getFixture().getBucketCount()); //$NON-NLS-1$
+		assertEquals("Wrong evicted bucket count.", 0L, getFixture().getEvictedBucketCount()); //$NON-NLS-1$
+	}
+
+	public void test_getBatchConstraints_concurrent() throws Exception {
+		final int hits = batchHits;
+		final CountDownLatch start = new CountDownLatch(1);
+		final List<Object> results = java.util.Collections.synchronizedList(new java.util.ArrayList<>());
+
+		Thread[] threads = new Thread[8];
+		for (int i = 0; i < threads.length; i++) {
+			threads[i] = new Thread() {
+				@Override
+				public void run() {
+					try {
+						start.await();
+						results.add(getFixture().getBatchConstraints(OrderSystemFactory.eINSTANCE.createOrder(), null));
+					} catch (Throwable e) {
+						results.add(e);
+					}
+				}
+			};
+			threads[i].start();
+		}
+
+		start.countDown();
+		for (Thread next : threads) {
+			next.join();
+		}
+
+		assertEquals("Wrong number of results.", threads.length, results.size());//$NON-NLS-1$
+		for (Object next : results) {
+			assertTrue("Lookup failed: " + next, next instanceof Collection<?>);//$NON-NLS-1$
+			assertEquals("Wrong number of constraints.", 1, ((Collection<?>) next).size());//$NON-NLS-1$
+		}
+
+		// the concurrent misses retrieved the constraints only once
+		assertEquals("Source provider not hit exactly once.", hits + 1, batchHits);//$NON-NLS-1$
+	}
+
 	static class TestDescriptor implements IProviderDescriptor {
 		private final IModelConstraintProvider testProvider = new TestProvider();
 
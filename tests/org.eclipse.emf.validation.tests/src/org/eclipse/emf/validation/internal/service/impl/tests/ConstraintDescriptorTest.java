@@ -1,5 +1,5 @@
 /**
- * Copyright (c) 2003, 2007 IBM Corporation and others.
+ * Copyright (c) 2003, 2026 IBM Corporation and others.
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
  * which is available at https://www.eclipse.org/legal/epl-2.0/
@@ -15,6 +15,11 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IConfigurationElement;
@@ -25,6 +30,11 @@ import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.InvalidRegistryObjectException;
 import org.eclipse.core.runtime.Status;
 import org.eclipse.emf.common.notify.Notification;
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EPackage;
+import org.eclipse.emf.ecore.EcoreFactory;
+import org.eclipse.emf.ecore.util.EcoreUtil;
 import org.eclipse.emf.validation.EMFEventType;
 import org.eclipse.emf.validation.internal.util.XmlConstraintDescriptor;
 import org.eclipse.emf.validation.model.Category;
@@ -38,6 +48,7 @@ import org.eclipse.emf.validation.util.XmlConfig;
 
 import junit.framework.TestCase;
 import ordersystem.OrderSystemFactory;
+import ordersystem.OrderSystemPackage;
 
 /**
  * JUnit tests for the {@link XmlConstraintDescriptor} class.
@@ -468,6 +479,73 @@ public class ConstraintDescriptorTest extends TestCase {
 				EMFEventType.getInstance(TEST_EVENT).toNotificationType())));
 	}
 
+	/**
+	 * Tests that concurrent validation operations can query the target types of a
+	 * constraint, lazily computing the applicability of types that it does not
+	 * declare.
+	 */
+	public void test_targetsTypeOf_concurrent() throws Exception {
+		final int classCount = 200;
+		final int threadCount = 4;
+
+		EPackage ePackage = EcoreFactory.eINSTANCE.createEPackage();
+		ePackage.setName(getName());
+		ePackage.setNsURI("http:///" + getName() + ".ecore"); //$NON-NLS-1$ //$NON-NLS-2$
+
+		// odd classes specialize the target type; even classes don't
+		final List<EObject> objects = new java.util.ArrayList<>();
+		for (int i = 0; i < classCount; i++) {
+			EClass eClass = EcoreFactory.eINSTANCE.createEClass();
+			eClass.setName("Class" + i); //$NON-NLS-1$
+			if ((i % 2) != 0) {
+				eClass.getESuperTypes().add(OrderSystemPackage.eINSTANCE.getWarehouse());
+			}
+			ePackage.getEClassifiers().add(eClass);
+			objects.add(EcoreUtil.create(eClass));
+		}
+
+		FixtureElement config = newFixtureConfig();
+		config.putAttribute(XmlConfig.A_ID, TEST_ID + '.' + getName());
+		final XmlConstraintDescriptor descriptor = new XmlConstraintDescriptor(config);
+
+		ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+
+		try {
+			descriptor.resolveTargetTypes(new String[] { TEST_NAMESPACE_URI });
+
+			final CountDownLatch start = new CountDownLatch(1);
+			List<Future<?>> futures = new java.util.ArrayList<>();
+
+			for (int t = 0; t < threadCount; t++) {
+				final int offset = t * classCount / threadCount;
+
+				futures.add(executor.submit(new Callable<Void>() {
+					@Override
+					public Void call() throws Exception {
+						start.await();
+
+						// every thread queries all classes, from a different start
+						for (int i = 0; i < classCount; i++) {
+							int index = (offset + i) % classCount;
+							assertEquals((index % 2) != 0, descriptor.targetsTypeOf(objects.get(index)));
+						}
+
+						return null;
+					}
+				}));
+			}
+
+			start.countDown();
+
+			for (Future<?> next : futures) {
+				next.get(); // re-throws any assertion failure or exception
+			}
+		} finally {
+			executor.shutdown();
+			ConstraintRegistry.getInstance().unregister(descriptor);
+		}
+	}
+
 	public void test_getMessagePattern() {
 		assertEquals(TEST_MESSAGE, getFixture().getMessagePattern());
 	}
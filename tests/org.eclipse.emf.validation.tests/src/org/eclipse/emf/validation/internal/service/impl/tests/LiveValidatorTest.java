@@ -1,5 +1,5 @@
 /**
- * Copyright (c) 2004, 2007 IBM Corporation and others.
+ * Copyright (c) 2004, 2026 IBM Corporation and others.
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
  * which is available at https://www.eclipse.org/legal/epl-2.0/
@@ -11,26 +11,42 @@
  */
 package org.eclipse.emf.validation.internal.service.impl.tests;
 
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.emf.common.notify.Notification;
 import org.eclipse.emf.common.notify.impl.AdapterImpl;
+import org.eclipse.emf.ecore.EAttribute;
+import org.eclipse.emf.ecore.EClass;
 import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EPackage;
+import org.eclipse.emf.ecore.EcoreFactory;
+import org.eclipse.emf.ecore.EcorePackage;
 import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.util.EcoreUtil;
 import org.eclipse.emf.ecore.xmi.impl.XMIResourceImpl;
 import org.eclipse.emf.ecore.xmi.impl.XMLResourceImpl;
 import org.eclipse.emf.validation.AbstractModelConstraint;
 import org.eclipse.emf.validation.EMFEventType;
 import org.eclipse.emf.validation.IValidationContext;
+import org.eclipse.emf.validation.internal.service.GetLiveConstraintsOperation;
+import org.eclipse.emf.validation.internal.service.IProviderOperation;
 import org.eclipse.emf.validation.internal.service.LiveValidator;
+import org.eclipse.emf.validation.internal.util.XmlConstraintDescriptor;
 import org.eclipse.emf.validation.model.EvaluationMode;
+import org.eclipse.emf.validation.service.ConstraintRegistry;
 import org.eclipse.emf.validation.service.ILiveValidator;
+import org.eclipse.emf.validation.service.INotificationGenerator;
+import org.eclipse.emf.validation.service.ISelectiveNotificationGenerator;
 import org.eclipse.emf.validation.service.ModelValidationService;
 import org.eclipse.emf.validation.tests.TestBase;
 import org.eclipse.emf.validation.tests.TestNotification;
 import org.eclipse.emf.validation.util.FilteredCollection;
+import org.eclipse.emf.validation.util.XmlConfig;
 
 import ordersystem.Customer;
 import ordersystem.LineItem;
@@ -494,6 +510,78 @@ public class LiveValidatorTest extends TestBase {
 		assertEquals(Integer.valueOf(3), NotificationMergingTestConstraint.instance.getFeatureNewValue());
 	}
 
+	public void test_mergeNotifications_interleaved() {
+		OrderSystem os = createOrderSystem();
+		NotificationGatherer ng = new NotificationGatherer();
+		os.eAdapters().add(ng);
+
+		// make sure that we can detect whether the constraint has been called
+		if (NotificationMergingTestConstraint.instance != null) {
+			NotificationMergingTestConstraint.instance.clear();
+		}
+
+		// interleave changes to two features
+		os.getCustomer().add(OrderSystemFactory.eINSTANCE.createCustomer());
+		os.setVersion(1);
+		os.getCustomer().add(OrderSystemFactory.eINSTANCE.createCustomer());
+		os.setVersion(2);
+		os.getCustomer().add(OrderSystemFactory.eINSTANCE.createCustomer());
+
+		// validate the changes, using a real validator
+		ILiveValidator realValidator = ModelValidationService.getInstance().newValidator(EvaluationMode.LIVE);
+		realValidator.validate(ng.getNotifications());
+
+		// check that the constraint was evaluated
+		assertNotNull(NotificationMergingTestConstraint.instance);
+
+		// check that the constraint was invoked once for each feature
+		assertEquals(2, NotificationMergingTestConstraint.instance.getInvocationCount());
+
+		// check that the features are validated in order of their first change
+		assertSame(EMFEventType.SET, NotificationMergingTestConstraint.instance.getEventType());
+		assertEquals(Integer.valueOf(2), NotificationMergingTestConstraint.instance.getFeatureNewValue());
+	}
+
+	public void test_validateAsync() throws Exception {
+		OrderSystem os = createOrderSystem();
+		NotificationGatherer ng = new NotificationGatherer();
+		os.eAdapters().add(ng);
+
+		// make sure that we can detect whether the constraint has been called
+		if (NotificationMergingTestConstraint.instance != null) {
+			NotificationMergingTestConstraint.instance.clear();
+		}
+
+		ILiveValidator realValidator = ModelValidationService.getInstance().newValidator(EvaluationMode.LIVE);
+		realValidator.setOption(ILiveValidator.OPTION_QUIET_PERIOD, 60000L);
+		realValidator.setOption(ILiveValidator.OPTION_MAX_BATCH_SIZE, 3);
+
+		// a burst of changes is validated in one batch, when it is full
+		os.setVersion(1);
+		Future<IStatus> first = realValidator.validateAsync(ng.getNotifications().get(0));
+		os.setVersion(2);
+		Future<IStatus> second = realValidator.validateAsync(ng.getNotifications().get(1));
+		os.setVersion(3);
+		Future<IStatus> third = realValidator.validateAsync(ng.getNotifications().get(2));
+
+		assertSame(first, second);
+		assertSame(first, third);
+		assertNotNull(first.get(10L, TimeUnit.SECONDS));
+
+		// check that the constraint was invoked exactly once, on the merged changes
+		assertNotNull(NotificationMergingTestConstraint.instance);
+		assertEquals(1, NotificationMergingTestConstraint.instance.getInvocationCount());
+		assertEquals(Integer.valueOf(3), NotificationMergingTestConstraint.instance.getFeatureNewValue());
+
+		// a later change is validated in another batch, without delay
+		realValidator.setOption(ILiveValidator.OPTION_QUIET_PERIOD, 0L);
+		os.setVersion(4);
+		Future<IStatus> fourth = realValidator.validateAsync(ng.getNotifications().get(3));
+		assertNotSame(first, fourth);
+		assertNotNull(fourth.get(10L, TimeUnit.SECONDS));
+		assertEquals(2, NotificationMergingTestConstraint.instance.getInvocationCount());
+	}
+
 	public void test_notificationFilterDefault_177653() {
 		EObject object = OrderSystemFactory.eINSTANCE.createOrder(); // Don't add to a resource
 		Notification event = new TestNotification(object, Notification.SET);
@@ -562,6 +650,150 @@ public class LiveValidatorTest extends TestBase {
 				ID_PREFIX + "limitedEdition.hasDates"); //$NON-NLS-1$
 	}
 
+	/**
+	 * Tests that a notification that triggers no live constraint is discarded
+	 * before the constraints are looked up, and that it is validated again once a
+	 * constraint that it triggers is registered or enabled.
+	 */
+	public void test_liveTriggerIndex() throws Exception {
+		final String nsURI = "http:///" + getName() + ".ecore"; //$NON-NLS-1$ //$NON-NLS-2$
+		final EMFEventType eventType = EMFEventType.getInstance("No notification Generator event"); //$NON-NLS-1$
+
+		// a package of its own, so that no provider or constraint of the
+		// ordersystem namespace can be triggered
+		EPackage ePackage = EcoreFactory.eINSTANCE.createEPackage();
+		ePackage.setName(getName());
+		ePackage.setNsURI(nsURI);
+		EClass eClass = EcoreFactory.eINSTANCE.createEClass();
+		eClass.setName("Triggered"); //$NON-NLS-1$
+		EAttribute name = EcoreFactory.eINSTANCE.createEAttribute();
+		name.setName("name"); //$NON-NLS-1$
+		name.setEType(EcorePackage.Literals.ESTRING);
+		eClass.getEStructuralFeatures().add(name);
+		ePackage.getEClassifiers().add(eClass);
+		EPackage.Registry.INSTANCE.put(nsURI, ePackage);
+
+		EObject eObject = EcoreUtil.create(eClass);
+		new XMIResourceImpl().getContents().add(eObject); // must be in a resource
+
+		final List<Notification> lookedUp = new java.util.ArrayList<>();
+		LiveValidator localValidator = new LiveValidator(new BatchValidatorTest.TestExecutor() {
+			@Override
+			public <T> T execute(IProviderOperation<? extends T> op) {
+				if (op instanceof GetLiveConstraintsOperation) {
+					lookedUp.add(((GetLiveConstraintsOperation) op).getNotification());
+				}
+
+				return super.execute(op);
+			}
+		});
+
+		Notification event = new TestNotification(eObject, eventType.toNotificationType(),
+				eClass.getFeatureID(name), null, "a"); //$NON-NLS-1$
+
+		XmlConstraintDescriptor descriptor = null;
+
+		try {
+			localValidator.validate(event);
+			assertTrue("Notification not discarded", lookedUp.isEmpty()); //$NON-NLS-1$
+
+			ConstraintDescriptorTest.FixtureElement config = ConstraintDescriptorTest.FixtureElement.build(
+					XmlConfig.E_CONSTRAINT, "true", new String[][] { //$NON-NLS-1$
+							{ XmlConfig.A_ID, "org.eclipse.emf.validation.tests." + getName() }, //$NON-NLS-1$
+							{ XmlConfig.A_NAME, getName() }, { XmlConfig.A_LANG, "OCL" }, //$NON-NLS-1$
+							{ XmlConfig.A_STATUS_CODE, "1" }, //$NON-NLS-1$
+							{ XmlConfig.A_MODE, EvaluationMode.LIVE.getName() } });
+			config.addChild(
+					ConstraintDescriptorTest.FixtureElement.build(XmlConfig.E_MESSAGE, "Nothing to say.")); //$NON-NLS-1$
+			config.addChild(ConstraintDescriptorTest.FixtureElement
+					.build(XmlConfig.E_TARGET, new String[][] { { XmlConfig.A_CLASS, eClass.getName() } })
+					.addChild(ConstraintDescriptorTest.FixtureElement
+							.build(XmlConfig.E_EVENT, new String[][] { { XmlConfig.A_NAME, eventType.getName() } })
+							.addChild(ConstraintDescriptorTest.FixtureElement.build(XmlConfig.E_FEATURE,
+									new String[][] { { XmlConfig.A_NAME, name.getName() } }))));
+
+			// registering the constraint invalidates the index
+			descriptor = new XmlConstraintDescriptor(config);
+			descriptor.resolveTargetTypes(new String[] { nsURI });
+
+			localValidator.validate(event);
+			assertEquals("Notification not validated after registration", //$NON-NLS-1$
+					Collections.singletonList(event), lookedUp);
+
+			// as do disabling and enabling it
+			lookedUp.clear();
+			descriptor.setEnabled(false);
+			localValidator.validate(event);
+			assertTrue("Notification not discarded after disablement", lookedUp.isEmpty()); //$NON-NLS-1$
+
+			descriptor.setEnabled(true);
+			localValidator.validate(event);
+			assertEquals("Notification not validated after enablement", //$NON-NLS-1$
+					Collections.singletonList(event), lookedUp);
+		} finally {
+			if (descriptor != null) {
+				ConstraintRegistry.getInstance().unregister(descriptor);
+			}
+			EPackage.Registry.INSTANCE.remove(nsURI);
+		}
+	}
+
+	/**
+	 * Tests that selective notification generators are only given the
+	 * notifications that they consume and that, when concurrent generators run in
+	 * parallel on a large number of notifications, the generated notifications
+	 * are still in the order of the generators.
+	 */
+	public void test_generateNotifications_selectiveConcurrent() {
+		Product product = OrderSystemFactory.eINSTANCE.createProduct();
+		List<Notification> notifications = new java.util.ArrayList<>();
+		List<Notification> sets = new java.util.ArrayList<>();
+		List<Notification> unsets = new java.util.ArrayList<>();
+
+		// enough notifications for the generators to run in parallel
+		for (int i = 0; i < 300; i++) {
+			Notification set = new TestNotification(product, Notification.SET);
+			Notification unset = new TestNotification(product, Notification.UNSET);
+			notifications.add(set);
+			notifications.add(unset);
+			notifications.add(new TestNotification(product, Notification.MOVE)); // consumed by none
+			sets.add(set);
+			unsets.add(unset);
+		}
+
+		SelectiveTestGenerator first = new SelectiveTestGenerator(Notification.SET, true);
+		SelectiveTestGenerator second = new SelectiveTestGenerator(Notification.UNSET, true);
+		SelectiveTestGenerator third = new SelectiveTestGenerator(Notification.SET, false);
+		List<SelectiveTestGenerator> generators = java.util.Arrays.asList(first, second, third);
+
+		GeneratingLiveValidator generatingValidator = new GeneratingLiveValidator();
+
+		// the order must not depend on which generator finishes first
+		for (int run = 0; run < 10; run++) {
+			List<Notification> generated = new java.util.ArrayList<>(
+					generatingValidator.generate(generators, notifications));
+
+			// the generators are given only what they consume
+			assertEquals("Wrong notifications consumed", sets, first.getConsumed()); //$NON-NLS-1$
+			assertEquals("Wrong notifications consumed", unsets, second.getConsumed()); //$NON-NLS-1$
+			assertEquals("Wrong notifications consumed", sets, third.getConsumed()); //$NON-NLS-1$
+
+			// the generated notifications are in generator order, followed by the
+			// original notifications
+			assertEquals("Wrong number of notifications", //$NON-NLS-1$
+					sets.size() * 2 + unsets.size() + notifications.size(), generated.size());
+			int index = 0;
+			for (SelectiveTestGenerator next : generators) {
+				for (Notification generatedNotification : next.getGenerated()) {
+					assertSame("Generator order not stable", //$NON-NLS-1$
+							generatedNotification, generated.get(index++));
+				}
+			}
+			assertEquals("Original notifications not appended", notifications, //$NON-NLS-1$
+					generated.subList(index, generated.size()));
+		}
+	}
+
 	private static class NotificationGatherer extends AdapterImpl {
 		private final List<Notification> notifications = new java.util.ArrayList<>();
 
@@ -616,4 +848,67 @@ public class LiveValidatorTest extends TestBase {
 			invocationCount = 0;
 		}
 	}
+
+	/**
+	 * A live validator that exposes the generation of notifications.
+	 */
+	private static class GeneratingLiveValidator extends LiveValidator {
+		GeneratingLiveValidator() {
+			super(new BatchValidatorTest.TestExecutor());
+		}
+
+		Collection<Notification> generate(Collection<? extends INotificationGenerator> generators,
+				Collection<? extends Notification> notifications) {
+			return generateNotifications(generators, notifications);
+		}
+	}
+
+	/**
+	 * A selective notification generator that consumes the notifications of one
+	 * event type and generates a copy of each.
+	 */
+	private static class SelectiveTestGenerator implements ISelectiveNotificationGenerator {
+		private final int eventType;
+		private final boolean concurrent;
+
+		private volatile List<Notification> consumed = Collections.emptyList();
+		private volatile List<Notification> generated = Collections.emptyList();
+
+		SelectiveTestGenerator(int eventType, boolean concurrent) {
+			this.eventType = eventType;
+			this.concurrent = concurrent;
+		}
+
+		@Override
+		public boolean consumes(Notification notification) {
+			return notification.getEventType() == eventType;
+		}
+
+		@Override
+		public boolean isConcurrent() {
+			return concurrent;
+		}
+
+		@Override
+		public Collection<Notification> generateNotifications(Collection<? extends Notification> notifications) {
+			List<Notification> result = new java.util.ArrayList<>(notifications.size());
+
+			for (Notification next : notifications) {
+				result.add(new TestNotification((EObject) next.getNotifier(), eventType));
+			}
+
+			consumed = new java.util.ArrayList<>(notifications);
+			generated = result;
+
+			return result;
+		}
+
+		List<Notification> getConsumed() {
+			return consumed;
+		}
+
+		List<Notification> getGenerated() {
+			return generated;
+		}
+	}
 }
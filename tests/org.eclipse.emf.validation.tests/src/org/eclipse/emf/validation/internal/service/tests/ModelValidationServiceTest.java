@@ -1,5 +1,5 @@
 /**
- * Copyright (c) 2003, 2008 IBM Corporation, Zeligsoft Inc. and others.
+ * Copyright (c) 2003, 2026 IBM Corporation, Zeligsoft Inc. and others.
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
  * which is available at https://www.eclipse.org/legal/epl-2.0/
@@ -17,7 +17,12 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.IStatus;
@@ -25,11 +30,14 @@ import org.eclipse.core.runtime.NullProgressMonitor;
 import org.eclipse.core.runtime.Status;
 import org.eclipse.emf.common.notify.Notification;
 import org.eclipse.emf.common.util.EList;
+import org.eclipse.emf.common.util.URI;
 import org.eclipse.emf.ecore.EClass;
 import org.eclipse.emf.ecore.EObject;
 import org.eclipse.emf.ecore.EPackage;
 import org.eclipse.emf.ecore.EcoreFactory;
 import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
 import org.eclipse.emf.ecore.xmi.impl.XMIResourceImpl;
 import org.eclipse.emf.validation.IValidationContext;
 import org.eclipse.emf.validation.internal.EMFModelValidationStatusCodes;
@@ -41,12 +49,18 @@ import org.eclipse.emf.validation.model.EvaluationMode;
 import org.eclipse.emf.validation.model.IConstraintStatus;
 import org.eclipse.emf.validation.model.IModelConstraint;
 import org.eclipse.emf.validation.model.ModelConstraint;
+import org.eclipse.emf.validation.service.ConstraintCacheStatistics;
+import org.eclipse.emf.validation.service.ConstraintRegistry;
 import org.eclipse.emf.validation.service.IBatchValidator;
 import org.eclipse.emf.validation.service.IConstraintDescriptor;
 import org.eclipse.emf.validation.service.IConstraintFilter;
 import org.eclipse.emf.validation.service.ILiveValidator;
 import org.eclipse.emf.validation.service.ITraversalStrategy;
+import org.eclipse.emf.validation.service.IValidationResultSink;
+import org.eclipse.emf.validation.service.IValidator;
+import org.eclipse.emf.validation.service.IncrementalValidationTracker;
 import org.eclipse.emf.validation.service.ModelValidationService;
+import org.eclipse.emf.validation.service.ValidationScheduler;
 import org.eclipse.emf.validation.tests.CancelConstraint;
 import org.eclipse.emf.validation.tests.MultiConstraint;
 import org.eclipse.emf.validation.tests.SetTargetConstraint;
@@ -143,6 +157,434 @@ public class ModelValidationServiceTest extends TestBase {
 				status, Arrays.asList(new EObject[] { order1, item1, order2, item2, }));
 	}
 
+	/**
+	 * Tests that parallel validation of containment trees produces the same
+	 * results as sequential validation, in the same order within a tree.
+	 */
+	public void test_validateSubtreeBatchParallel() {
+		List<EObject> orders = new java.util.ArrayList<>();
+
+		for (int i = 0; i < 8; i++) {
+			Order order = OrderSystemFactory.eINSTANCE.createOrder();
+
+			for (int j = 0; j < 16; j++) {
+				order.getItem().add(OrderSystemFactory.eINSTANCE.createLineItem());
+			}
+
+			orders.add(order);
+		}
+
+		IBatchValidator validator = ModelValidationService.getInstance().newValidator(EvaluationMode.BATCH);
+		validator.setTraversalStrategy(new ITraversalStrategy.Recursive());
+		validator.setReportSuccesses(true);
+
+		IStatus[] sequential = getStatuses(validator.validate(orders.get(0)));
+
+		validator.setOption(IBatchValidator.OPTION_PARALLELISM, 4);
+		IStatus[] parallel = getStatuses(validator.validate(orders.get(0)));
+
+		assertEquals(sequential.length, parallel.length);
+
+		for (int i = 0; i < sequential.length; i++) {
+			IConstraintStatus expected = (IConstraintStatus) sequential[i];
+			IConstraintStatus actual = (IConstraintStatus) parallel[i];
+
+			assertSame(expected.getTarget(), actual.getTarget());
+			assertEquals(expected.getConstraint().getDescriptor().getId(),
+					actual.getConstraint().getDescriptor().getId());
+		}
+
+		parallel = getStatuses(validator.validate(orders));
+
+		List<EObject> targets = new java.util.ArrayList<>(orders);
+		for (EObject next : orders) {
+			targets.addAll(next.eContents());
+		}
+
+		assertAllTargetsPresent("batch", //$NON-NLS-1$
+				parallel, targets);
+	}
+
+	public void test_validateIncremental() {
+		Order order = OrderSystemFactory.eINSTANCE.createOrder();
+		LineItem changed = null;
+
+		for (int i = 0; i < 4; i++) {
+			changed = OrderSystemFactory.eINSTANCE.createLineItem();
+			order.getItem().add(changed);
+		}
+
+		IncrementalValidationTracker tracker = new IncrementalValidationTracker();
+		tracker.track(order);
+
+		IBatchValidator validator = ModelValidationService.getInstance().newValidator(EvaluationMode.BATCH);
+		validator.setTraversalStrategy(new ITraversalStrategy.Recursive());
+		validator.setReportSuccesses(true);
+		validator.setOption(IBatchValidator.OPTION_INCREMENTAL_TRACKER, tracker);
+
+		IStatus[] first = getStatuses(validator.validate(order));
+
+		// nothing changed, so all results are retained
+		IStatus[] second = getStatuses(validator.validate(order));
+
+		assertEquals(first.length, second.length);
+		for (int i = 0; i < first.length; i++) {
+			assertSame(first[i], second[i]);
+		}
+
+		changed.setQuantity(42);
+		assertTrue(tracker.isDirty(changed));
+
+		// only the changed element and its container are validated again
+		IStatus[] third = getStatuses(validator.validate(order));
+
+		assertFalse(tracker.isDirty(changed));
+		assertEquals(first.length, third.length);
+		for (int i = 0; i < first.length; i++) {
+			EObject target = ((IConstraintStatus) first[i]).getTarget();
+
+			if ((target == changed) || (target == order)) {
+				assertNotSame(first[i], third[i]);
+			} else {
+				assertSame(first[i], third[i]);
+			}
+		}
+
+		tracker.untrack(order);
+	}
+
+	/**
+	 * Tests that the container of a changed element remains dirty when only the
+	 * changed element is validated, until the container is validated, too.
+	 */
+	public void test_validateIncremental_subtree() {
+		Order order = OrderSystemFactory.eINSTANCE.createOrder();
+		LineItem changed = null;
+
+		for (int i = 0; i < 4; i++) {
+			changed = OrderSystemFactory.eINSTANCE.createLineItem();
+			order.getItem().add(changed);
+		}
+
+		IncrementalValidationTracker tracker = new IncrementalValidationTracker();
+		tracker.track(order);
+
+		IBatchValidator validator = ModelValidationService.getInstance().newValidator(EvaluationMode.BATCH);
+		validator.setTraversalStrategy(new ITraversalStrategy.Recursive());
+		validator.setReportSuccesses(true);
+		validator.setOption(IBatchValidator.OPTION_INCREMENTAL_TRACKER, tracker);
+
+		IStatus[] first = getStatuses(validator.validate(order));
+
+		changed.setQuantity(42);
+
+		// validate only the changed element
+		validator.validate(changed);
+
+		assertFalse(tracker.isDirty(changed));
+		assertTrue(tracker.isDirty(order));
+
+		// the container is still validated again
+		IStatus[] second = getStatuses(validator.validate(order));
+
+		assertFalse(tracker.isDirty(order));
+		assertEquals(first.length, second.length);
+		for (int i = 0; i < first.length; i++) {
+			EObject target = ((IConstraintStatus) first[i]).getTarget();
+
+			if (target == order) {
+				assertNotSame(first[i], second[i]);
+			} else if (target != changed) {
+				assertSame(first[i], second[i]);
+			}
+		}
+
+		tracker.untrack(order);
+	}
+
+	public void test_validateBatchResultSink() {
+		Order order = OrderSystemFactory.eINSTANCE.createOrder();
+		for (int i = 0; i < 4; i++) {
+			order.getItem().add(OrderSystemFactory.eINSTANCE.createLineItem());
+		}
+
+		IBatchValidator validator = ModelValidationService.getInstance().newValidator(EvaluationMode.BATCH);
+		validator.setTraversalStrategy(new ITraversalStrategy.Recursive());
+		validator.setReportSuccesses(true);
+
+		IStatus expected = validator.validate(order);
+
+		final List<IStatus> received = new java.util.ArrayList<>();
+		validator.setOption(IBatchValidator.OPTION_RESULT_SINK, new IValidationResultSink() {
+			@Override
+			public void accept(IStatus result) {
+				received.add(result);
+			}
+		});
+
+		IStatus summary = validator.validate(order);
+
+		int count = 0;
+		for (IStatus next : received) {
+			count += getStatuses(next).length;
+		}
+
+		assertEquals(getStatuses(expected).length, count);
+		assertEquals(expected.getSeverity(), summary.getSeverity());
+		assertEquals(0, summary.getChildren().length);
+	}
+
+	public void test_validateBatchMaxProblems() {
+		List<EObject> orders = new java.util.ArrayList<>();
+		for (int i = 0; i < 4; i++) {
+			orders.add(OrderSystemFactory.eINSTANCE.createOrder());
+		}
+
+		IBatchValidator validator = ModelValidationService.getInstance().newValidator(EvaluationMode.BATCH);
+		validator.setTraversalStrategy(new ITraversalStrategy.Recursive());
+
+		IStatus all = validator.validate(orders);
+		assertTrue(all.getChildren().length > 1);
+
+		validator.setOption(IBatchValidator.OPTION_MAX_PROBLEMS, 1);
+		IStatus truncated = validator.validate(orders);
+
+		// the one problem and the truncation
+		IStatus[] children = truncated.getChildren();
+		assertEquals(2, children.length);
+		assertFalse(children[0].isOK());
+		assertEquals(EMFModelValidationStatusCodes.VALIDATION_TRUNCATED, children[1].getCode());
+	}
+
+	/**
+	 * Tests that the results are not truncated when exactly the maximal number of
+	 * problems is found.
+	 */
+	public void test_validateBatchMaxProblems_exact() {
+		List<EObject> orders = new java.util.ArrayList<>();
+		for (int i = 0; i < 4; i++) {
+			orders.add(OrderSystemFactory.eINSTANCE.createOrder());
+		}
+
+		IBatchValidator validator = ModelValidationService.getInstance().newValidator(EvaluationMode.BATCH);
+		validator.setTraversalStrategy(new ITraversalStrategy.Recursive());
+
+		IStatus all = validator.validate(orders);
+		int problems = 0;
+		for (IStatus next : all.getChildren()) {
+			if (!next.isOK()) {
+				problems++;
+			}
+		}
+		assertTrue(problems > 1);
+
+		validator.setOption(IBatchValidator.OPTION_MAX_PROBLEMS, problems);
+		IStatus exact = validator.validate(orders);
+
+		// all of the problems and no truncation
+		IStatus[] children = exact.getChildren();
+		assertEquals(all.getChildren().length, children.length);
+		for (IStatus next : children) {
+			assertFalse(EMFModelValidationStatusCodes.VALIDATION_TRUNCATED == next.getCode());
+		}
+	}
+
+	public void test_validateResourceSet() {
+		ResourceSet resourceSet = new ResourceSetImpl();
+		List<Order> orders = new java.util.ArrayList<>();
+
+		for (int i = 0; i < 3; i++) {
+			Resource res = new XMIResourceImpl(URI.createURI("test" + i + ".xmi")); //$NON-NLS-1$ //$NON-NLS-2$
+			Order order = OrderSystemFactory.eINSTANCE.createOrder();
+			res.getContents().add(order);
+			resourceSet.getResources().add(res);
+			orders.add(order);
+		}
+
+		IBatchValidator validator = ModelValidationService.getInstance().newValidator(EvaluationMode.BATCH);
+		validator.setTraversalStrategy(new ITraversalStrategy.Recursive());
+		validator.setOption(IBatchValidator.OPTION_PARALLELISM, 2);
+
+		Map<Resource, IStatus> results = validator.validate(resourceSet, null);
+
+		// the results are grouped by resource, in order
+		assertEquals(resourceSet.getResources(), new java.util.ArrayList<>(results.keySet()));
+
+		for (Order next : orders) {
+			IStatus[] status = getStatuses(results.get(next.eResource()));
+
+			assertConstraintAndTargetPresent("batch", //$NON-NLS-1$
+					status, ID_PREFIX + "order.hasContents", next); //$NON-NLS-1$
+
+			for (Order other : orders) {
+				if (other != next) {
+					assertConstraintAndTargetNotPresent("batch", //$NON-NLS-1$
+							status, ID_PREFIX + "order.hasContents", other); //$NON-NLS-1$
+				}
+			}
+		}
+	}
+
+	public void test_validationScheduler() throws Exception {
+		Resource res = new XMIResourceImpl();
+		Order order = OrderSystemFactory.eINSTANCE.createOrder();
+		res.getContents().add(order);
+
+		ValidationScheduler scheduler = new ValidationScheduler(1);
+
+		try {
+			Future<IStatus> future = scheduler.schedule(res, ValidationScheduler.PRIORITY_NORMAL);
+
+			// repeated requests for the same resource are coalesced
+			assertSame(future, scheduler.schedule(res, ValidationScheduler.PRIORITY_HIGH));
+
+			IStatus[] status = getStatuses(future.get(30L, TimeUnit.SECONDS));
+			assertConstraintAndTargetPresent("batch", //$NON-NLS-1$
+					status, ID_PREFIX + "order.hasContents", order); //$NON-NLS-1$
+		} finally {
+			scheduler.shutdown();
+		}
+	}
+
+	public void test_validationScheduler_superseded() throws Exception {
+		Resource res = new XMIResourceImpl();
+		Order order = OrderSystemFactory.eINSTANCE.createOrder();
+		res.getContents().add(order);
+
+		final CountDownLatch started = new CountDownLatch(1);
+		final CountDownLatch release = new CountDownLatch(1);
+
+		// the first run waits until it has been superseded
+		ITraversalStrategy traversal = new ITraversalStrategy() {
+			private final AtomicInteger runs = new AtomicInteger();
+			private ITraversalStrategy delegate;
+
+			@Override
+			public void startTraversal(Collection<? extends EObject> traversalRoots, IProgressMonitor monitor) {
+				if (runs.getAndIncrement() == 0) {
+					started.countDown();
+
+					try {
+						release.await(30L, TimeUnit.SECONDS);
+					} catch (InterruptedException e) {
+						Thread.currentThread().interrupt();
+					}
+				}
+
+				delegate = new ITraversalStrategy.Recursive();
+				delegate.startTraversal(traversalRoots, monitor);
+			}
+
+			@Override
+			public boolean hasNext() {
+				return delegate.hasNext();
+			}
+
+			@Override
+			public EObject next() {
+				return delegate.next();
+			}
+
+			@Override
+			public boolean isClientContextChanged() {
+				return delegate.isClientContextChanged();
+			}
+
+			@Override
+			public void elementValidated(EObject element, IStatus status) {
+				delegate.elementValidated(element, status);
+			}
+		};
+
+		ValidationScheduler scheduler = new ValidationScheduler(1, Collections
+				.<IValidator.Option<?>, Object>singletonMap(IBatchValidator.OPTION_TRAVERSAL_STRATEGY, traversal));
+
+		try {
+			Future<IStatus> future = scheduler.schedule(res, ValidationScheduler.PRIORITY_NORMAL);
+			assertTrue("Validation not started", started.await(30L, TimeUnit.SECONDS)); //$NON-NLS-1$
+
+			// change the resource while it is validated, which supersedes the run
+			Order other = OrderSystemFactory.eINSTANCE.createOrder();
+			res.getContents().add(other);
+			assertSame(future, scheduler.schedule(res, ValidationScheduler.PRIORITY_NORMAL));
+			release.countDown();
+
+			// the requesters receive the result of the superseding run
+			IStatus[] status = getStatuses(future.get(30L, TimeUnit.SECONDS));
+			assertConstraintAndTargetPresent("batch", //$NON-NLS-1$
+					status, ID_PREFIX + "order.hasContents", other); //$NON-NLS-1$
+			assertEquals(2, getStatuses(status, ID_PREFIX + "order.hasContents").length); //$NON-NLS-1$
+		} finally {
+			release.countDown();
+			scheduler.shutdown();
+		}
+	}
+
+	public void test_validateBatchDispatchPlan() {
+		List<EObject> orders = new java.util.ArrayList<>();
+		orders.add(OrderSystemFactory.eINSTANCE.createOrder());
+		orders.add(OrderSystemFactory.eINSTANCE.createOrder());
+
+		// the second order is validated according to the plan of the first
+		IStatus[] status = getStatuses(batchValidator.validate(orders));
+		assertEquals(2, getStatuses(status, ID_PREFIX + "order.hasContents").length); //$NON-NLS-1$
+
+		IConstraintDescriptor desc = ConstraintRegistry.getInstance()
+				.getDescriptor(ID_PREFIX + "order.hasContents"); //$NON-NLS-1$
+
+		// disabling the constraint must invalidate the plan
+		desc.setEnabled(false);
+		try {
+			status = getStatuses(batchValidator.validate(orders));
+			assertEquals(0, getStatuses(status, ID_PREFIX + "order.hasContents").length); //$NON-NLS-1$
+			assertEquals(2, getStatuses(status, ID_PREFIX + "order.notFilledBeforePlacement").length); //$NON-NLS-1$
+		} finally {
+			desc.setEnabled(true);
+		}
+
+		status = getStatuses(batchValidator.validate(orders));
+		assertEquals(2, getStatuses(status, ID_PREFIX + "order.hasContents").length); //$NON-NLS-1$
+	}
+
+	public void test_warmUp() throws Exception {
+		ModelValidationService service = ModelValidationService.getInstance();
+		EClass orderClass = OrderSystemPackage.eINSTANCE.getOrder();
+
+		// without the warm-up, the first validation misses the cache
+		invalidateConstraintCache();
+		service.resetConstraintCacheStatistics();
+		IStatus[] status = getStatuses(batchValidator.validate(OrderSystemFactory.eINSTANCE.createOrder()));
+		assertEquals(1, getStatuses(status, ID_PREFIX + "order.hasContents").length); //$NON-NLS-1$
+
+		ConstraintCacheStatistics.ClassStatistics stats = service.getConstraintCacheStatistics().getClassStatistics()
+				.get(orderClass);
+		assertNotNull(stats);
+		assertTrue("No cache misses without warm-up", stats.getBatchMisses() > 0L); //$NON-NLS-1$
+
+		// the warm-up fills the cache for the classes of the package
+		invalidateConstraintCache();
+		service.warmUp(Collections.singleton(OrderSystemPackage.eINSTANCE));
+		service.resetConstraintCacheStatistics();
+		status = getStatuses(batchValidator.validate(OrderSystemFactory.eINSTANCE.createOrder()));
+		assertEquals(1, getStatuses(status, ID_PREFIX + "order.hasContents").length); //$NON-NLS-1$
+
+		stats = service.getConstraintCacheStatistics().getClassStatistics().get(orderClass);
+		assertNotNull(stats);
+		assertEquals("Cache misses after warm-up", 0L, stats.getBatchMisses()); //$NON-NLS-1$
+	}
+
+	/**
+	 * Invalidates the constraint cache and the dispatch plans, whatever tests ran
+	 * before, by registering and unregistering a constraint.
+	 */
+	private void invalidateConstraintCache() throws Exception {
+		ConstraintDescriptorTest.FixtureElement config = ConstraintDescriptorTest.newFixtureConfig();
+		config.putAttribute(XmlConfig.A_ID, "invalidate." + getName()); //$NON-NLS-1$
+
+		// the descriptor registers itself
+		ConstraintRegistry.getInstance().unregister(new XmlConstraintDescriptor(config));
+	}
+
 	public void test_validateLiveSingle() {
 		EObject object = OrderSystemFactory.eINSTANCE.createOrder();
 		new XMIResourceImpl().getContents().add(object); // must be in a resource
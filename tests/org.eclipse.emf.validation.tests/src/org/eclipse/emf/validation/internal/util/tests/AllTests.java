@@ -35,5 +35,6 @@ public final class AllTests extends TestSuite {
 		addTestSuite(TextUtilsTest.class);
 		addTestSuite(XmlExpressionSelectorTest.class);
 		addTestSuite(StringMatcherTest.class);
+		addTestSuite(TraversalUtilsTest.class);
 	}
 }
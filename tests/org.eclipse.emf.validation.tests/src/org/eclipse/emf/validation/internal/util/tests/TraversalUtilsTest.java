@@ -0,0 +1,59 @@
+/**
+ * Copyright (c) 2026 Eclipse contributors and others.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Eclipse contributors - Initial API and implementation
+ */
+package org.eclipse.emf.validation.internal.util.tests;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EPackage;
+import org.eclipse.emf.ecore.EcoreFactory;
+import org.eclipse.emf.validation.internal.util.TraversalUtils;
+
+import junit.framework.TestCase;
+
+/**
+ * JUnit tests for {@link TraversalUtils} class.
+ */
+public class TraversalUtilsTest extends TestCase {
+
+	public void test_makeTargetsDisjoint() {
+		EPackage root = EcoreFactory.eINSTANCE.createEPackage();
+		EPackage nested = EcoreFactory.eINSTANCE.createEPackage();
+		root.getESubpackages().add(nested);
+		EClass class1 = EcoreFactory.eINSTANCE.createEClass();
+		nested.getEClassifiers().add(class1);
+		EClass class2 = EcoreFactory.eINSTANCE.createEClass();
+		nested.getEClassifiers().add(class2);
+
+		EPackage other = EcoreFactory.eINSTANCE.createEPackage();
+		EClass class3 = EcoreFactory.eINSTANCE.createEClass();
+		other.getEClassifiers().add(class3);
+
+		// the descendants of a selected element are covered by it, whether
+		// they precede it in the selection or not
+		List<EObject> result = TraversalUtils
+				.makeTargetsDisjoint(Arrays.<EObject>asList(class1, class3, nested, class2, class3));
+
+		assertEquals(Arrays.<EObject>asList(class3, nested), result);
+
+		// walking up from class2 finds the container chain already known
+		result = TraversalUtils.makeTargetsDisjoint(Arrays.<EObject>asList(class1, class2, root));
+
+		assertEquals(Arrays.<EObject>asList(root), result);
+
+		result = TraversalUtils.makeTargetsDisjoint(Arrays.<EObject>asList(class1, class2, class3));
+
+		assertEquals(Arrays.<EObject>asList(class1, class2, class3), result);
+	}
+}
@@ -1,5 +1,5 @@
 /**
- * Copyright (c) 2003, 2006 IBM Corporation and others.
+ * Copyright (c) 2003, 2026 IBM Corporation and others.
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
  * which is available at https://www.eclipse.org/legal/epl-2.0/
@@ -11,10 +11,14 @@
  */
 package org.eclipse.emf.validation.internal.util.tests;
 
+import java.util.List;
+import java.util.Map;
+
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IConfigurationElement;
 import org.eclipse.core.runtime.IExtension;
 import org.eclipse.core.runtime.Platform;
+import org.eclipse.emf.validation.internal.util.ConstraintsSnapshot;
 import org.eclipse.emf.validation.util.XmlConfig;
 
 import junit.framework.TestCase;
@@ -95,4 +99,28 @@ public class XmlConfigTest extends TestCase {
 		assertTrue("Not enough child elements", children.length > 0); //$NON-NLS-1$
 		assertEquals(TEST_NAME, children[0].getAttribute(XmlConfig.A_NAME));
 	}
+
+	public void test_snapshot() throws Exception {
+		IConfigurationElement constraints = getFixture();
+
+		assertTrue("Snapshot not applicable", ConstraintsSnapshot.isApplicable(constraints)); //$NON-NLS-1$
+
+		Map<IConfigurationElement, List<String>> categoryPaths = new java.util.IdentityHashMap<>();
+		ConstraintsSnapshot.store(constraints, XmlConfig.parseConstraintsWithIncludes(constraints, categoryPaths),
+				categoryPaths);
+		IConfigurationElement loaded = ConstraintsSnapshot.load(constraints);
+
+		assertNotNull("Snapshot not loaded", loaded); //$NON-NLS-1$
+		assertEquals(constraints.getName(), loaded.getName());
+
+		// the snapshot has the constraint parsed from the included file
+		IConfigurationElement[] children = loaded.getChildren();
+
+		assertEquals(1, children.length);
+		assertEquals(TEST_ID, children[0].getAttribute(XmlConfig.A_ID));
+		assertEquals(TEST_NAME, children[0].getAttribute(XmlConfig.A_NAME));
+		assertEquals("true", children[0].getValue()); //$NON-NLS-1$
+		assertEquals(1, children[0].getChildren(XmlConfig.E_MESSAGE).length);
+		assertEquals("This is a message.", children[0].getChildren(XmlConfig.E_MESSAGE)[0].getValue()); //$NON-NLS-1$
+	}
 }
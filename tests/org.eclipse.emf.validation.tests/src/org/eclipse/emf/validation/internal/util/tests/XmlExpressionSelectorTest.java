@@ -1,5 +1,5 @@
 /**
- * Copyright (c) 2005, 2007 IBM Corporation and others.
+ * Copyright (c) 2005, 2026 IBM Corporation and others.
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
  * which is available at https://www.eclipse.org/legal/epl-2.0/
@@ -20,6 +20,7 @@ import org.eclipse.emf.validation.util.XmlConfig;
 import junit.framework.TestCase;
 import ordersystem.Order;
 import ordersystem.OrderSystemFactory;
+import ordersystem.Product;
 
 /**
  * Unit tests for the {@link XmlConfig} utility class.
@@ -53,6 +54,86 @@ public class XmlExpressionSelectorTest extends TestCase {
 		}
 	}
 
+	public void test_selects_eObject() throws CoreException {
+		XmlExpressionSelector sel = new XmlExpressionSelector(expression);
+
+		assertTrue(sel.selects(fact.createOrder()));
+		assertFalse(sel.selects(fact.createProduct()));
+	}
+
+	public void test_selects_compiled() throws CoreException {
+		String property = getClass().getName() + ".selects"; //$NON-NLS-1$
+
+		// orders, and products if the system property is set
+		expression = new ConstraintDescriptorTest.FixtureElement("enablement"); //$NON-NLS-1$
+		expression.addChild(new ConstraintDescriptorTest.FixtureElement("or") //$NON-NLS-1$
+				.addChild(ConstraintDescriptorTest.FixtureElement.build("instanceof", //$NON-NLS-1$
+						new String[][] { { "value", Order.class.getName() } })) //$NON-NLS-1$
+				.addChild(new ConstraintDescriptorTest.FixtureElement("and") //$NON-NLS-1$
+						.addChild(ConstraintDescriptorTest.FixtureElement.build("systemTest", //$NON-NLS-1$
+								new String[][] { { "property", property }, //$NON-NLS-1$
+										{ "value", "true" } })) //$NON-NLS-1$ //$NON-NLS-2$
+						.addChild(new ConstraintDescriptorTest.FixtureElement("not") //$NON-NLS-1$
+								.addChild(ConstraintDescriptorTest.FixtureElement.build("instanceof", //$NON-NLS-1$
+										new String[][] { { "value", Order.class.getName() } }))))); //$NON-NLS-1$
+
+		XmlExpressionSelector sel = new XmlExpressionSelector(expression);
+		Product product = fact.createProduct();
+
+		assertTrue(sel.selects(fact.createOrder()));
+		assertFalse(sel.selects(product));
+
+		System.setProperty(property, "true"); //$NON-NLS-1$
+		try {
+			assertTrue(sel.selects(product));
+			assertTrue(sel.selects(new EvaluationContext(null, product)));
+		} finally {
+			System.clearProperty(property);
+		}
+	}
+
+	public void test_selects_emptyComposite() throws CoreException {
+		// as in the Expressions language, an empty composite is true
+		for (String composite : new String[] { "or", "and" }) { //$NON-NLS-1$ //$NON-NLS-2$
+			expression = new ConstraintDescriptorTest.FixtureElement("enablement"); //$NON-NLS-1$
+			expression.addChild(new ConstraintDescriptorTest.FixtureElement(composite));
+
+			XmlExpressionSelector sel = new XmlExpressionSelector(expression);
+
+			assertTrue(composite, sel.selects(fact.createOrder()));
+			assertTrue(composite, sel.selects(new EvaluationContext(null, fact.createProduct())));
+		}
+	}
+
+	public void test_selects_interpreted() throws CoreException {
+		// a property test is interpreted
+		expression.addChild(ConstraintDescriptorTest.FixtureElement.build("test", //$NON-NLS-1$
+				new String[][] { { "property", //$NON-NLS-1$
+						"org.eclipse.emf.validation.tests.runningTests" } })); //$NON-NLS-1$
+
+		XmlExpressionSelector sel = new XmlExpressionSelector(expression);
+
+		assertTrue(sel.selects(fact.createOrder()));
+		assertFalse(sel.selects(fact.createProduct()));
+	}
+
+	public void test_selects_contextVariables() throws CoreException {
+		// an evaluation context provides its variables to the expression
+		expression.addChild(ConstraintDescriptorTest.FixtureElement.build("with", //$NON-NLS-1$
+				new String[][] { { "variable", "validating" } }) //$NON-NLS-1$ //$NON-NLS-2$
+				.addChild(ConstraintDescriptorTest.FixtureElement.build("equals", //$NON-NLS-1$
+						new String[][] { { "value", "true" } }))); //$NON-NLS-1$ //$NON-NLS-2$
+
+		XmlExpressionSelector sel = new XmlExpressionSelector(expression);
+		EvaluationContext ctx = new EvaluationContext(null, fact.createOrder());
+
+		ctx.addVariable("validating", Boolean.TRUE); //$NON-NLS-1$
+		assertTrue(sel.selects(ctx));
+
+		ctx.addVariable("validating", Boolean.FALSE); //$NON-NLS-1$
+		assertFalse(sel.selects(ctx));
+	}
+
 	public void test_init() {
 		try {
 			expression.addChild(new ConstraintDescriptorTest.FixtureElement("foo")); //$NON-NLS-1$